@@ -74,7 +74,7 @@ public class AnimalManager {
 		TextArtUtil.printRegisterMenuTitle();
 		UIUtil.printSeparator('━');
 
-		id = DatabaseIdGenerator.generateId();
+		id = DatabaseIdGenerator.generateId(DatabaseIdGenerator.IdType.ANIMAL);
 		name = inputAnimalName("동물의 이름을 입력하세요.");
 		species = inputAnimalSpecies("동물의 종을 입력하세요.");
 		age = MenuUtil.Question.askNumberInputInt("동물의 나이를 입력하세요.");
@@ -485,23 +485,14 @@ public class AnimalManager {
 
 	/**
 	 * 특정 동물을 배치 가능한 상태에서 제거합니다. 동물의 enclosureId를 설정하여 배치된 상태로 변경합니다.
-	 * 
+	 * 배치 여부 확인과 변경은 Repository에서 한 번에 처리되므로 동시에 같은 동물을 배치해도 한쪽만 성공합니다.
+	 *
 	 * @param animalId    배치할 동물 ID
 	 * @param enclosureId 배치할 사육장 ID
-	 * @return 배치된 동물 객체 (없으면 null)
+	 * @return 배치된 동물 객체 (동물이 없거나 이미 배치된 경우 null)
 	 */
 	public Animal removeAvailableAnimal(String animalId, String enclosureId) {
-		Animal animal = repository.getAnimalById(animalId);
-		if (animal != null) {
-			// 배치 가능한 동물인지 확인
-			String currentEnclosureId = animal.getEnclosureId();
-			if (currentEnclosureId == null || currentEnclosureId.trim().isEmpty()) {
-				animal.setEnclosureId(enclosureId);
-				repository.updateAnimal(animalId, animal);
-				return animal;
-			}
-		}
-		return null; // 동물이 없거나 이미 배치된 경우
+		return repository.removeAvailableAnimal(animalId, enclosureId);
 	}
 
 	/**
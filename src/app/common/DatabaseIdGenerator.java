@@ -1,13 +1,25 @@
 package app.common;
 
 import java.sql.*;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
 
+import app.common.database.PooledDataSource;
 import app.common.exception.IdGenerationException;
+import app.common.metrics.JmxExporter;
+import app.common.metrics.LatencyHistogram;
+import app.config.DatabaseConfigLoader;
 import app.config.DatabaseConnection;
 
 /**
  * 데이터베이스 기반 ID 생성 유틸리티 클래스입니다.
- * 호출자 클래스를 자동 감지하여 적절한 접두사로 고유한 ID를 생성합니다.
+ * 요청한 ID 타입의 접두사로 고유한 ID를 생성합니다.
  * 
  * <p><strong>필요한 데이터베이스 테이블:</strong>
  * <pre>{@code
@@ -17,19 +29,25 @@ import app.config.DatabaseConnection;
  * );
  * }</pre>
  * 
- * <p>지원되는 Manager 클래스:
+ * <p>ID 타입별 형식:
  * <ul>
- *   <li>EnclosureManager: E-0001, E-0002, E-0003, ...</li>
- *   <li>AnimalManager: A-0001, A-0002, A-0003, ...</li>
- *   <li>ZooKeeperManager: K-0001, K-0002, K-0003, ...</li>
- *   <li>FinanceManager: F-0001, F-0002, F-0003, ...</li>
- *   <li>VisitorManager: V-0001, V-0002, V-0003, ...</li>
+ *   <li>ENCLOSURE: E-0001, E-0002, E-0003, ...</li>
+ *   <li>ANIMAL: A-0001, A-0002, A-0003, ...</li>
+ *   <li>ZOOKEEPER: K-0001, K-0002, K-0003, ...</li>
+ *   <li>FINANCE: F-0001, F-0002, F-0003, ...</li>
+ *   <li>VISITOR: V-0001, V-0002, V-0003, ...</li>
  * </ul>
  * 
+ * <p>번호는 타입별로 db.id.blockSize개씩 한 번에 예약(Hi/Lo 방식)하고 프로세스 안에서 나누어 줍니다.
+ * 블록 크기가 1보다 크면 데이터베이스 왕복과 채번 행 잠금이 블록당 한 번으로 줄어드는 대신,
+ * 종료 시 다 쓰지 못한 번호는 건너뛰게 되며 여러 프로세스가 함께 채번하면 ID가 생성 순서와 다를 수 있습니다.
+ * 블록을 다 쓰기 전에 백그라운드 스레드가 다음 블록을 미리 예약하므로(db.id.prefetch) 호출 스레드는
+ * 대부분 데이터베이스를 기다리지 않습니다.
+ * db.id.strategy=timeOrdered이면 테이블 대신 {@link TimeOrderedIdGenerator}로 생성합니다.
+ * 
  * <p>사용법:
  * <pre>{@code
- * // EnclosureManager.java에서 호출
- * String id = DatabaseIdGenerator.generateId(); // "E-0001" 반환
+ * String id = DatabaseIdGenerator.generateId(IdType.ENCLOSURE); // "E-0001" 반환
  * }</pre>
  */
 public final class DatabaseIdGenerator {
@@ -65,50 +83,106 @@ public final class DatabaseIdGenerator {
         }
     }
 
+    private static final SimpleLogger logger = SimpleLogger.getLogger(DatabaseIdGenerator.class);
+
     private DatabaseIdGenerator() {
         // 유틸리티 클래스이므로 인스턴스 생성 방지
     }
 
+    // ==================== 핵심 ID 생성 메서드 ====================
+
+    /**
+     * 지정된 타입의 고유한 ID를 데이터베이스 기반으로 안전하게 생성합니다.
+     *
+     * @param idType ID 타입
+     * @return 생성된 고유 ID (예: "E-0001")
+     * @throws IdGenerationException 데이터베이스 오류 발생 시
+     */
+    public static String generateId(IdType idType) throws IdGenerationException {
+        return generateIdWithType(idType);
+    }
+
+    /**
+     * 호출자를 자동 감지하여 적절한 ID를 생성합니다.
+     * 
+     * <p>호출 스택에서 Manager 클래스를 찾아 ID 타입을 결정합니다. Manager가 아닌 클래스
+     * (컨트롤러, 일괄 등록 도구 등)에서 호출하면 실패하고 호출마다 스택을 탐색하므로,
+     * {@link #generateId(IdType)}를 사용하세요.
+     *
+     * @return 생성된 고유 ID (예: "E-0001")
+     * @throws IdGenerationException 지원되지 않는 클래스에서 호출된 경우 또는 데이터베이스 오류 발생 시
+     * @deprecated {@link #generateId(IdType)}로 ID 타입을 명시하세요.
+     */
+    @Deprecated
+    public static String generateId() throws IdGenerationException {
+        // 1. 호출자 클래스를 자동으로 감지하여 ID 타입 결정
+        IdType idType = determineIdType();
+        
+        // 2. 데이터베이스 기반으로 안전한 ID 생성
+        return generateIdWithType(idType);
+    }
+
     // ==================== 호출자 자동 감지 메서드 ====================
 
+    private static final StackWalker STACK_WALKER =
+            StackWalker.getInstance(StackWalker.Option.RETAIN_CLASS_REFERENCE);
+
+    /** 클래스별 ID 타입 (Manager 클래스가 아니면 비어 있음), 클래스마다 한 번만 계산 */
+    private static final ClassValue<Optional<IdType>> CALLER_ID_TYPES = new ClassValue<>() {
+        @Override
+        protected Optional<IdType> computeValue(Class<?> type) {
+            return Optional.ofNullable(idTypeOf(getSimpleClassName(type.getName())));
+        }
+    };
+
     /**
-     * 스택 트레이스를 분석하여 호출자 클래스를 기반으로 ID 타입을 자동 결정합니다.
+     * 호출 스택에서 가장 가까운 Manager 클래스를 찾아 ID 타입을 결정합니다.
+     * 스택은 Manager 프레임을 찾을 때까지만 탐색하고, 클래스별 판정 결과는 캐시합니다.
      * 
      * @return 결정된 ID 타입
      * @throws IdGenerationException 지원되지 않는 클래스에서 호출된 경우
      */
     private static IdType determineIdType() throws IdGenerationException {
-        StackTraceElement[] stackTrace = Thread.currentThread().getStackTrace();
-
-        for (StackTraceElement element : stackTrace) {
-            String fullClassName = element.getClassName();
-            
-            // 패키지 경로를 제거하고 클래스명만 추출
-            String simpleClassName = getSimpleClassName(fullClassName);
-            
-            // 정확한 클래스명 매칭
-            if ("EnclosureManager".equals(simpleClassName)) {
-                return IdType.ENCLOSURE;
-            } else if ("AnimalManager".equals(simpleClassName)) {
-                return IdType.ANIMAL;
-            } else if ("ZooKeeperManager".equals(simpleClassName)) {
-                return IdType.ZOOKEEPER;
-            } else if ("FinanceManager".equals(simpleClassName)) {
-                return IdType.FINANCE;
-            } else if ("VisitorManager".equals(simpleClassName)) {
-                return IdType.VISITOR;
-            }
+        Optional<IdType> idType = STACK_WALKER.walk(frames -> frames
+                .map(frame -> CALLER_ID_TYPES.get(frame.getDeclaringClass()))
+                .flatMap(Optional::stream)
+                .findFirst());
+        if (idType.isPresent()) {
+            return idType.get();
         }
 
         // 지원되지 않는 클래스에서 호출된 경우
-        String callerInfo = getCallerDebugInfo(stackTrace);
         throw new IdGenerationException(
             "ID 생성 요청이 지원되지 않는 클래스에서 호출되었습니다. " +
             "지원 클래스: EnclosureManager, AnimalManager, ZooKeeperManager, FinanceManager, VisitorManager. " +
-            "호출 위치: " + callerInfo
+            "generateId(IdType)를 사용하세요. 호출 위치: " + getCallerDebugInfo()
         );
     }
 
+    /**
+     * 단순 클래스명에 해당하는 ID 타입을 반환합니다.
+     * 
+     * @param simpleClassName 패키지를 제외한 클래스명
+     * @return ID 타입, Manager 클래스가 아니면 null
+     */
+    private static IdType idTypeOf(String simpleClassName) {
+        // 정확한 클래스명 매칭
+        switch (simpleClassName) {
+            case "EnclosureManager":
+                return IdType.ENCLOSURE;
+            case "AnimalManager":
+                return IdType.ANIMAL;
+            case "ZooKeeperManager":
+                return IdType.ZOOKEEPER;
+            case "FinanceManager":
+                return IdType.FINANCE;
+            case "VisitorManager":
+                return IdType.VISITOR;
+            default:
+                return null;
+        }
+    }
+
     /**
      * 패키지 경로를 제거하고 단순 클래스명만 반환합니다.
      */
@@ -120,128 +194,340 @@ public final class DatabaseIdGenerator {
     /**
      * 디버깅을 위한 호출자 정보를 생성합니다.
      */
-    private static String getCallerDebugInfo(StackTraceElement[] stackTrace) {
-        if (stackTrace.length > 3) {
-            StackTraceElement caller = stackTrace[3]; // generateId() 호출자
-            return String.format("%s.%s():%d", 
-                getSimpleClassName(caller.getClassName()), 
-                caller.getMethodName(), 
-                caller.getLineNumber());
+    private static String getCallerDebugInfo() {
+        return STACK_WALKER.walk(frames -> frames
+                .filter(frame -> frame.getDeclaringClass() != DatabaseIdGenerator.class)
+                .findFirst()
+                .map(caller -> String.format("%s.%s():%d",
+                        getSimpleClassName(caller.getClassName()),
+                        caller.getMethodName(),
+                        caller.getLineNumber()))
+                .orElse("알 수 없는 호출자"));
+    }
+
+    /**
+     * 지정된 타입의 고유한 ID를 생성합니다.
+     * 타입별로 예약해 둔 번호 블록에서 번호를 꺼내며, 블록을 다 쓰면 데이터베이스에서 다음 블록을 예약합니다.
+     * 
+     * @param idType ID 타입
+     * @return 생성된 고유 ID (예: "A-0001")
+     * @throws IdGenerationException 데이터베이스 오류 발생 시
+     */
+    private static String generateIdWithType(IdType idType) throws IdGenerationException {
+        if (Allocators.TIME_ORDERED) {
+            return TimeOrderedIdGenerator.generateId(idType);
         }
-        return "알 수 없는 호출자";
+        long number = Allocators.ALLOCATORS.get(idType).next();
+        return formatId(idType.getPrefix(), (int) number);
     }
 
-    // ==================== 핵심 ID 생성 메서드 ====================
+    // ==================== 번호 블록 할당 ====================
 
     /**
-     * 호출자를 자동 감지하여 적절한 ID를 생성합니다.
-     * 
-     * <p>스택 트레이스를 분석하여 호출한 Manager 클래스를 확인하고, 
-     * 해당 타입에 맞는 ID를 데이터베이스 기반으로 안전하게 생성합니다.
-     *
-     * @return 생성된 고유 ID (예: "E-0001")
-     * @throws IdGenerationException 지원되지 않는 클래스에서 호출된 경우 또는 데이터베이스 오류 발생 시
+     * 데이터베이스에서 예약한 연속 번호 구간입니다. 구간 안의 번호는 잠금 없이 꺼냅니다.
      */
-    public static String generateId() throws IdGenerationException {
-        // 1. 호출자 클래스를 자동으로 감지하여 ID 타입 결정
-        IdType idType = determineIdType();
-        String prefix = idType.getPrefix();
-        
-        // 2. 데이터베이스 기반으로 안전한 ID 생성
-        return generateIdWithPrefix(prefix);
+    private static final class IdBlock {
+        /** 아직 예약하지 않은 상태 (첫 호출에서 바로 소진됨) */
+        private static final IdBlock EMPTY = new IdBlock(1, 0);
+
+        private final AtomicLong next;
+        private final long last;
+
+        private IdBlock(long first, long last) {
+            this.next = new AtomicLong(first);
+            this.last = last;
+        }
+
+        private long remaining() {
+            return Math.max(0L, last - next.get() + 1);
+        }
     }
 
     /**
-     * 지정된 접두사로 고유한 ID를 데이터베이스 기반으로 생성합니다.
+     * ID 타입 하나의 번호 블록을 관리합니다.
      * 
-     * @param prefix ID 접두사
-     * @return 생성된 고유 ID (예: "A-0001")
-     * @throws IdGenerationException 데이터베이스 오류 발생 시
+     * <p>번호는 현재 블록의 원자적 카운터에서 꺼내므로 블록 안에서는 데이터베이스에 접근하지 않습니다.
+     * 미리 가져오기가 켜져 있으면 남은 번호가 저수위(low-water mark)에 닿는 순간 백그라운드 스레드가
+     * 다음 블록을 예약해 두고, 블록을 다 쓴 스레드는 그 블록으로 바꾸기만 합니다.
+     * 미리 가져온 블록이 없으면 블록을 다 쓴 스레드 하나가 직접 예약(또는 진행 중인 예약을 대기)하고
+     * 나머지는 끝날 때까지 기다립니다.</p>
      */
-    private static String generateIdWithPrefix(String prefix) throws IdGenerationException {
-        try (Connection connection = DatabaseConnection.getConnection()) {
-            connection.setAutoCommit(false);
+    private static final class IdBlockAllocator {
+        private final IdType idType;
+        private final int blockSize;
+        private final long lowWaterMark;          // 남은 번호가 이 값이 되면 미리 가져오기 (-1이면 사용 안 함)
+        private volatile IdBlock current = IdBlock.EMPTY;
 
-            try {
-                // 현재 번호 조회 및 행 잠금 (동시성 보장)
-                String selectSql = "SELECT last_number FROM id_generator WHERE prefix = ? FOR UPDATE";
-                
-                int lastNumber;
-                try (PreparedStatement selectStmt = connection.prepareStatement(selectSql)) {
-                    selectStmt.setString(1, prefix);
-                    
-                    try (ResultSet rs = selectStmt.executeQuery()) {
-                        if (rs.next()) {
-                            lastNumber = rs.getInt("last_number");
-                        } else {
-                            // 접두사가 없으면 새로 생성 (초기값 0)
-                            lastNumber = 0;
-                            insertNewPrefix(connection, prefix, lastNumber);
-                        }
+        // 미리 가져온 블록과 진행 상태, this로 보호
+        private IdBlock prefetched;
+        private boolean refilling;
+
+        private IdBlockAllocator(IdType idType, int blockSize, long lowWaterMark) {
+            this.idType = idType;
+            this.blockSize = blockSize;
+            this.lowWaterMark = lowWaterMark;
+        }
+
+        private long next() throws IdGenerationException {
+            while (true) {
+                IdBlock block = current;
+                long number = block.next.getAndIncrement();
+                if (number <= block.last) {
+                    // 저수위 번호를 꺼낸 스레드 하나만 미리 가져오기를 요청
+                    if (block.last - number == lowWaterMark) {
+                        requestPrefetch();
                     }
+                    return number;
                 }
+                synchronized (this) {
+                    // 기다리는 동안 다른 스레드가 이미 새 블록으로 바꿨으면 그 블록을 사용
+                    if (current == block) {
+                        current = takeNextBlock();
+                    }
+                }
+            }
+        }
 
-                // 번호 증가 및 업데이트
-                int newNumber = lastNumber + 1;
-                updateLastNumber(connection, prefix, newNumber);
+        /**
+         * 현재 블록을 대신할 블록을 가져옵니다. this를 잠근 상태에서 호출합니다.
+         */
+        private IdBlock takeNextBlock() throws IdGenerationException {
+            if (prefetched == null && refilling) {
+                STATS.callerWaits.increment();
+                while (prefetched == null && refilling) {
+                    try {
+                        wait();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        throw new IdGenerationException("ID 번호 블록 대기 중 인터럽트 발생 (접두사: " + idType.getPrefix() + ")", e);
+                    }
+                }
+            }
+            if (prefetched != null) {
+                IdBlock next = prefetched;
+                prefetched = null;
+                return next;
+            }
+            STATS.callerRefills.increment();
+            return reserveTimed(idType.getPrefix(), blockSize);
+        }
 
-                // 트랜잭션 커밋
-                connection.commit();
-                
-                // 포맷된 ID 반환
-                return formatId(prefix, newNumber);
+        private synchronized void requestPrefetch() {
+            if (refilling || prefetched != null) {
+                return;
+            }
+            refilling = true;
+            try {
+                Allocators.PREFETCHER.execute(this::prefetch);
+            } catch (RuntimeException e) {
+                refilling = false;
+                logger.error("ID 번호 블록 미리 가져오기 요청 실패 (접두사: " + idType.getPrefix() + ")", e);
+            }
+        }
 
-            } catch (SQLException e) {
-                // 오류 발생 시 롤백
-                connection.rollback();
-                throw new IdGenerationException("ID 생성 중 데이터베이스 오류 발생 (접두사: " + prefix + ")", e);
+        private void prefetch() {
+            IdBlock block = null;
+            try {
+                block = reserveTimed(idType.getPrefix(), blockSize);
+                STATS.prefetches.increment();
+            } catch (RuntimeException e) {
+                // 다음 블록이 필요해지면 호출 스레드가 직접 예약하며 그때 오류가 전달됨
+                STATS.prefetchFailures.increment();
+                logger.error("ID 번호 블록 미리 가져오기 실패 (접두사: " + idType.getPrefix() + ")", e);
             } finally {
-                connection.setAutoCommit(true);
+                synchronized (this) {
+                    prefetched = block;
+                    refilling = false;
+                    notifyAll();
+                }
             }
+        }
 
-        } catch (SQLException e) {
-            throw new IdGenerationException("데이터베이스 연결 실패", e);
+        /**
+         * 현재 블록과 미리 가져온 블록에 남은 번호 수입니다.
+         */
+        private long bufferDepth() {
+            long depth = current.remaining();
+            synchronized (this) {
+                if (prefetched != null) {
+                    depth += prefetched.remaining();
+                }
+            }
+            return depth;
         }
     }
 
-    // ==================== 내부 헬퍼 메서드들 ====================
-
     /**
-     * 새로운 접두사를 id_generator 테이블에 삽입합니다.
+     * 타입별 할당기와 ID 생성 방식입니다. 첫 ID 생성 시 설정을 읽어 초기화합니다.
      */
-    private static void insertNewPrefix(Connection connection, String prefix, int initialNumber) 
-            throws SQLException {
-        String insertSql = "INSERT INTO id_generator (prefix, last_number) VALUES (?, ?)";
-        
-        try (PreparedStatement insertStmt = connection.prepareStatement(insertSql)) {
-            insertStmt.setString(1, prefix);
-            insertStmt.setInt(2, initialNumber);
-            
-            int affected = insertStmt.executeUpdate();
-            if (affected != 1) {
-                throw new SQLException("새로운 접두사 삽입 실패: " + prefix);
+    private static final class Allocators {
+        private static final boolean TIME_ORDERED =
+                "timeOrdered".equalsIgnoreCase(DatabaseConnection.getConfigLoader().getIdStrategy());
+        private static final Map<IdType, IdBlockAllocator> ALLOCATORS = createAllocators();
+
+        /** 미리 가져오기를 실행하는 데몬 스레드 (예약은 짧은 UPDATE 하나이므로 한 스레드로 충분) */
+        private static final ExecutorService PREFETCHER = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "manazoo-id-prefetch");
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        private static Map<IdType, IdBlockAllocator> createAllocators() {
+            DatabaseConfigLoader config = DatabaseConnection.getConfigLoader();
+            boolean prefetch = config.isIdPrefetchEnabled();
+            int lowWaterPercent = Math.min(100, Math.max(0, config.getIdPrefetchLowWater()));
+
+            Map<IdType, IdBlockAllocator> allocators = new EnumMap<>(IdType.class);
+            for (IdType idType : IdType.values()) {
+                int blockSize = Math.max(1, config.getIdBlockSize(idType.name().toLowerCase()));
+                // 블록 크기가 1이면 미리 가져온 번호가 종료 시 버려져 번호가 비므로 사용하지 않음
+                long lowWaterMark = prefetch && blockSize > 1
+                        ? Math.min(blockSize - 1, (long) blockSize * lowWaterPercent / 100)
+                        : -1L;
+                allocators.put(idType, new IdBlockAllocator(idType, blockSize, lowWaterMark));
             }
+            JmxExporter.register("IdGenerator", STATS);
+            return allocators;
         }
     }
 
+    // ==================== 지표 ====================
+
+    private static final Stats STATS = new Stats();
+
     /**
-     * 지정된 접두사의 마지막 번호를 업데이트합니다.
+     * 번호 블록 예약 지표입니다. "app.manazoo:type=IdGenerator" 이름으로 JMX에 등록됩니다.
      */
-    private static void updateLastNumber(Connection connection, String prefix, int newNumber) 
-            throws SQLException {
-        String updateSql = "UPDATE id_generator SET last_number = ? WHERE prefix = ?";
-        
-        try (PreparedStatement updateStmt = connection.prepareStatement(updateSql)) {
-            updateStmt.setInt(1, newNumber);
-            updateStmt.setString(2, prefix);
-            
-            int affected = updateStmt.executeUpdate();
-            if (affected != 1) {
-                throw new SQLException("번호 업데이트 실패: " + prefix);
+    private static final class Stats implements DatabaseIdGeneratorMXBean {
+        private final LatencyHistogram refillLatency = new LatencyHistogram();
+        private final LongAdder prefetches = new LongAdder();
+        private final LongAdder prefetchFailures = new LongAdder();
+        private final LongAdder callerRefills = new LongAdder();
+        private final LongAdder callerWaits = new LongAdder();
+
+        @Override
+        public Map<String, Long> getBufferDepth() {
+            Map<String, Long> depths = new TreeMap<>();
+            Allocators.ALLOCATORS.forEach((idType, allocator) -> depths.put(idType.name(), allocator.bufferDepth()));
+            return depths;
+        }
+
+        @Override
+        public long getPrefetchCount() {
+            return prefetches.sum();
+        }
+
+        @Override
+        public long getPrefetchFailureCount() {
+            return prefetchFailures.sum();
+        }
+
+        @Override
+        public long getCallerRefillCount() {
+            return callerRefills.sum();
+        }
+
+        @Override
+        public long getCallerWaitCount() {
+            return callerWaits.sum();
+        }
+
+        @Override
+        public double getRefillMeanMillis() {
+            return refillLatency.meanMillis();
+        }
+
+        @Override
+        public double getRefillP99Millis() {
+            return refillLatency.getCount() == 0 ? 0.0 : refillLatency.percentileMillis(99.0);
+        }
+
+        @Override
+        public double getRefillMaxMillis() {
+            return refillLatency.maxMillis();
+        }
+    }
+
+    /**
+     * ID 번호 블록 지표를 콘솔 출력용 텍스트로 만듭니다.
+     * 
+     * @return 지표 텍스트
+     */
+    public static String formatStats() {
+        if (Allocators.TIME_ORDERED) {
+            return "ID 생성: 시간순 (노드 " + TimeOrderedIdGenerator.getNodeId() + ")";
+        }
+        return String.format("ID 블록 예약: 미리 가져오기 %d회 (실패 %d) / 호출 스레드 예약 %d회 / 대기 %d회,"
+                + " 예약 시간 평균 %.1fms, p99 %.1fms, 최대 %.1fms, 남은 번호 %s",
+                STATS.getPrefetchCount(), STATS.getPrefetchFailureCount(), STATS.getCallerRefillCount(),
+                STATS.getCallerWaitCount(), STATS.getRefillMeanMillis(), STATS.getRefillP99Millis(),
+                STATS.getRefillMaxMillis(), STATS.getBufferDepth());
+    }
+
+    private static IdBlock reserveTimed(String prefix, int blockSize) throws IdGenerationException {
+        long start = System.nanoTime();
+        try {
+            return reserveBlock(prefix, blockSize);
+        } finally {
+            STATS.refillLatency.record(System.nanoTime() - start);
+        }
+    }
+
+    /**
+     * 데이터베이스에서 다음 번호 블록을 예약합니다.
+     * 
+     * <p>last_number를 블록 크기만큼 증가시키는 UPDATE 한 문장으로 예약하므로 행 잠금은 그 문장이
+     * 실행되는 동안만 유지됩니다. 증가된 값은 LAST_INSERT_ID(expr)로 세션에 남겨 두었다가 읽습니다.
+     * 접두사 행이 없으면 블록 크기를 초기값으로 삽입하며, 동시에 삽입된 경우 증가로 처리합니다.</p>
+     * 
+     * @param prefix ID 접두사
+     * @param blockSize 예약할 번호 수
+     * @return 예약된 번호 블록
+     * @throws IdGenerationException 데이터베이스 오류 발생 시
+     */
+    private static IdBlock reserveBlock(String prefix, int blockSize) throws IdGenerationException {
+        // 채번 행 잠금이 바깥 트랜잭션 종료까지 유지되지 않도록 별도 연결에서 자동 커밋으로 실행
+        try (Connection connection = PooledDataSource.getInstance().getDetachedConnection()) {
+            String updateSql = "UPDATE id_generator SET last_number = LAST_INSERT_ID(last_number + ?) WHERE prefix = ?";
+            int affected;
+            try (PreparedStatement updateStmt = connection.prepareStatement(updateSql)) {
+                updateStmt.setInt(1, blockSize);
+                updateStmt.setString(2, prefix);
+                affected = updateStmt.executeUpdate();
+            }
+
+            if (affected == 0) {
+                // 접두사가 없으면 새로 생성 (초기값 0에서 블록 크기만큼 예약)
+                String insertSql = "INSERT INTO id_generator (prefix, last_number) VALUES (?, LAST_INSERT_ID(?)) "
+                        + "ON DUPLICATE KEY UPDATE last_number = LAST_INSERT_ID(last_number + ?)";
+                try (PreparedStatement insertStmt = connection.prepareStatement(insertSql)) {
+                    insertStmt.setString(1, prefix);
+                    insertStmt.setInt(2, blockSize);
+                    insertStmt.setInt(3, blockSize);
+                    insertStmt.executeUpdate();
+                }
             }
+
+            long lastNumber;
+            try (PreparedStatement selectStmt = connection.prepareStatement("SELECT LAST_INSERT_ID()");
+                    ResultSet rs = selectStmt.executeQuery()) {
+                if (!rs.next()) {
+                    throw new SQLException("예약한 번호 조회 실패: " + prefix);
+                }
+                lastNumber = rs.getLong(1);
+            }
+
+            long firstNumber = lastNumber - blockSize + 1;
+            logger.debug("ID 번호 블록 예약: %s %d ~ %d", prefix, firstNumber, lastNumber);
+            return new IdBlock(firstNumber, lastNumber);
+
+        } catch (SQLException e) {
+            throw new IdGenerationException("ID 생성 중 데이터베이스 오류 발생 (접두사: " + prefix + ")", e);
         }
     }
 
+    // ==================== 내부 헬퍼 메서드들 ====================
+
     /**
      * 접두사와 번호를 결합하여 포맷된 ID를 생성합니다.
      * 
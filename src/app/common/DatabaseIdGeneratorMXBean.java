@@ -0,0 +1,37 @@
+package app.common;
+
+import java.util.Map;
+
+/**
+ * {@link DatabaseIdGenerator}의 번호 블록 예약 지표를 JMX로 노출하기 위한 MXBean 인터페이스입니다.
+ * "app.manazoo:type=IdGenerator" 이름으로 등록됩니다.
+ * 
+ * @author MANAZOO Team
+ * @since 2.0
+ */
+public interface DatabaseIdGeneratorMXBean {
+
+    /** @return ID 타입별로 데이터베이스 접근 없이 발급할 수 있는 남은 번호 수 */
+    Map<String, Long> getBufferDepth();
+
+    /** @return 백그라운드에서 미리 예약한 블록 수 */
+    long getPrefetchCount();
+
+    /** @return 미리 예약에 실패한 횟수 */
+    long getPrefetchFailureCount();
+
+    /** @return 미리 예약한 블록이 없어 호출 스레드가 직접 예약한 횟수 */
+    long getCallerRefillCount();
+
+    /** @return 호출 스레드가 진행 중인 미리 예약을 기다린 횟수 */
+    long getCallerWaitCount();
+
+    /** @return 블록 예약 평균 시간 (ms) */
+    double getRefillMeanMillis();
+
+    /** @return 블록 예약 시간 p99 (ms) */
+    double getRefillP99Millis();
+
+    /** @return 블록 예약 최대 시간 (ms) */
+    double getRefillMaxMillis();
+}
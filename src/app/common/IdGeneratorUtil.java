@@ -1,24 +1,26 @@
 package app.common;
 
-import java.util.HashSet;
-import java.util.Set;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * ID 생성을 담당하는 유틸리티 클래스입니다.
- * 호출자 클래스를 자동 감지하여 적절한 접두사로 고유한 ID를 생성합니다.
+ * 요청한 ID 타입의 접두사로 고유한 ID를 생성합니다.
  * 
- * <p>지원되는 Manager 클래스:
+ * <p>ID 타입별 형식:
  * <ul>
- *   <li>EnclosureManager: E-0001, E-0002, E-0003, ...</li>
- *   <li>AnimalManager: A-0001, A-0002, A-0003, ...</li>
- *   <li>ZooKeeperManager: K-0001, K-0002, K-0003, ...</li>
- *   <li>FinanceManager: F-0001, F-0002, F-0003, ...</li>
+ *   <li>ENCLOSURE: E-0001, E-0002, E-0003, ...</li>
+ *   <li>ANIMAL: A-0001, A-0002, A-0003, ...</li>
+ *   <li>ZOOKEEPER: K-0001, K-0002, K-0003, ...</li>
+ *   <li>FINANCE: F-0001, F-0002, F-0003, ...</li>
+ *   <li>VISITOR: V-0001, V-0002, V-0003, ...</li>
  * </ul>
  * 
  * <p>사용법:
  * <pre>{@code
- * // EnclosureManager.java에서 호출
- * String id = IdGeneratorUtil.generateId(); // "E-0001" 반환
+ * String id = IdGeneratorUtil.generateId(IdType.ENCLOSURE); // "E-0001" 반환
  * }</pre>
  */
 public final class IdGeneratorUtil {
@@ -56,114 +58,119 @@ public final class IdGeneratorUtil {
 
 	// ==================== 내부 데이터 저장소 ====================
 
-	/** 사육장 ID 저장소 - 생성된 모든 사육장 ID를 추적 */
-	private static final Set<String> usedEnclosureIds = new HashSet<>();
-	/** 동물 ID 저장소 - 생성된 모든 동물 ID를 추적 */
-	private static final Set<String> usedAnimalIds = new HashSet<>();
-	/** 사육사 ID 저장소 - 생성된 모든 사육사 ID를 추적 */
-	private static final Set<String> usedZooKeeperIds = new HashSet<>();
-	/** 재정 ID 저장소 - 생성된 모든 재정 ID를 추적 */
-	private static final Set<String> usedFinanceIds = new HashSet<>();
-	/** 방문객 ID 저장소 - 생성된 모든 방문객 ID를 추적 */
-	private static final Set<String> usedVisitorIds = new HashSet<>();
-
-	/** 사육장 ID 카운터 - 다음에 생성될 사육장 ID 번호 */
-	private static int enclosureCounter = 1;
-	/** 동물 ID 카운터 - 다음에 생성될 동물 ID 번호 */
-	private static int animalCounter = 1;
-	/** 사육사 ID 카운터 - 다음에 생성될 사육사 ID 번호 */
-	private static int zooKeeperCounter = 1;
-	/** 재정 ID 카운터 - 다음에 생성될 재정 ID 번호 */
-	private static int financeCounter = 1;
-	/** 방문객 ID 카운터 - 다음에 생성될 방문객 ID 번호 */
-	private static int visitorCounter = 1;
+	/**
+	 * 타입별 다음에 생성될 ID 번호입니다.
+	 * 번호는 1부터 빈틈없이 하나씩 발급하므로 발급한 ID를 따로 보관하지 않아도
+	 * 1 ~ (카운터 - 1) 범위로 사용 여부와 개수를 알 수 있습니다.
+	 */
+	private static final Map<IdType, AtomicLong> COUNTERS = createCounters();
 
 	private IdGeneratorUtil() {
 	}
 
 	// ==================== 내부 유틸리티 메서드 ====================
 
-	/**
-	 * 타입별 사용된 ID Set을 반환합니다.
-	 * @param type ID 타입
-	 * @return 해당 타입의 사용된 ID 저장소
-	 */
-	private static Set<String> getUsedIdsSet(IdType type) {
-		return switch (type) {
-		case ENCLOSURE -> usedEnclosureIds;
-		case ANIMAL -> usedAnimalIds;
-		case ZOOKEEPER -> usedZooKeeperIds;
-		case FINANCE -> usedFinanceIds;
-		case VISITOR -> usedVisitorIds;
-		};
+	private static Map<IdType, AtomicLong> createCounters() {
+		Map<IdType, AtomicLong> counters = new EnumMap<>(IdType.class);
+		for (IdType type : IdType.values()) {
+			counters.put(type, new AtomicLong(1));
+		}
+		return counters;
 	}
 
 	/**
-	 * 타입별 현재 카운터 값을 반환합니다.
+	 * 타입별로 지금까지 발급한 ID 개수를 반환합니다.
 	 * @param type ID 타입
-	 * @return 해당 타입의 현재 카운터 값
+	 * @return 발급한 ID 개수
 	 */
-	private static int getCounter(IdType type) {
-		return switch (type) {
-		case ENCLOSURE -> enclosureCounter;
-		case ANIMAL -> animalCounter;
-		case ZOOKEEPER -> zooKeeperCounter;
-		case FINANCE -> financeCounter;
-		case VISITOR -> visitorCounter;
-		};
+	private static long issuedCount(IdType type) {
+		return COUNTERS.get(type).get() - 1;
 	}
 
 	/**
-	 * 타입별 카운터를 새로운 값으로 업데이트합니다.
-	 * @param type ID 타입
-	 * @param newValue 새로운 카운터 값
+	 * 접두사와 번호로 ID 문자열을 만듭니다. 번호는 최소 4자리로 0을 채웁니다.
+	 * String.format을 거치지 않아 호출마다 Formatter를 만들지 않습니다.
+	 * 
+	 * @param prefix ID 접두사
+	 * @param number ID 번호
+	 * @return ID 문자열 (예: "E-0001")
 	 */
-	private static void updateCounter(IdType type, int newValue) {
-		switch (type) {
-		case ENCLOSURE -> enclosureCounter = newValue;
-		case ANIMAL -> animalCounter = newValue;
-		case ZOOKEEPER -> zooKeeperCounter = newValue;
-		case FINANCE -> financeCounter = newValue;
-		case VISITOR -> visitorCounter = newValue;
+	private static String formatId(String prefix, long number) {
+		String digits = Long.toString(number);
+		StringBuilder sb = new StringBuilder(prefix.length() + 1 + Math.max(4, digits.length()));
+		sb.append(prefix).append('-');
+		for (int i = digits.length(); i < 4; i++) {
+			sb.append('0');
 		}
+		return sb.append(digits).toString();
 	}
 
+	private static final StackWalker STACK_WALKER =
+			StackWalker.getInstance(StackWalker.Option.RETAIN_CLASS_REFERENCE);
+
+	/** 클래스별 ID 타입 (Manager 클래스가 아니면 비어 있음), 클래스마다 한 번만 계산 */
+	private static final ClassValue<Optional<IdType>> CALLER_ID_TYPES = new ClassValue<>() {
+		@Override
+		protected Optional<IdType> computeValue(Class<?> type) {
+			return Optional.ofNullable(idTypeOf(type.getName()));
+		}
+	};
+
 	/**
-	 * 스택 트레이스를 분석하여 호출자 클래스를 기반으로 ID 타입을 자동 결정합니다.
+	 * 호출 스택에서 가장 가까운 Manager 클래스를 찾아 ID 타입을 결정합니다.
+	 * 스택은 Manager 프레임을 찾을 때까지만 탐색하고, 클래스별 판정 결과는 캐시합니다.
 	 * 
 	 * @return 결정된 ID 타입
 	 * @throws IllegalStateException 지원되지 않는 클래스에서 호출된 경우
 	 */
 	private static IdType determineIdType() {
-		StackTraceElement[] stackTrace = Thread.currentThread().getStackTrace();
-
-		for (StackTraceElement element : stackTrace) {
-			String className = element.getClassName();
-
-			if (className.contains("EnclosureManager")) {
-				return IdType.ENCLOSURE;
-			} else if (className.contains("AnimalManager")) {
-				return IdType.ANIMAL;
-			} else if (className.contains("ZooKeeperManager")) {
-				return IdType.ZOOKEEPER;
-			} else if (className.contains("FinanceManager")) {
-				return IdType.FINANCE;
-			} else if (className.contains("VisitorManager")) {
-				return IdType.VISITOR;
-			}
-		}
+		return STACK_WALKER.walk(frames -> frames
+				.map(frame -> CALLER_ID_TYPES.get(frame.getDeclaringClass()))
+				.flatMap(Optional::stream)
+				.findFirst())
+				.orElseThrow(() -> new IllegalStateException("ID 생성 요청이 지원되지 않는 클래스에서 호출되었습니다. "
+						+ "EnclosureManager, AnimalManager, ZooKeeperManager,FinanceManager, VisitorManager에서만 호출 가능합니다. "
+						+ "generateId(IdType)를 사용하세요."));
+	}
 
-		throw new IllegalStateException("ID 생성 요청이 지원되지 않는 클래스에서 호출되었습니다. "
-				+ "EnclosureManager, AnimalManager, ZooKeeperManager,FinanceManager, VisitorManager에서만 호출 가능합니다.");
+	/**
+	 * 클래스명에 해당하는 ID 타입을 반환합니다.
+	 * @param className 클래스 전체 이름
+	 * @return ID 타입, Manager 클래스가 아니면 null
+	 */
+	private static IdType idTypeOf(String className) {
+		if (className.contains("EnclosureManager")) {
+			return IdType.ENCLOSURE;
+		} else if (className.contains("AnimalManager")) {
+			return IdType.ANIMAL;
+		} else if (className.contains("ZooKeeperManager")) {
+			return IdType.ZOOKEEPER;
+		} else if (className.contains("FinanceManager")) {
+			return IdType.FINANCE;
+		} else if (className.contains("VisitorManager")) {
+			return IdType.VISITOR;
+		}
+		return null;
 	}
 
 	// ==================== 공개 ID 생성 메서드 ====================
 
+	/**
+	 * 지정된 타입의 고유한 ID를 생성합니다.
+	 * 타입별 원자적 카운터에서 번호를 꺼내므로 여러 스레드가 동시에 호출해도 중복되지 않습니다.
+	 *
+	 * @param type ID 타입
+	 * @return 생성된 고유 ID (예: "E-0001")
+	 */
+	public static String generateId(IdType type) {
+		return formatId(type.getPrefix(), COUNTERS.get(type).getAndIncrement());
+	}
+
 	/**
 	 * 호출자를 자동 감지하여 적절한 ID를 생성합니다.
 	 * 
-	 * <p>스택 트레이스를 분석하여 호출한 Manager 클래스를 확인하고, 
-	 * 해당 타입에 맞는 ID를 자동으로 생성합니다.
+	 * <p>호출 스택에서 Manager 클래스를 찾아 ID 타입을 결정합니다. Manager가 아닌 클래스에서
+	 * 호출하면 실패하고 호출마다 스택을 탐색하므로, {@link #generateId(IdType)}를 사용하세요.
 	 * 
 	 * <p>생성 규칙:
 	 * <ul>
@@ -175,21 +182,11 @@ public final class IdGeneratorUtil {
 	 *
 	 * @return 생성된 고유 ID (예: "E-0001")
 	 * @throws IllegalStateException 지원되지 않는 클래스에서 호출된 경우
+	 * @deprecated {@link #generateId(IdType)}로 ID 타입을 명시하세요.
 	 */
+	@Deprecated
 	public static String generateId() {
-		IdType type = determineIdType();
-		Set<String> usedIds = getUsedIdsSet(type);
-		int counter = getCounter(type);
-		String prefix = type.getPrefix();
-
-		String id;
-		do {
-			id = String.format("%s-%04d", prefix, counter++);
-		} while (usedIds.contains(id));
-
-		usedIds.add(id);
-		updateCounter(type, counter);
-		return id;
+		return generateId(determineIdType());
 	}
 
 	// ==================== 통계 조회 메서드 ====================
@@ -199,7 +196,7 @@ public final class IdGeneratorUtil {
 	 * @return 사육장 ID 개수
 	 */
 	public static int getEnclosureIdCount() {
-		return usedEnclosureIds.size();
+		return (int) issuedCount(IdType.ENCLOSURE);
 	}
 
 	/**
@@ -207,7 +204,7 @@ public final class IdGeneratorUtil {
 	 * @return 동물 ID 개수
 	 */
 	public static int getAnimalIdCount() {
-		return usedAnimalIds.size();
+		return (int) issuedCount(IdType.ANIMAL);
 	}
 
 	/**
@@ -215,7 +212,7 @@ public final class IdGeneratorUtil {
 	 * @return 사육사 ID 개수
 	 */
 	public static int getZooKeeperIdCount() {
-		return usedZooKeeperIds.size();
+		return (int) issuedCount(IdType.ZOOKEEPER);
 	}
 
 	/**
@@ -223,7 +220,7 @@ public final class IdGeneratorUtil {
 	 * @return 재정 ID 개수
 	 */
 	public static int getFinanceIdCount() {
-		return usedFinanceIds.size();
+		return (int) issuedCount(IdType.FINANCE);
 	}
 
 	// ==================== 디버그/테스트용 메서드 ====================
@@ -231,14 +228,26 @@ public final class IdGeneratorUtil {
 	/**
 	 * 🔍 [DEBUG] ID 사용 여부 확인을 위한 공통 로직입니다.
 	 * 
+	 * <p>접두사가 일치하고 번호가 지금까지 발급한 범위(1 ~ 발급 개수) 안에 있으면 사용된 ID입니다.
+	 * 
 	 * <p><strong>⚠️ 이 메서드는 디버깅 및 테스트 목적으로만 사용하세요.</strong>
 	 * 
 	 * @param id 확인할 ID
-	 * @param usedIds 사용된 ID를 저장하는 Set
+	 * @param type ID 타입
 	 * @return 사용된 ID면 true, 아니면 false
 	 */
-	private static boolean isIdUsed(String id, Set<String> usedIds) {
-		return usedIds.contains(id);
+	private static boolean isIdUsed(String id, IdType type) {
+		String prefix = type.getPrefix() + "-";
+		if (id == null || !id.startsWith(prefix)) {
+			return false;
+		}
+		long number;
+		try {
+			number = Long.parseLong(id.substring(prefix.length()));
+		} catch (NumberFormatException e) {
+			return false;
+		}
+		return number >= 1 && number <= issuedCount(type) && formatId(type.getPrefix(), number).equals(id);
 	}
 
 	/**
@@ -250,7 +259,7 @@ public final class IdGeneratorUtil {
 	 * @return 사용된 ID면 true, 아니면 false
 	 */
 	public static boolean isEnclosureIdUsed(String id) {
-		return isIdUsed(id, usedEnclosureIds);
+		return isIdUsed(id, IdType.ENCLOSURE);
 	}
 
 	/**
@@ -262,7 +271,7 @@ public final class IdGeneratorUtil {
 	 * @return 사용된 ID면 true, 아니면 false
 	 */
 	public static boolean isAnimalIdUsed(String id) {
-		return isIdUsed(id, usedAnimalIds);
+		return isIdUsed(id, IdType.ANIMAL);
 	}
 
 	/**
@@ -274,7 +283,7 @@ public final class IdGeneratorUtil {
 	 * @return 사용된 ID면 true, 아니면 false
 	 */
 	public static boolean isZooKeeperIdUsed(String id) {
-		return isIdUsed(id, usedZooKeeperIds);
+		return isIdUsed(id, IdType.ZOOKEEPER);
 	}
 
 	/**
@@ -286,51 +295,37 @@ public final class IdGeneratorUtil {
 	 * @return 사용된 ID면 true, 아니면 false
 	 */
 	public static boolean isFinanceIdUsed(String id) {
-		return isIdUsed(id, usedFinanceIds);
+		return isIdUsed(id, IdType.FINANCE);
 	}
 
 	/**
-	 * 🔍 [DEBUG] 현재 저장된 모든 ID들을 타입별로 나열합니다.
+	 * 🔍 [DEBUG] 현재 타입별로 발급한 ID 개수와 범위를 나열합니다.
 	 * 
 	 * <p><strong>⚠️ 디버깅 및 개발 목적으로만 사용하세요.</strong>
 	 * 
-	 * @return 타입별로 구분된 ID 목록 문자열
+	 * @return 타입별로 구분된 ID 범위 문자열
 	 */
 	public static String getStatus() {
 		StringBuilder sb = new StringBuilder();
 		sb.append("IdGeneratorUtil 현재 상태:\n");
+		appendStatus(sb, "├─ 사육장 ID", IdType.ENCLOSURE);
+		appendStatus(sb, "├─ 동물 ID", IdType.ANIMAL);
+		appendStatus(sb, "├─ 사육사 ID", IdType.ZOOKEEPER);
+		appendStatus(sb, "├─ 재정 ID", IdType.FINANCE);
+		appendStatus(sb, "└─ 방문객 ID", IdType.VISITOR);
+		return sb.toString();
+	}
 
-		sb.append("├─ 사육장 ID (").append(usedEnclosureIds.size()).append("개): ");
-
-		if (usedEnclosureIds.isEmpty()) {
-			sb.append("없음");
-		} else {
-			sb.append(usedEnclosureIds.toString());
-		}
-		sb.append("\n");
-
-		sb.append("├─ 동물 ID (").append(usedAnimalIds.size()).append("개): ");
-
-		if (usedAnimalIds.isEmpty()) {
-			sb.append("없음");
-		} else {
-			sb.append(usedAnimalIds.toString());
-		}
-		sb.append("\n");
-
-		sb.append("├─ 사육사 ID (").append(usedZooKeeperIds.size()).append("개): ");
-		if (usedZooKeeperIds.isEmpty()) {
+	private static void appendStatus(StringBuilder sb, String label, IdType type) {
+		long count = issuedCount(type);
+		sb.append(label).append(" (").append(count).append("개): ");
+		if (count == 0) {
 			sb.append("없음");
 		} else {
-			sb.append(usedZooKeeperIds.toString());
+			sb.append(formatId(type.getPrefix(), 1)).append(" ~ ").append(formatId(type.getPrefix(), count));
 		}
-
-		sb.append("└─ 재정 ID (").append(usedFinanceIds.size()).append("개): ");
-		if (usedZooKeeperIds.isEmpty()) {
-			sb.append("없음");
-		} else {
-			sb.append(usedFinanceIds.toString());
+		if (type != IdType.VISITOR) {
+			sb.append("\n");
 		}
-		return sb.toString();
 	}
 }
@@ -1,20 +1,46 @@
 package app.common;
 
+import app.common.logging.AsyncAppender;
+import app.common.logging.AsyncAppender.OverflowPolicy;
+import app.common.logging.ConsoleSink;
+import app.common.logging.LogAppender;
+import app.common.logging.LogLevel;
+import app.common.logging.LogLevels;
+import app.common.logging.LogLevels.LevelRef;
+import app.common.logging.LogSink;
+import app.common.logging.MessageFormatter;
+import app.common.logging.PrintStreamSink;
+import app.common.logging.RollingFileSink;
+import app.common.logging.SyncAppender;
+import java.io.IOException;
+import java.nio.file.Paths;
+import java.util.function.Supplier;
+
 /**
  * 간단한 로거 클래스입니다.
- * DEBUG 모드에서만 메시지를 출력하고, 일반 모드에서는 조용히 동작합니다.
- * 디버그 모드는 시스템 프로퍼티로 제어됩니다.
+ * 클래스에 적용되는 로그 수준 이상의 메시지만 출력합니다.
+ * 기본 수준은 시스템 프로퍼티(app.debug)로 제어됩니다. (true이면 DEBUG, 아니면 INFO)
+ * 
+ * <p>패키지/클래스별 수준은 {@link LogLevels}로 관리하며 실행 중에 바꿀 수 있습니다.
+ * (-Dapp.log.level.app.repository=DEBUG, {@link #setLevel(String, LogLevel)}, JMX)</p>
+ * 
+ * <p>-Dapp.log.file=logs/manazoo.log이면 콘솔 대신 파일에 기록합니다. ({@link RollingFileSink},
+ * 최대 크기 app.log.file.maxSize, 교체 주기 app.log.file.rollInterval, 보관 개수 app.log.file.maxHistory)</p>
+ * 
+ * <p>-Dapp.log.async=true이면 호출 스레드는 이벤트를 링 버퍼에 넣기만 하고 백그라운드 스레드가
+ * 모아서 출력합니다. ({@link AsyncAppender}, 버퍼 크기 app.log.bufferSize,
+ * 가득 찼을 때의 처리 app.log.overflow=block|drop|sample, 표본 비율 app.log.sampleRate)</p>
  */
 public class SimpleLogger {
     
-    // 디버그 모드 여부 (시스템 프로퍼티에서 읽어옴)
-    // properties 파일보다 시스템 프로퍼티가 우선순위를 가집니다.
-    private static final boolean DEBUG_MODE = Boolean.parseBoolean(
-        System.getProperty("app.debug", "false")
-    );
+    // 로그 출력 방식 (시스템 프로퍼티 app.log.*로 결정)
+    private static final LogAppender APPENDER = createAppender();
     
     private final String className;
     
+    // 이 클래스에 적용되는 로그 수준 (같은 클래스의 로거끼리 공유)
+    private final LevelRef level;
+    
     /**
      * 로거 생성자
      * 
@@ -22,6 +48,43 @@ public class SimpleLogger {
      */
     public SimpleLogger(Class<?> clazz) {
         this.className = clazz.getSimpleName();
+        this.level = LogLevels.forLogger(clazz.getName());
+    }
+    
+    private static LogAppender createAppender() {
+        boolean async = Boolean.parseBoolean(System.getProperty("app.log.async", "false"));
+        LogSink sink = createSink(async);
+        if (!async) {
+            return new SyncAppender(sink);
+        }
+        return new AsyncAppender(sink,
+                Integer.getInteger("app.log.bufferSize", 8192),
+                OverflowPolicy.from(System.getProperty("app.log.overflow", "block")),
+                Integer.getInteger("app.log.sampleRate", 10));
+    }
+    
+    /**
+     * 로그를 기록할 대상을 만듭니다. 콘솔은 동기 방식이면 System.out/System.err를 그대로 사용하고,
+     * 비동기 방식이면 모아서 한 번에 쓰는 채널 기반 싱크를 사용합니다.
+     */
+    private static LogSink createSink(boolean async) {
+        String file = System.getProperty("app.log.file", "");
+        if (file.isBlank()) {
+            return consoleSink(async);
+        }
+        try {
+            return new RollingFileSink(Paths.get(file),
+                    Long.getLong("app.log.file.maxSize", 10L * 1024 * 1024),
+                    Long.getLong("app.log.file.rollInterval", 24L * 60 * 60 * 1000),
+                    Integer.getInteger("app.log.file.maxHistory", 7));
+        } catch (IOException | RuntimeException e) {
+            System.err.println("[ERROR] [SimpleLogger] 로그 파일을 열 수 없어 콘솔에 기록합니다: " + file + " (" + e.getMessage() + ")");
+            return consoleSink(async);
+        }
+    }
+    
+    private static LogSink consoleSink(boolean async) {
+        return async ? new ConsoleSink() : new PrintStreamSink();
     }
     
     /**
@@ -36,87 +99,173 @@ public class SimpleLogger {
     
     /**
      * 디버그 메시지를 출력합니다.
-     * DEBUG 모드에서만 출력되고, 일반 모드에서는 무시됩니다.
+     * 이 클래스에 적용되는 로그 수준이 DEBUG일 때만 출력되고, 그 외에는 무시됩니다.
      * 
      * @param message 출력할 메시지
      */
     public void debug(String message) {
-        if (DEBUG_MODE) {
-            System.out.println("[DEBUG] [" + className + "] " + message);
+        if (level.isEnabled(LogLevel.DEBUG)) {
+            APPENDER.append(LogLevel.DEBUG, className, message, null);
+        }
+    }
+    
+    /**
+     * 디버그 메시지를 출력합니다. 메시지는 DEBUG 수준일 때만 만들어집니다.
+     * 
+     * @param messageSupplier 출력할 메시지를 만드는 함수
+     */
+    public void debug(Supplier<String> messageSupplier) {
+        if (level.isEnabled(LogLevel.DEBUG)) {
+            APPENDER.append(LogLevel.DEBUG, className, messageSupplier.get(), null);
+        }
+    }
+    
+    /**
+     * 인수 하나로 포맷팅된 디버그 메시지를 출력합니다.
+     * 가변 인수 배열을 만들지 않으므로 DEBUG 수준이 아니면 아무것도 할당하지 않습니다.
+     * (기본형 인수는 호출하는 쪽에서 박싱되므로, 큰 값을 자주 넘긴다면 {@link #debug(Supplier)}를 사용하세요.)
+     * 
+     * @param format 메시지 포맷 ("{}" 또는 String.format 형식)
+     * @param arg 포맷 인수
+     */
+    public void debug(String format, Object arg) {
+        if (level.isEnabled(LogLevel.DEBUG)) {
+            debug(MessageFormatter.format(format, arg));
+        }
+    }
+    
+    /**
+     * 인수 두 개로 포맷팅된 디버그 메시지를 출력합니다.
+     * 
+     * @param format 메시지 포맷 ("{}" 또는 String.format 형식)
+     * @param arg1 첫 번째 포맷 인수
+     * @param arg2 두 번째 포맷 인수
+     */
+    public void debug(String format, Object arg1, Object arg2) {
+        if (level.isEnabled(LogLevel.DEBUG)) {
+            debug(MessageFormatter.format(format, arg1, arg2));
+        }
+    }
+    
+    /**
+     * 인수 세 개로 포맷팅된 디버그 메시지를 출력합니다.
+     * 
+     * @param format 메시지 포맷 ("{}" 또는 String.format 형식)
+     * @param arg1 첫 번째 포맷 인수
+     * @param arg2 두 번째 포맷 인수
+     * @param arg3 세 번째 포맷 인수
+     */
+    public void debug(String format, Object arg1, Object arg2, Object arg3) {
+        if (level.isEnabled(LogLevel.DEBUG)) {
+            debug(MessageFormatter.format(format, arg1, arg2, arg3));
         }
     }
     
     /**
      * 포맷팅된 디버그 메시지를 출력합니다.
      * 
-     * @param format 메시지 포맷
+     * @param format 메시지 포맷 ("{}" 또는 String.format 형식)
      * @param args 포맷 인수들
      */
     public void debug(String format, Object... args) {
-        if (DEBUG_MODE) {
-            debug(String.format(format, args));
+        if (level.isEnabled(LogLevel.DEBUG)) {
+            debug(MessageFormatter.format(format, args));
         }
     }
     
     /**
      * 일반 정보 메시지를 출력합니다.
-     * 항상 출력됩니다.
+     * 이 클래스에 적용되는 로그 수준({@link LogLevels})이 INFO 이하일 때 출력됩니다. (기본값: 출력)
      * 
      * @param message 출력할 메시지
      */
     public void info(String message) {
-        System.out.println("[INFO] [" + className + "] " + message);
+        if (level.isEnabled(LogLevel.INFO)) {
+            APPENDER.append(LogLevel.INFO, className, message, null);
+        }
     }
     
     /**
      * 포맷팅된 정보 메시지를 출력합니다.
      * 
-     * @param format 메시지 포맷
+     * @param format 메시지 포맷 ("{}" 또는 String.format 형식)
      * @param args 포맷 인수들
      */
     public void info(String format, Object... args) {
-        info(String.format(format, args));
+        if (level.isEnabled(LogLevel.INFO)) {
+            info(MessageFormatter.format(format, args));
+        }
     }
     
     /**
      * 오류 메시지를 출력합니다.
-     * 항상 출력됩니다.
+     * 이 클래스에 적용되는 로그 수준({@link LogLevels})이 OFF가 아니면 출력됩니다.
      * 
      * @param message 출력할 메시지
      */
     public void error(String message) {
-        System.err.println("[ERROR] [" + className + "] " + message);
+        if (level.isEnabled(LogLevel.ERROR)) {
+            APPENDER.append(LogLevel.ERROR, className, message, null);
+        }
     }
     
     /**
      * 예외와 함께 오류 메시지를 출력합니다.
+     * 로그 수준이 OFF가 아니면 출력되며, 스택 트레이스는 DEBUG 수준일 때만 함께 출력됩니다.
      * 
      * @param message 출력할 메시지
      * @param throwable 예외 객체
      */
     public void error(String message, Throwable throwable) {
-        error(message + ": " + throwable.getMessage());
-        
-        // 디버그 모드에서만 스택 트레이스 출력
-        if (DEBUG_MODE) {
-            throwable.printStackTrace();
+        if (level.isEnabled(LogLevel.ERROR)) {
+            // 디버그 수준에서만 스택 트레이스 출력
+            APPENDER.append(LogLevel.ERROR, className, message + ": " + throwable.getMessage(),
+                    isDebugEnabled() ? throwable : null);
         }
     }
     
     /**
-     * 현재 디버그 모드 상태를 반환합니다.
+     * 디버그 메시지가 출력되는지 확인합니다.
+     * 메시지를 만드는 비용이 클 때 호출 전에 확인하는 용도입니다.
+     * 
+     * @return 디버그 메시지 출력 여부
+     */
+    public boolean isDebugEnabled() {
+        return level.isEnabled(LogLevel.DEBUG);
+    }
+    
+    /**
+     * 현재 디버그 모드 상태를 반환합니다. (루트 수준이 DEBUG인지 여부)
      * 
      * @return 디버그 모드 여부
      */
     public static boolean isDebugMode() {
-        return DEBUG_MODE;
+        return LogLevels.getRootLevel() == LogLevel.DEBUG;
+    }
+    
+    /**
+     * 패키지나 클래스의 로그 수준을 실행 중에 바꿉니다.
+     * 
+     * @param name 패키지 또는 클래스 전체 이름 (예: "app.repository", 빈 문자열이면 전체)
+     * @param level 로그 수준 (null이면 지정 해제)
+     */
+    public static void setLevel(String name, LogLevel level) {
+        LogLevels.setLevel(name, level);
+    }
+    
+    /**
+     * 아직 출력되지 않은 로그를 모두 출력합니다.
+     * 비동기 모드에서 화면 출력 전에 로그 순서를 맞출 때 사용하며, {@code MenuUtil}이 메뉴를 출력하기 전에 호출합니다.
+     */
+    public static void flush() {
+        APPENDER.flush();
     }
     
     /**
      * 디버그 모드 상태를 출력합니다.
      */
     public static void printDebugStatus() {
-        if (DEBUG_MODE) {
+        if (isDebugMode()) {
             System.out.println("[DEBUG] 디버그 모드가 활성화되어 있습니다.");
         } else {
             System.out.println("[INFO] 일반 모드로 실행 중입니다. (디버그 메시지 숨김)");
@@ -125,5 +274,8 @@ public class SimpleLogger {
         System.out.println("[INFO]   1. 시스템 프로퍼티: java -Dapp.debug=true MyApp");
         System.out.println("[INFO]   2. properties 파일: app.debug=true");
         System.out.println("[INFO] ※ 시스템 프로퍼티가 properties 파일보다 우선순위가 높습니다.");
+        System.out.println("[INFO] 비동기 로그 출력: java -Dapp.log.async=true -Dapp.log.overflow=block|drop|sample MyApp");
+        System.out.println("[INFO] 패키지/클래스별 수준: java -Dapp.log.level.app.repository=DEBUG MyApp (지정: " + LogLevels.getConfiguredLevels() + ")");
+        System.out.println("[INFO] 파일 기록: java -Dapp.log.file=logs/manazoo.log MyApp");
     }
 }
@@ -0,0 +1,147 @@
+package app.common;
+
+import java.lang.management.ManagementFactory;
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicLong;
+
+import app.common.DatabaseIdGenerator.IdType;
+import app.config.DatabaseConnection;
+
+/**
+ * 데이터베이스 없이 여러 인스턴스에서 충돌하지 않는 시간순 ID를 생성하는 유틸리티 클래스입니다.
+ * 
+ * <p>ID 번호는 64비트 정수로 다음과 같이 구성됩니다.
+ * <pre>
+ *  0 | 경과 시간(ms) 41비트 | 노드 ID 10비트 | 순번 12비트
+ * </pre>
+ * 경과 시간은 2025-01-01T00:00:00Z부터 계산하며 약 69년 동안 사용할 수 있습니다.
+ * 노드 ID(db.id.nodeId, 0~1023)는 인스턴스마다 달라야 하며, 같은 노드 안에서는
+ * 원자적 카운터 하나로 번호를 발급하므로 번호는 항상 증가합니다.</p>
+ * 
+ * <ul>
+ *   <li>같은 밀리초에 4096개를 넘게 발급하면 다음 밀리초의 번호를 미리 사용합니다.</li>
+ *   <li>시스템 시계가 뒤로 가면 시계가 따라잡을 때까지 마지막 번호에서 이어서 발급합니다.
+ *       단, 시계를 되돌린 뒤 재시작하면 이전 실행의 번호와 겹칠 수 있습니다.</li>
+ * </ul>
+ * 
+ * <p>표시 형식은 기존 ID와 같이 "접두사-번호"이며, 번호를 19자리로 채워
+ * 문자열 순서와 생성 순서가 같습니다.
+ * <pre>{@code
+ * String id = TimeOrderedIdGenerator.generateId(IdType.VISITOR); // "V-0236957501000525971"
+ * }</pre>
+ */
+public final class TimeOrderedIdGenerator {
+
+    /** 경과 시간 기준 시각 (2025-01-01T00:00:00Z) */
+    private static final long EPOCH_MILLIS = Instant.parse("2025-01-01T00:00:00Z").toEpochMilli();
+
+    private static final int NODE_BITS = 10;
+    private static final int SEQUENCE_BITS = 12;
+    private static final long SEQUENCE_MASK = (1L << SEQUENCE_BITS) - 1;
+
+    /** 노드 ID 최대값 */
+    public static final int MAX_NODE_ID = (1 << NODE_BITS) - 1;
+
+    /** 마지막으로 발급한 (경과 시간 << SEQUENCE_BITS | 순번) */
+    private static final AtomicLong lastTick = new AtomicLong();
+
+    private static final SimpleLogger logger = SimpleLogger.getLogger(TimeOrderedIdGenerator.class);
+
+    private TimeOrderedIdGenerator() {
+        // 유틸리티 클래스이므로 인스턴스 생성 방지
+    }
+
+    /**
+     * 노드 ID입니다. 첫 ID 생성 시 설정을 읽어 결정합니다.
+     */
+    private static final class Node {
+        private static final long ID = resolveNodeId();
+    }
+
+    /**
+     * 지정된 타입의 시간순 ID를 생성합니다.
+     * 
+     * @param idType ID 타입
+     * @return 생성된 고유 ID (예: "A-0236957501000525971")
+     */
+    public static String generateId(IdType idType) {
+        return formatId(idType.getPrefix(), nextNumber());
+    }
+
+    /**
+     * 다음 ID 번호를 발급합니다. 잠금 없이 원자적 갱신 한 번으로 동작합니다.
+     * 
+     * @return 이 노드에서 이전 번호보다 큰 고유 번호
+     */
+    public static long nextNumber() {
+        long now = (System.currentTimeMillis() - EPOCH_MILLIS) << SEQUENCE_BITS;
+        long tick = lastTick.accumulateAndGet(now, (last, current) -> Math.max(last + 1, current));
+        return ((tick >>> SEQUENCE_BITS) << (NODE_BITS + SEQUENCE_BITS))
+                | (Node.ID << SEQUENCE_BITS)
+                | (tick & SEQUENCE_MASK);
+    }
+
+    /**
+     * 이 인스턴스의 노드 ID를 반환합니다.
+     * 
+     * @return 노드 ID (0~{@value #MAX_NODE_ID})
+     */
+    public static int getNodeId() {
+        return (int) Node.ID;
+    }
+
+    /**
+     * ID 번호에 기록된 생성 시각을 반환합니다.
+     * 
+     * @param number {@link #nextNumber()}로 발급한 번호
+     * @return 생성 시각
+     */
+    public static Instant timestampOf(long number) {
+        return Instant.ofEpochMilli((number >>> (NODE_BITS + SEQUENCE_BITS)) + EPOCH_MILLIS);
+    }
+
+    /**
+     * ID 번호를 생성한 노드 ID를 반환합니다.
+     * 
+     * @param number {@link #nextNumber()}로 발급한 번호
+     * @return 노드 ID
+     */
+    public static int nodeIdOf(long number) {
+        return (int) ((number >>> SEQUENCE_BITS) & MAX_NODE_ID);
+    }
+
+    /**
+     * 접두사와 번호를 결합하여 포맷된 ID를 생성합니다.
+     */
+    private static String formatId(String prefix, long number) {
+        return String.format("%s-%019d", prefix, number);
+    }
+
+    /**
+     * 노드 ID를 결정합니다. db.id.nodeId가 없으면 호스트 이름과 프로세스 ID로 계산하지만,
+     * 이 값은 다른 인스턴스와 겹칠 수 있으므로 여러 인스턴스를 운영할 때는 반드시 설정해야 합니다.
+     */
+    private static long resolveNodeId() {
+        int configured = DatabaseConnection.getConfigLoader().getIdNodeId();
+        if (configured >= 0) {
+            if (configured > MAX_NODE_ID) {
+                throw new IllegalStateException("db.id.nodeId는 0~" + MAX_NODE_ID + " 범위여야 합니다: " + configured);
+            }
+            return configured;
+        }
+
+        String host;
+        try {
+            host = InetAddress.getLocalHost().getHostName();
+        } catch (UnknownHostException e) {
+            host = "unknown";
+        }
+        String runtimeName = ManagementFactory.getRuntimeMXBean().getName();
+        int derived = Math.floorMod((host + "/" + runtimeName).hashCode(), MAX_NODE_ID + 1);
+        logger.info("db.id.nodeId가 설정되지 않아 노드 ID " + derived + "을(를) 사용합니다. "
+                + "여러 인스턴스를 운영하면 인스턴스마다 다른 값을 설정하세요.");
+        return derived;
+    }
+}
@@ -0,0 +1,151 @@
+package app.common.database;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+/**
+ * {@link StatementCache}에서 꺼낸 PreparedStatement를 감싸는 동적 프록시 핸들러입니다.
+ * 
+ * <p>close()는 물리 문장을 닫지 않고 파라미터, 배치와 열린 ResultSet을 정리한 뒤 캐시로 돌려보냅니다.
+ * 호출자가 최대 행 수, 조회 시간 제한 등 문장 설정을 바꿨으면 다음 사용자에게 이어지지 않도록
+ * 캐시에 돌려놓지 않고 닫습니다.
+ * getConnection()은 물리 연결 대신 풀 프록시 연결을 반환하여 호출자가 물리 연결을
+ * 직접 닫는 일을 막습니다. execute 계열 메서드는 실행 전에 연결의 세션 상태를 맞추고
+ * 트랜잭션 사용 여부를 기록합니다. 나머지 메서드는 그대로 위임됩니다.</p>
+ * 
+ * @author MANAZOO Team
+ * @since 2.0
+ */
+final class CachedStatementHandler implements InvocationHandler {
+    
+    private final PooledConnection owner;
+    private final StatementCache cache;
+    private final String sql;
+    private final PreparedStatement delegate;
+    private boolean closed;
+    private boolean settingsChanged;            // 문장 설정을 바꿨으면 캐시하지 않음
+    
+    private CachedStatementHandler(PooledConnection owner, StatementCache cache, String sql, PreparedStatement delegate) {
+        this.owner = owner;
+        this.cache = cache;
+        this.sql = sql;
+        this.delegate = delegate;
+    }
+    
+    /**
+     * 물리 문장을 캐시 반환 프록시로 감쌉니다.
+     * 
+     * @param owner 문장을 준비한 풀 프록시 연결
+     * @param cache 반환할 캐시
+     * @param sql 캐시 키인 SQL 문자열
+     * @param delegate 물리 PreparedStatement
+     * @return 프록시 PreparedStatement
+     */
+    static PreparedStatement wrap(PooledConnection owner, StatementCache cache, String sql, PreparedStatement delegate) {
+        return (PreparedStatement) Proxy.newProxyInstance(PreparedStatement.class.getClassLoader(),
+                new Class<?>[] { PreparedStatement.class },
+                new CachedStatementHandler(owner, cache, sql, delegate));
+    }
+    
+    @Override
+    public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+        switch (method.getName()) {
+            case "close":
+                returnToCache();
+                return null;
+            case "isClosed":
+                return closed;
+            case "getConnection":
+                return owner;
+            case "equals":
+                return proxy == args[0];
+            case "hashCode":
+                return System.identityHashCode(proxy);
+            case "toString":
+                return "CachedPreparedStatement[" + sql + "]";
+            default:
+                break;
+        }
+        
+        if (closed) {
+            throw new SQLException("이미 닫힌 PreparedStatement입니다.");
+        }
+        if (method.getName().startsWith("execute")) {
+            owner.beforeExecute();
+        } else if (changesSettings(method.getName())) {
+            settingsChanged = true;
+        }
+        try {
+            return method.invoke(delegate, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+    
+    /**
+     * 다음 사용자에게 이어지는 문장 단위 설정을 바꾸는 메서드인지 확인합니다.
+     * 
+     * @param methodName 메서드 이름
+     * @return 문장 설정 변경 메서드이면 true
+     */
+    private static boolean changesSettings(String methodName) {
+        switch (methodName) {
+            case "setMaxRows":
+            case "setLargeMaxRows":
+            case "setMaxFieldSize":
+            case "setFetchSize":
+            case "setFetchDirection":
+            case "setQueryTimeout":
+            case "setEscapeProcessing":
+            case "setCursorName":
+            case "setPoolable":
+            case "closeOnCompletion":
+                return true;
+            default:
+                return false;
+        }
+    }
+    
+    /**
+     * 다음 사용자를 위해 문장 상태를 정리하고 캐시로 돌려보냅니다.
+     * 문장 설정을 바꿨거나 정리에 실패하면 문장을 닫습니다.
+     */
+    private void returnToCache() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        
+        if (settingsChanged) {
+            closeDelegate();
+            return;
+        }
+        try {
+            ResultSet resultSet = delegate.getResultSet();
+            if (resultSet != null) {
+                resultSet.close();
+            }
+            // 예외로 실행되지 못한 배치가 다음 executeBatch()에서 다시 실행되지 않도록 비움
+            delegate.clearBatch();
+            delegate.clearParameters();
+            delegate.clearWarnings();
+        } catch (SQLException e) {
+            closeDelegate();
+            return;
+        }
+        cache.offer(sql, delegate);
+    }
+    
+    private void closeDelegate() {
+        try {
+            delegate.close();
+        } catch (SQLException ignored) {
+            // 이미 문제가 있거나 캐시하지 않는 문장이므로 무시
+        }
+    }
+}
@@ -0,0 +1,252 @@
+package app.common.database;
+
+import app.common.SimpleLogger;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 데이터베이스 연결 생성 앞에 두는 회로 차단기(circuit breaker)입니다.
+ * 
+ * <ul>
+ *   <li>CLOSED: 모든 호출을 허용하고 최근 windowSize개 호출의 성공/실패를 기록합니다.
+ *       minimumCalls 이상 기록된 상태에서 실패율이 기준을 넘으면 OPEN으로 전환합니다.</li>
+ *   <li>OPEN: 대기 시간 동안 모든 호출을 즉시 거부합니다. 대기 시간은 연속으로 열릴 때마다
+ *       두 배씩 늘어나며(최대 maxOpenDuration), 절반~전체 범위의 지터를 적용해
+ *       여러 인스턴스가 동시에 시험 호출을 보내지 않도록 합니다.</li>
+ *   <li>HALF_OPEN: 시험 호출 하나만 허용합니다. 성공하면 CLOSED, 실패하면 다시 OPEN이 됩니다.</li>
+ * </ul>
+ * 
+ * <p>연결 생성은 자주 일어나지 않으므로 상태 변경은 단순히 동기화로 보호합니다.
+ * 호출자는 {@link #tryAcquire()}가 true를 반환한 경우 반드시 {@link #onSuccess()} 또는
+ * {@link #onFailure()}를 호출해야 합니다.</p>
+ * 
+ * @author MANAZOO Team
+ * @since 2.0
+ */
+public class CircuitBreaker implements CircuitBreakerMXBean {
+    
+    /**
+     * 회로 차단기 상태입니다.
+     */
+    public enum State {
+        CLOSED, OPEN, HALF_OPEN
+    }
+    
+    private final String name;
+    private final double failureRateThreshold;  // 실패율 기준 (%)
+    private final int minimumCalls;
+    private final long initialOpenDuration;     // 첫 OPEN 대기 시간 (ms)
+    private final long maxOpenDuration;         // 최대 OPEN 대기 시간 (ms)
+    private final SimpleLogger logger = SimpleLogger.getLogger(CircuitBreaker.class);
+    
+    // 최근 호출 결과 (원형 버퍼, true = 실패), this로 보호
+    private final boolean[] outcomes;
+    private int outcomeIndex;
+    private int outcomeCount;
+    private int failureCount;
+    
+    private State state = State.CLOSED;
+    private long openUntil;
+    private int consecutiveOpens;
+    private boolean probeInFlight;
+    
+    // 지표
+    private final LongAdder rejectedCalls = new LongAdder();
+    private long transitionsToOpen;
+    private long transitionsToHalfOpen;
+    private long transitionsToClosed;
+    
+    /**
+     * @param name 차단기 이름 (로그, JMX 이름에 사용)
+     * @param failureRateThreshold OPEN으로 전환하는 실패율 (%)
+     * @param minimumCalls 실패율을 판단하기 위한 최소 호출 수
+     * @param windowSize 실패율을 계산할 최근 호출 수
+     * @param initialOpenDuration 첫 OPEN 대기 시간 (ms)
+     * @param maxOpenDuration 최대 OPEN 대기 시간 (ms)
+     */
+    public CircuitBreaker(String name, double failureRateThreshold, int minimumCalls, int windowSize,
+            long initialOpenDuration, long maxOpenDuration) {
+        this.name = name;
+        this.failureRateThreshold = failureRateThreshold;
+        this.minimumCalls = Math.max(1, Math.min(minimumCalls, windowSize));
+        this.outcomes = new boolean[Math.max(1, windowSize)];
+        this.initialOpenDuration = Math.max(1L, initialOpenDuration);
+        this.maxOpenDuration = Math.max(this.initialOpenDuration, maxOpenDuration);
+    }
+    
+    /**
+     * 호출을 시작해도 되는지 확인합니다.
+     * OPEN 대기 시간이 지났으면 HALF_OPEN으로 전환하고 이 호출을 시험 호출로 허용합니다.
+     * 
+     * @return 호출 허용 여부 (false면 호출하지 말고 즉시 실패 처리)
+     */
+    public synchronized boolean tryAcquire() {
+        switch (state) {
+            case CLOSED:
+                return true;
+            case OPEN:
+                if (System.currentTimeMillis() < openUntil) {
+                    rejectedCalls.increment();
+                    return false;
+                }
+                transitionTo(State.HALF_OPEN);
+                probeInFlight = true;
+                return true;
+            case HALF_OPEN:
+            default:
+                if (probeInFlight) {
+                    rejectedCalls.increment();
+                    return false;
+                }
+                probeInFlight = true;
+                return true;
+        }
+    }
+    
+    /**
+     * 허용된 호출이 성공했음을 기록합니다.
+     */
+    public synchronized void onSuccess() {
+        if (state == State.HALF_OPEN) {
+            consecutiveOpens = 0;
+            probeInFlight = false;
+            resetWindow();
+            transitionTo(State.CLOSED);
+            logger.info("회로 차단기(" + name + ") 시험 호출 성공, 연결을 다시 허용합니다.");
+        } else if (state == State.CLOSED) {
+            record(false);
+        }
+    }
+    
+    /**
+     * 허용된 호출이 실패했음을 기록합니다.
+     */
+    public synchronized void onFailure() {
+        if (state == State.HALF_OPEN) {
+            probeInFlight = false;
+            open("시험 호출 실패");
+        } else if (state == State.CLOSED) {
+            record(true);
+            if (outcomeCount >= minimumCalls && failureRate() >= failureRateThreshold) {
+                open(String.format("최근 실패율 %.0f%%", failureRate()));
+            }
+        }
+        // OPEN 상태에서 도착한 늦은 결과는 무시
+    }
+    
+    /**
+     * 현재 상태를 반환합니다.
+     * 
+     * @return 회로 차단기 상태
+     */
+    public synchronized State getState() {
+        return state;
+    }
+    
+    private void record(boolean failure) {
+        if (outcomeCount == outcomes.length) {
+            if (outcomes[outcomeIndex]) {
+                failureCount--;
+            }
+        } else {
+            outcomeCount++;
+        }
+        outcomes[outcomeIndex] = failure;
+        if (failure) {
+            failureCount++;
+        }
+        outcomeIndex = (outcomeIndex + 1) % outcomes.length;
+    }
+    
+    private void resetWindow() {
+        outcomeIndex = 0;
+        outcomeCount = 0;
+        failureCount = 0;
+    }
+    
+    private double failureRate() {
+        return outcomeCount == 0 ? 0.0 : failureCount * 100.0 / outcomeCount;
+    }
+    
+    /**
+     * OPEN으로 전환합니다. 연속으로 열릴수록 대기 시간을 두 배씩 늘리고 지터를 적용합니다.
+     * 
+     * @param reason 로그에 남길 전환 사유
+     */
+    private void open(String reason) {
+        long backoff = initialOpenDuration << Math.min(consecutiveOpens, 20);
+        backoff = Math.min(maxOpenDuration, backoff);
+        long duration = backoff / 2 + ThreadLocalRandom.current().nextLong(backoff / 2 + 1);
+        consecutiveOpens++;
+        
+        openUntil = System.currentTimeMillis() + duration;
+        resetWindow();
+        transitionTo(State.OPEN);
+        logger.error(String.format("회로 차단기(%s) 열림: %s, %dms 동안 연결 시도를 차단합니다 (연속 %d회)",
+                name, reason, duration, consecutiveOpens));
+    }
+    
+    private void transitionTo(State newState) {
+        state = newState;
+        switch (newState) {
+            case OPEN:
+                transitionsToOpen++;
+                break;
+            case HALF_OPEN:
+                transitionsToHalfOpen++;
+                logger.info("회로 차단기(" + name + ") 반열림: 시험 연결을 시도합니다.");
+                break;
+            case CLOSED:
+            default:
+                transitionsToClosed++;
+                break;
+        }
+    }
+    
+    /**
+     * 상태를 한 줄 텍스트로 만듭니다.
+     * 
+     * @return 콘솔 출력용 텍스트
+     */
+    public synchronized String format() {
+        return String.format("회로 차단기(%s): %s (실패율 %.1f%%, 거부 %d회, 열림 %d회)",
+                name, state, failureRate(), rejectedCalls.sum(), transitionsToOpen);
+    }
+    
+    // ==================== MXBean 구현 ====================
+    
+    @Override
+    public synchronized String getStateName() {
+        return state.name();
+    }
+    
+    @Override
+    public synchronized double getFailureRatePercent() {
+        return failureRate();
+    }
+    
+    @Override
+    public long getRejectedCalls() {
+        return rejectedCalls.sum();
+    }
+    
+    @Override
+    public synchronized long getTransitionsToOpen() {
+        return transitionsToOpen;
+    }
+    
+    @Override
+    public synchronized long getTransitionsToHalfOpen() {
+        return transitionsToHalfOpen;
+    }
+    
+    @Override
+    public synchronized long getTransitionsToClosed() {
+        return transitionsToClosed;
+    }
+    
+    @Override
+    public synchronized long getRemainingOpenMillis() {
+        return state == State.OPEN ? Math.max(0L, openUntil - System.currentTimeMillis()) : 0L;
+    }
+}
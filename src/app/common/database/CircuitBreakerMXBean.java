@@ -0,0 +1,32 @@
+package app.common.database;
+
+/**
+ * 회로 차단기 상태와 지표를 JMX로 노출하기 위한 MXBean 인터페이스입니다.
+ * "app.manazoo:type=CircuitBreaker,name=이름" 이름으로 등록됩니다.
+ * 
+ * @author MANAZOO Team
+ * @since 2.0
+ */
+public interface CircuitBreakerMXBean {
+    
+    /** @return 현재 상태 (CLOSED, OPEN, HALF_OPEN) */
+    String getStateName();
+    
+    /** @return 최근 구간의 실패율 (%) */
+    double getFailureRatePercent();
+    
+    /** @return 차단되어 거부된 누적 호출 수 */
+    long getRejectedCalls();
+    
+    /** @return OPEN 상태로 전환된 누적 횟수 */
+    long getTransitionsToOpen();
+    
+    /** @return HALF_OPEN 상태로 전환된 누적 횟수 */
+    long getTransitionsToHalfOpen();
+    
+    /** @return CLOSED 상태로 전환된 누적 횟수 */
+    long getTransitionsToClosed();
+    
+    /** @return OPEN 상태에서 다음 시험 호출까지 남은 시간 (ms, OPEN이 아니면 0) */
+    long getRemainingOpenMillis();
+}
@@ -0,0 +1,190 @@
+package app.common.database;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+
+/**
+ * 현재 스레드에서 진행 중인 트랜잭션의 연결을 보관하는 컨텍스트입니다.
+ * 
+ * <p>트랜잭션 매니저가 연결을 {@link #bind(Connection)}하면, 같은 스레드에서
+ * {@link PooledDataSource#getConnection()}을 호출하는 모든 Repository가 새 연결을 대여하지 않고
+ * 이 연결에 참여합니다. 참여한 Repository에게는 트랜잭션 경계를 건드리지 못하도록 감싼 연결이 전달됩니다.</p>
+ * 
+ * <ul>
+ *   <li>close(), commit(), setAutoCommit(), setReadOnly()는 무시됩니다. 커밋과 반환은 트랜잭션 매니저가 합니다.</li>
+ *   <li>rollback()은 즉시 롤백하지 않고 트랜잭션을 롤백 전용(rollback-only)으로 표시합니다.
+ *       트랜잭션 매니저는 롤백 전용 트랜잭션을 커밋하지 않습니다.</li>
+ * </ul>
+ * 
+ * <p>따라서 기존 Repository 코드의 지역 트랜잭션(setAutoCommit(false) ~ commit())은
+ * 트랜잭션 밖에서는 그대로 동작하고, 트랜잭션 안에서는 바깥 트랜잭션의 일부가 됩니다.</p>
+ * 
+ * <p>바인딩은 스택으로 관리됩니다. 독립 트랜잭션(REQUIRES_NEW)이 새 연결을 바인딩하면 바깥 연결은
+ * 잠시 가려지고, 독립 트랜잭션이 {@link #unbind()}하면 다시 바깥 연결이 현재 연결이 됩니다.</p>
+ * 
+ * @author MANAZOO Team
+ * @since 2.0
+ */
+public final class ConnectionContext {
+    
+    private static final ThreadLocal<Binding> CURRENT = new ThreadLocal<>();
+    
+    /**
+     * 스레드에 바인딩된 트랜잭션 연결과 상태입니다.
+     */
+    private static final class Binding {
+        private final Connection connection;
+        private final Binding suspended;       // 이 바인딩이 가린 바깥 트랜잭션
+        private boolean rollbackOnly;
+        
+        private Binding(Connection connection, Binding suspended) {
+            this.connection = connection;
+            this.suspended = suspended;
+        }
+    }
+    
+    private ConnectionContext() {
+        // 유틸리티 클래스이므로 인스턴스 생성 방지
+    }
+    
+    /**
+     * 현재 스레드에 트랜잭션 연결을 바인딩합니다.
+     * 이미 바인딩된 연결이 있으면 {@link #unbind()}될 때까지 가려집니다.
+     * 
+     * @param connection 트랜잭션을 시작한 연결
+     */
+    public static void bind(Connection connection) {
+        CURRENT.set(new Binding(connection, CURRENT.get()));
+    }
+    
+    /**
+     * 현재 스레드의 트랜잭션 연결 바인딩을 해제합니다.
+     * 가려져 있던 바깥 트랜잭션 연결이 있으면 다시 현재 연결이 됩니다.
+     */
+    public static void unbind() {
+        Binding binding = CURRENT.get();
+        if (binding == null || binding.suspended == null) {
+            CURRENT.remove();
+        } else {
+            CURRENT.set(binding.suspended);
+        }
+    }
+    
+    /**
+     * 현재 스레드에 트랜잭션 연결이 바인딩되어 있는지 확인합니다.
+     * 
+     * @return 바인딩 여부
+     */
+    public static boolean isBound() {
+        return CURRENT.get() != null;
+    }
+    
+    /**
+     * 바인딩된 트랜잭션에 참여하는 연결을 반환합니다.
+     * 
+     * @return 트랜잭션 경계 호출이 무시되는 연결, 바인딩된 연결이 없으면 null
+     */
+    public static Connection getBoundConnection() {
+        Binding binding = CURRENT.get();
+        if (binding == null) {
+            return null;
+        }
+        return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(),
+                new Class<?>[] { Connection.class }, new ParticipantHandler(binding));
+    }
+    
+    /**
+     * 현재 트랜잭션을 롤백 전용으로 표시합니다.
+     */
+    public static void setRollbackOnly() {
+        Binding binding = CURRENT.get();
+        if (binding != null) {
+            binding.rollbackOnly = true;
+        }
+    }
+    
+    /**
+     * 현재 트랜잭션의 롤백 전용 표시를 지정한 값으로 되돌립니다.
+     * 세이브포인트까지 롤백한 중첩 트랜잭션이 안쪽에서 생긴 표시를 지울 때 사용합니다.
+     * 
+     * @param rollbackOnly 되돌릴 값
+     */
+    public static void restoreRollbackOnly(boolean rollbackOnly) {
+        Binding binding = CURRENT.get();
+        if (binding != null) {
+            binding.rollbackOnly = rollbackOnly;
+        }
+    }
+    
+    /**
+     * 현재 트랜잭션이 롤백 전용으로 표시되었는지 확인합니다.
+     * 
+     * @return 롤백 전용 여부
+     */
+    public static boolean isRollbackOnly() {
+        Binding binding = CURRENT.get();
+        return binding != null && binding.rollbackOnly;
+    }
+    
+    /**
+     * 트랜잭션에 참여한 Repository에게 전달되는 연결의 호출 처리기입니다.
+     * 트랜잭션 경계에 관한 호출만 가로채고 나머지는 바인딩된 연결로 위임합니다.
+     */
+    private static final class ParticipantHandler implements InvocationHandler {
+        
+        private final Binding binding;
+        private boolean closed;
+        
+        private ParticipantHandler(Binding binding) {
+            this.binding = binding;
+        }
+        
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            switch (method.getName()) {
+                case "close":
+                    closed = true;
+                    return null;
+                case "isClosed":
+                    return closed || binding.connection.isClosed();
+                case "commit":
+                case "setAutoCommit":
+                case "setReadOnly":
+                    checkOpen();
+                    return null;
+                case "rollback":
+                    checkOpen();
+                    if (args == null) {
+                        binding.rollbackOnly = true;
+                        return null;
+                    }
+                    break;
+                case "equals":
+                    return proxy == args[0];
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                case "toString":
+                    return "TransactionBound[" + binding.connection + "]";
+                default:
+                    checkOpen();
+                    break;
+            }
+            
+            try {
+                return method.invoke(binding.connection, args);
+            } catch (InvocationTargetException e) {
+                throw e.getCause();
+            }
+        }
+        
+        private void checkOpen() throws SQLException {
+            if (closed) {
+                throw new SQLException("이미 닫힌 연결입니다.");
+            }
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package app.common.database;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+
+/**
+ * Connection Pool이 새 물리 연결을 만들 때 사용하는 팩토리입니다.
+ * 기본 풀은 회로 차단기를 거치는 {@link app.config.DatabaseConnection#getGuardedConnection()}을,
+ * 복제본 풀은 복제본 주소로 연결하는 팩토리를 사용합니다.
+ * 
+ * @author MANAZOO Team
+ * @since 2.0
+ */
+@FunctionalInterface
+interface ConnectionFactory {
+    
+    /**
+     * 새 물리 연결을 생성합니다.
+     * 
+     * @return 새 Connection
+     * @throws SQLException 연결 생성 실패 시
+     */
+    Connection create() throws SQLException;
+}
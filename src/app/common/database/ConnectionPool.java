@@ -1,40 +1,191 @@
 package app.common.database;
 
+import app.config.DatabaseConfigLoader;
 import app.config.DatabaseConnection;
 import app.common.SimpleLogger;
+import app.common.metrics.JmxExporter;
 import java.sql.Connection;
 import java.sql.SQLException;
-import java.util.concurrent.ConcurrentLinkedQueue;
+import java.sql.SQLTimeoutException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
 
 /**
  * 간단한 Connection Pool 구현체입니다.
  * 기존 DatabaseConnection과 호환되도록 설계되었습니다.
  * 
+ * <p>{@link #getConnection()}은 {@link PooledConnection} 프록시를 반환하며,
+ * 프록시의 close()를 호출하면 물리 연결은 닫히지 않고 풀로 반환됩니다.
+ * Repository에서는 보통 {@link PooledDataSource}를 통해 연결을 얻습니다.</p>
+ * 
+ * <p><strong>초기화:</strong> 최소 연결 수만큼의 연결을 병렬로 열고 첫 연결이 준비되는 즉시
+ * 사용 가능해집니다. 나머지 연결은 백그라운드에서 채워지며, 첫 연결 준비 시간과
+ * 최소 연결 충족 시간은 시작 지표로 기록됩니다.</p>
+ * 
+ * <p><strong>크기 조정:</strong> 최소/최대 연결 수는 db.pool.minSize, db.pool.maxSize로 설정하며
+ * {@link #resize(int, int)} 또는 JMX로 실행 중에 바꿀 수 있습니다. db.pool.adaptive=true이면
+ * {@link PoolSizeController}가 대여 대기 시간 p95를 보고 최대 연결 수를 자동으로 늘리고 줄입니다.</p>
+ * 
+ * <p><strong>대기 방식:</strong> 사용 가능한 연결이 없으면 호출 스레드는 대기열에 들어가
+ * Condition으로 블로킹되며, 연결이 반환되는 즉시 깨어납니다.</p>
+ * <ul>
+ *   <li>공정 모드(db.pool.fair=true): 반환된 연결을 가장 오래 기다린 스레드에게 직접 전달(FIFO)</li>
+ *   <li>비공정 모드: 반환된 연결을 풀에 넣고 대기자를 깨우며, 새로 도착한 스레드가 먼저 가져갈 수 있음</li>
+ * </ul>
+ * 
+ * <p><strong>하우스키핑:</strong> 백그라운드 스레드가 주기적으로 다음 작업을 수행합니다.</p>
+ * <ul>
+ *   <li>최대 수명(maxLifetime)을 넘긴 유휴 연결 폐기</li>
+ *   <li>idleTimeout 동안 사용되지 않은 유휴 연결을 최소 연결 수까지 정리</li>
+ *   <li>keepaliveTime 동안 검증되지 않은 유휴 연결 검증 (keepalive)</li>
+ *   <li>최소 연결 수(minPoolSize) 유지</li>
+ * </ul>
+ * <p>덕분에 대여 시에는 최근 검증된 연결의 isValid() 왕복을 생략하고,
+ * 반환 시에는 유효성 검사를 하지 않습니다.</p>
+ * 
+ * <p><strong>누수 감지:</strong> db.pool.leakDetectionThreshold를 설정하면 대여 시점의
+ * 스레드와 호출 스택을 기록해 두고, 기준 시간보다 오래 반환되지 않은 연결을 로그로 보고합니다.
+ * 스택은 Throwable 생성 시 JVM 내부 형태로만 캡처되고, 실제 보고할 때만 문자열로 변환되므로
+ * 운영 환경에서 켜 두어도 부담이 적습니다.</p>
+ * 
+ * <p><strong>지표:</strong> 대여 대기 시간 분포, 연결 생성 시간, 유효성 검사 실패, 시간 초과,
+ * 누수 횟수를 잠금 없이 기록하며, {@link #getStats()} 스냅샷과
+ * JMX MXBean("app.manazoo:type=ConnectionPool")으로 조회할 수 있습니다.</p>
+ * 
+ * <p><strong>복제본:</strong> 기본 풀은 {@link #getInstance()}로 얻는 싱글톤이며,
+ * 읽기 전용 복제본 풀은 {@link ReplicaRouter}가 복제본마다 하나씩 만들어 관리합니다.
+ * 복제본 풀의 MXBean은 "app.manazoo:type=ConnectionPool,name=replica-N"으로 등록됩니다.</p>
+ * 
  * @author MANAZOO Team
  * @since 2.0
  */
 public class ConnectionPool {
     
-    private final ConcurrentLinkedQueue<Connection> availableConnections;
-    private final ConcurrentLinkedQueue<Connection> usedConnections;
+    private final Deque<PoolEntry> availableConnections;     // lock으로 보호
+    private final Deque<Waiter> waiters;                     // lock으로 보호
+    private final Set<PoolEntry> usedConnections;            // 식별자(identity) 기반 O(1) 추가/삭제
     private final AtomicInteger connectionCount;
+    private final ReentrantLock lock;
+    private final ScheduledExecutorService housekeeper;
+    private final PoolMetrics metrics;
     private final SimpleLogger logger;
+    private final String name;
+    private final ConnectionFactory connectionFactory;
+    private volatile boolean shutdown;
     
     // 설정값들
-    private final int minPoolSize = 5;      // 최소 연결 수
-    private final int maxPoolSize = 20;     // 최대 연결 수
-    private final long connectionTimeout = 30000; // 30초
+    private volatile int minPoolSize;       // 최소 연결 수 (실행 중 변경 가능)
+    private volatile int maxPoolSize;       // 최대 연결 수 (실행 중 변경 가능)
+    private final long connectionTimeout;   // 연결 획득 대기 시간 (ms)
+    private final boolean fair;             // 공정 모드 여부
+    private final long idleTimeout;         // 유휴 연결 정리 시간 (ms)
+    private final long maxLifetime;         // 연결 최대 수명 (ms)
+    private final long keepaliveTime;       // 유휴 연결 검증 주기 (ms)
+    private final long validationBypassWindow; // 대여 시 검증 생략 시간 (ms)
+    private final long leakDetectionThreshold; // 누수 판단 기준 시간 (ms, 0이면 비활성화)
+    private final int statementCacheSize;   // 연결당 PreparedStatement 캐시 크기 (0이면 비활성화)
+    private final PoolSizeController sizeController; // 적응형 크기 조정 (비활성화 시 null)
+    
+    /** 초기 연결을 병렬로 만드는 최대 스레드 수 */
+    private static final int MAX_WARMUP_THREADS = 8;
+    
+    /** 기본(쓰기) 풀의 이름 */
+    static final String PRIMARY_NAME = "primary";
     
     private static ConnectionPool instance;
     
-    private ConnectionPool() {
-        this.availableConnections = new ConcurrentLinkedQueue<>();
-        this.usedConnections = new ConcurrentLinkedQueue<>();
+    /**
+     * 연결을 기다리는 스레드 한 개를 나타냅니다.
+     * 필드는 모두 lock을 잡은 상태에서만 읽고 씁니다.
+     */
+    private static final class Waiter {
+        private final Condition condition;
+        private PoolEntry handedOff;     // 공정 모드에서 직접 전달받은 연결
+        private boolean slotGranted;     // 폐기된 연결 자리를 넘겨받아 새 연결을 만들 권한
+        
+        private Waiter(Condition condition) {
+            this.condition = condition;
+        }
+    }
+    
+    /**
+     * @param name 풀 이름 (로그, 스레드, JMX 이름에 사용)
+     * @param connectionFactory 물리 연결 팩토리
+     */
+    ConnectionPool(String name, ConnectionFactory connectionFactory) {
+        this.name = name;
+        this.connectionFactory = connectionFactory;
+        DatabaseConfigLoader config = DatabaseConnection.getConfigLoader();
+        validateSize(config.getPoolMinSize(), config.getPoolMaxSize());
+        this.minPoolSize = config.getPoolMinSize();
+        this.maxPoolSize = config.getPoolMaxSize();
+        this.connectionTimeout = config.getPoolAcquireTimeout();
+        this.fair = config.isPoolFair();
+        this.idleTimeout = config.getPoolIdleTimeout();
+        this.maxLifetime = config.getPoolMaxLifetime();
+        this.keepaliveTime = config.getPoolKeepaliveTime();
+        this.validationBypassWindow = config.getPoolValidationBypassWindow();
+        this.leakDetectionThreshold = config.getPoolLeakDetectionThreshold();
+        this.statementCacheSize = config.getPoolStatementCacheSize();
+        
+        this.availableConnections = new ArrayDeque<>();
+        this.waiters = new ArrayDeque<>();
+        this.usedConnections = ConcurrentHashMap.newKeySet();
         this.connectionCount = new AtomicInteger(0);
+        this.lock = new ReentrantLock(fair);
+        this.metrics = new PoolMetrics();
         this.logger = SimpleLogger.getLogger(ConnectionPool.class);
+        this.sizeController = config.isPoolAdaptive()
+                ? new PoolSizeController(this, maxPoolSize, config.getPoolAdaptiveCeiling(),
+                        config.getPoolAdaptiveTargetWaitMillis())
+                : null;
+        
+        initializePool(config.getPoolWarmupTimeout());
+        
+        // 하우스키핑 스레드 시작 (데몬 스레드이므로 애플리케이션 종료를 막지 않음)
+        long period = config.getPoolHousekeepingPeriod();
+        this.housekeeper = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            String threadName = isPrimary() ? "manazoo-pool-housekeeper" : "manazoo-pool-housekeeper-" + name;
+            Thread thread = new Thread(runnable, threadName);
+            thread.setDaemon(true);
+            return thread;
+        });
+        housekeeper.scheduleWithFixedDelay(this::housekeep, period, period, TimeUnit.MILLISECONDS);
         
-        initializePool();
+        // 누수 감지는 기준 시간의 절반 주기로 검사 (최소 1초)
+        if (leakDetectionThreshold > 0) {
+            long leakCheckPeriod = Math.max(1000L, leakDetectionThreshold / 2);
+            housekeeper.scheduleWithFixedDelay(this::detectLeaks, leakCheckPeriod, leakCheckPeriod,
+                    TimeUnit.MILLISECONDS);
+        }
+        
+        if (sizeController != null) {
+            long interval = config.getPoolAdaptiveInterval();
+            housekeeper.scheduleWithFixedDelay(this::adjustPoolSize, interval, interval, TimeUnit.MILLISECONDS);
+            logger.info("Connection Pool(" + name + ") 적응형 크기 조정 사용 (최대 " + maxPoolSize + " ~ "
+                    + config.getPoolAdaptiveCeiling() + ", 목표 대기 p95 "
+                    + config.getPoolAdaptiveTargetWaitMillis() + "ms)");
+        }
+        
+        if (isPrimary()) {
+            JmxExporter.register("ConnectionPool", new JmxView());
+        } else {
+            JmxExporter.register("ConnectionPool", name, new JmxView());
+        }
     }
     
     /**
@@ -44,84 +195,466 @@ public class ConnectionPool {
      */
     public static synchronized ConnectionPool getInstance() {
         if (instance == null) {
-            instance = new ConnectionPool();
+            instance = new ConnectionPool(PRIMARY_NAME, DatabaseConnection::getGuardedConnection);
         }
         return instance;
     }
     
     /**
-     * 초기 연결 풀을 생성합니다.
+     * 풀 이름을 반환합니다.
+     * 
+     * @return 풀 이름 (기본 풀은 "primary")
+     */
+    public String getName() {
+        return name;
+    }
+    
+    private boolean isPrimary() {
+        return PRIMARY_NAME.equals(name);
+    }
+    
+    /**
+     * 현재 대여 중인 연결 수를 잠금 없이 반환합니다.
+     * 복제본 선택처럼 자주 호출되는 곳에서 부하 지표로 사용합니다.
+     * 
+     * @return 사용 중인 연결 수
+     */
+    int getActiveConnectionCount() {
+        return usedConnections.size();
+    }
+    
+    /**
+     * 현재 최소 연결 수를 반환합니다.
+     * 
+     * @return 최소 연결 수
+     */
+    public int getMinPoolSize() {
+        return minPoolSize;
+    }
+    
+    /**
+     * 현재 최대 연결 수를 반환합니다.
+     * 
+     * @return 최대 연결 수
+     */
+    public int getMaxPoolSize() {
+        return maxPoolSize;
+    }
+    
+    /**
+     * 실행 중에 풀 크기를 변경합니다. 재시작 없이 즉시 적용됩니다.
+     * 
+     * <p>최대 연결 수를 늘리면 기다리던 스레드가 바로 새 연결을 만들 수 있고,
+     * 줄이면 남는 유휴 연결은 즉시, 사용 중인 연결은 반환될 때 닫힙니다.
+     * 최소 연결 수를 늘리면 하우스키핑 스레드가 부족한 연결을 채웁니다.</p>
+     * 
+     * @param newMinPoolSize 새 최소 연결 수
+     * @param newMaxPoolSize 새 최대 연결 수
+     * @throws IllegalArgumentException 최소가 0 미만이거나 최대가 1 미만이거나 최소가 최대보다 큰 경우
      */
-    private void initializePool() {
-        logger.info("Connection Pool 초기화 시작 (최소: " + minPoolSize + ", 최대: " + maxPoolSize + ")");
+    public void resize(int newMinPoolSize, int newMaxPoolSize) {
+        validateSize(newMinPoolSize, newMaxPoolSize);
         
+        int oldMin;
+        int oldMax;
+        List<PoolEntry> excess = new ArrayList<>();
+        lock.lock();
         try {
-            // 최소 연결 수만큼 미리 생성
-            for (int i = 0; i < minPoolSize; i++) {
-                Connection connection = createNewConnection();
-                availableConnections.offer(connection);
-                connectionCount.incrementAndGet();
-            }
+            oldMin = minPoolSize;
+            oldMax = maxPoolSize;
+            minPoolSize = newMinPoolSize;
+            maxPoolSize = newMaxPoolSize;
             
-            logger.info("✅ Connection Pool 초기화 완료 (생성된 연결: " + connectionCount.get() + "개)");
+            // 줄어든 경우: 가장 오래 쉬고 있는 유휴 연결부터 정리
+            while (connectionCount.get() - excess.size() > newMaxPoolSize && !availableConnections.isEmpty()) {
+                excess.add(availableConnections.pollLast());
+            }
             
+            // 늘어난 경우: 기다리던 스레드에게 새 연결 자리를 넘김
+            if (fair) {
+                while (!waiters.isEmpty() && tryReserveSlot()) {
+                    Waiter waiter = waiters.pollFirst();
+                    waiter.slotGranted = true;
+                    waiter.condition.signal();
+                }
+            } else {
+                for (Waiter waiter : waiters) {
+                    waiter.condition.signal();
+                }
+            }
+        } finally {
+            lock.unlock();
+        }
+        
+        for (PoolEntry entry : excess) {
+            discard(entry);
+        }
+        if (newMinPoolSize > oldMin && !shutdown) {
+            housekeeper.execute(this::fillPool);
+        }
+        logger.info("Connection Pool(" + name + ") 크기 변경: 최소 " + oldMin + " → " + newMinPoolSize
+                + ", 최대 " + oldMax + " → " + newMaxPoolSize + " (정리된 유휴 연결: " + excess.size() + ")");
+    }
+    
+    private static void validateSize(int min, int max) {
+        if (min < 0 || max < 1 || min > max) {
+            throw new IllegalArgumentException("잘못된 풀 크기입니다 (최소: " + min + ", 최대: " + max + ")");
+        }
+    }
+    
+    /**
+     * 적응형 크기 조정을 한 번 수행합니다. 하우스키핑 스레드에서 주기적으로 실행됩니다.
+     */
+    private void adjustPoolSize() {
+        if (shutdown) {
+            return;
+        }
+        try {
+            sizeController.evaluate();
+        } catch (RuntimeException e) {
+            // 예외가 발생해도 다음 주기 실행이 취소되지 않도록 처리
+            logger.error("풀 크기 조정 중 오류", e);
+        }
+    }
+    
+    /**
+     * 초기 연결 풀을 생성합니다.
+     * 
+     * <p>최소 연결 수만큼의 연결을 병렬로 열고, 첫 연결이 준비되면 바로 반환합니다.
+     * 나머지 연결은 백그라운드에서 계속 생성되어 풀에 추가됩니다.
+     * 모든 연결이 실패하거나 warmupTimeout 안에 하나도 준비되지 않으면 초기화에 실패합니다.</p>
+     * 
+     * @param warmupTimeout 첫 연결을 기다리는 최대 시간 (ms)
+     */
+    private void initializePool(long warmupTimeout) {
+        logger.info("Connection Pool(" + name + ") 초기화 시작 (최소: " + minPoolSize + ", 최대: " + maxPoolSize +
+                   ", 공정 모드: " + fair + ")");
+        if (minPoolSize == 0) {
+            return;
+        }
+        
+        // 최소 연결 수만큼 자리를 미리 예약하고 병렬로 생성
+        Warmup warmup = new Warmup(minPoolSize);
+        connectionCount.set(minPoolSize);
+        ExecutorService executor = Executors.newFixedThreadPool(Math.min(minPoolSize, MAX_WARMUP_THREADS),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "manazoo-pool-warmup-" + name);
+                    thread.setDaemon(true);
+                    return thread;
+                });
+        for (int i = 0; i < minPoolSize; i++) {
+            executor.execute(() -> warmUpConnection(warmup));
+        }
+        executor.shutdown(); // 제출된 작업은 끝까지 실행되고 스레드는 스스로 종료됨
+        
+        boolean ready;
+        try {
+            ready = warmup.firstReady.await(warmupTimeout, TimeUnit.MILLISECONDS) && warmup.created.get() > 0;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            ready = false;
+        }
+        
+        if (!ready) {
+            // 아직 진행 중인 생성 작업이 만든 연결은 풀에 넣지 않고 닫도록 종료 상태로 전환
+            shutdown = true;
+            closeIdleEntries();
+            SQLException cause = warmup.firstFailure.get();
+            if (cause == null) {
+                cause = new SQLTimeoutException("첫 연결을 " + warmupTimeout + "ms 안에 얻지 못했습니다.");
+            }
+            logger.error("❌ Connection Pool(" + name + ") 초기화 실패", cause);
+            throw new RuntimeException("Connection Pool 초기화 실패", cause);
+        }
+        
+        logger.info(String.format("✅ Connection Pool(%s) 첫 연결 준비 완료 (%.1fms), 나머지 %d개는 백그라운드에서 생성",
+                name, metrics.timeToFirstConnectionNanos / 1_000_000.0, minPoolSize - 1));
+    }
+    
+    /**
+     * 초기화 시 연결 한 개를 만들어 풀에 넣습니다. 워밍업 스레드에서 실행됩니다.
+     * 
+     * @param warmup 워밍업 진행 상황
+     */
+    private void warmUpConnection(Warmup warmup) {
+        PoolEntry entry;
+        try {
+            entry = createEntry();
         } catch (SQLException e) {
-            logger.error("❌ Connection Pool 초기화 실패", e);
-            throw new RuntimeException("Connection Pool 초기화 실패", e);
+            releaseSlot();
+            warmup.failed(e);
+            return;
+        }
+        if (addToPool(entry)) {
+            warmup.succeeded();
+        }
+    }
+    
+    /**
+     * 초기 연결 생성 진행 상황을 추적합니다.
+     */
+    private final class Warmup {
+        private final int total;
+        private final long startNanos = System.nanoTime();
+        private final CountDownLatch firstReady = new CountDownLatch(1);
+        private final AtomicInteger created = new AtomicInteger();
+        private final AtomicInteger failures = new AtomicInteger();
+        private final AtomicReference<SQLException> firstFailure = new AtomicReference<>();
+        
+        private Warmup(int total) {
+            this.total = total;
+        }
+        
+        private void succeeded() {
+            long elapsed = System.nanoTime() - startNanos;
+            int count = created.incrementAndGet();
+            if (count == 1) {
+                metrics.timeToFirstConnectionNanos = elapsed;
+                firstReady.countDown();
+            }
+            if (count == total) {
+                metrics.timeToFullPoolNanos = elapsed;
+                logger.info(String.format("✅ Connection Pool(%s) 초기 연결 %d개 생성 완료 (%.1fms)",
+                        name, total, elapsed / 1_000_000.0));
+            }
+        }
+        
+        private void failed(SQLException e) {
+            firstFailure.compareAndSet(null, e);
+            int count = failures.incrementAndGet();
+            if (created.get() > 0) {
+                // 풀은 이미 사용 가능하며, 부족한 연결은 하우스키핑이 다시 채움
+                logger.error("Connection Pool(" + name + ") 초기 연결 생성 실패 (" + count + "/" + total + ")", e);
+            }
+            if (count == total) {
+                // 모두 실패했으므로 더 기다리지 않고 즉시 실패 처리
+                firstReady.countDown();
+            }
         }
     }
     
     /**
      * 연결 풀에서 연결을 가져옵니다.
      * 기존 DatabaseConnection.getConnection()과 호환됩니다.
+     * 반환된 연결의 close()를 호출하면 연결이 풀로 반환됩니다.
      * 
-     * @return 사용 가능한 Connection
+     * @return 사용 가능한 Connection ({@link PooledConnection})
      * @throws SQLException 연결 획득 실패 시
+     * @throws SQLTimeoutException 설정된 대기 시간 안에 연결을 얻지 못한 경우
      */
     public Connection getConnection() throws SQLException {
-        long startTime = System.currentTimeMillis();
+        long startNanos = System.nanoTime();
+        long deadline = startNanos + TimeUnit.MILLISECONDS.toNanos(connectionTimeout);
         
-        while (System.currentTimeMillis() - startTime < connectionTimeout) {
-            // 1. 사용 가능한 연결이 있는지 확인
-            Connection connection = availableConnections.poll();
+        while (true) {
+            // 1. 유휴 연결을 가져오거나, 새 연결을 만들 자리를 확보하거나, 대기
+            PoolEntry entry = acquireEntry(deadline);
             
-            if (connection != null && isValidConnection(connection)) {
-                // 사용 중인 연결 목록으로 이동
-                usedConnections.offer(connection);
-                logger.debug("연결 풀에서 연결 획득 (사용 가능: " + availableConnections.size() + 
-                           ", 사용 중: " + usedConnections.size() + ")");
-                return connection;
-            }
-            
-            // 2. 사용 가능한 연결이 없으면 새로 생성 시도
-            if (connectionCount.get() < maxPoolSize) {
+            // 2. 새 연결을 만들 자리를 확보한 경우 (lock 밖에서 생성)
+            if (entry == null) {
                 try {
-                    connection = createNewConnection();
-                    connectionCount.incrementAndGet();
-                    usedConnections.offer(connection);
-                    
-                    logger.debug("새 연결 생성 및 할당 (전체 연결: " + connectionCount.get() + ")");
-                    return connection;
-                    
+                    entry = createEntry();
                 } catch (SQLException e) {
                     logger.error("새 연결 생성 실패", e);
+                    releaseSlot();
+                    throw e;
                 }
+                logger.debug("새 연결 생성 및 할당 (전체 연결: {})", connectionCount);
+                return borrow(entry, startNanos);
+            }
+            
+            // 3. 유휴 연결 검증 (수명이 다한 연결은 재사용하지 않음)
+            if (!entry.isExpired(System.currentTimeMillis()) && isAlive(entry)) {
+                return borrow(entry, startNanos);
             }
             
-            // 3. 잠시 대기 후 재시도
+            // 비정상 또는 만료된 연결은 폐기하고 다시 시도
+            discard(entry);
+        }
+    }
+    
+    /**
+     * 유휴 연결을 꺼내거나 새 연결 생성 자리를 예약합니다.
+     * 둘 다 불가능하면 deadline까지 대기열에서 블로킹됩니다.
+     * 
+     * @param deadline 대기 마감 시각 (System.nanoTime 기준)
+     * @return 유휴 연결, 또는 새 연결을 만들어야 하면 null
+     * @throws SQLException 대기 시간 초과, 인터럽트, 풀 종료 시
+     */
+    private PoolEntry acquireEntry(long deadline) throws SQLException {
+        lock.lock();
+        try {
+            checkNotShutdown();
+            
+            // 공정 모드에서는 이미 기다리는 스레드가 있으면 새치기하지 않음
+            if (!fair || waiters.isEmpty()) {
+                PoolEntry entry = availableConnections.pollFirst();
+                if (entry != null) {
+                    return entry;
+                }
+                if (tryReserveSlot()) {
+                    return null;
+                }
+            }
+            
+            Waiter waiter = new Waiter(lock.newCondition());
+            waiters.addLast(waiter);
+            boolean claimed = false;
             try {
-                Thread.sleep(100);
+                while (true) {
+                    if (waiter.handedOff != null || waiter.slotGranted) {
+                        claimed = true;
+                        return waiter.handedOff;
+                    }
+                    if (!fair) {
+                        PoolEntry entry = availableConnections.pollFirst();
+                        if (entry != null) {
+                            return entry;
+                        }
+                        if (tryReserveSlot()) {
+                            return null;
+                        }
+                    }
+                    checkNotShutdown();
+                    
+                    long remaining = deadline - System.nanoTime();
+                    if (remaining <= 0L) {
+                        metrics.timeouts.increment();
+                        throw new SQLTimeoutException("Connection Pool에서 연결 획득 시간 초과 ("
+                                + connectionTimeout + "ms, 대기 중인 스레드: " + waiters.size() + ")");
+                    }
+                    waiter.condition.awaitNanos(remaining);
+                }
             } catch (InterruptedException e) {
                 Thread.currentThread().interrupt();
                 throw new SQLException("연결 대기 중 인터럽트 발생", e);
+            } finally {
+                waiters.remove(waiter);
+                // 예외로 빠져나가는 순간 전달받은 연결/자리가 있으면 다음 대기자에게 넘김
+                if (!claimed) {
+                    returnUnclaimed(waiter);
+                }
             }
+        } finally {
+            lock.unlock();
+        }
+    }
+    
+    /**
+     * 예외로 종료된 대기자가 이미 넘겨받은 연결이나 자리를 되돌립니다.
+     * lock을 잡은 상태에서 호출되어야 합니다.
+     * 
+     * @param waiter 종료된 대기자
+     */
+    private void returnUnclaimed(Waiter waiter) {
+        if (waiter.handedOff != null) {
+            PoolEntry entry = waiter.handedOff;
+            waiter.handedOff = null;
+            handOff(entry);
+        } else if (waiter.slotGranted) {
+            waiter.slotGranted = false;
+            releaseSlotLocked();
+        } else if (!fair && !availableConnections.isEmpty() && !waiters.isEmpty()) {
+            // 이 대기자에게 보낸 신호가 소비되지 않았으므로 다음 대기자를 깨움
+            waiters.peekFirst().condition.signal();
+        }
+    }
+    
+    /**
+     * 최대 연결 수 이내라면 새 연결을 위한 자리를 하나 예약합니다.
+     * lock을 잡은 상태에서 호출되어야 합니다.
+     * 
+     * @return 예약 성공 여부
+     */
+    private boolean tryReserveSlot() {
+        if (connectionCount.get() < maxPoolSize) {
+            connectionCount.incrementAndGet();
+            return true;
+        }
+        return false;
+    }
+    
+    /**
+     * 연결 한 개 분량의 자리를 반납합니다.
+     * 대기자가 있으면 그 대기자가 새 연결을 만들 수 있도록 자리를 넘깁니다.
+     */
+    private void releaseSlot() {
+        lock.lock();
+        try {
+            releaseSlotLocked();
+        } finally {
+            lock.unlock();
+        }
+    }
+    
+    private void releaseSlotLocked() {
+        Waiter waiter = waiters.peekFirst();
+        // 풀이 축소되어 최대 연결 수를 넘은 상태라면 자리를 넘기지 않고 반납
+        if (fair && waiter != null && connectionCount.get() <= maxPoolSize) {
+            waiters.pollFirst();
+            waiter.slotGranted = true;
+            waiter.condition.signal();
+            return;
+        }
+        connectionCount.decrementAndGet();
+        if (waiter != null) {
+            waiter.condition.signal();
         }
-        
-        throw new SQLException("Connection Pool에서 연결 획득 시간 초과");
+    }
+    
+    /**
+     * 사용 가능한 연결을 대기자에게 넘기거나 유휴 목록에 넣습니다.
+     * lock을 잡은 상태에서 호출되어야 합니다.
+     * 
+     * @param entry 넘길 풀 엔트리
+     */
+    private void handOff(PoolEntry entry) {
+        Waiter waiter = waiters.peekFirst();
+        if (fair && waiter != null) {
+            // 가장 오래 기다린 스레드에게 직접 전달
+            waiters.pollFirst();
+            waiter.handedOff = entry;
+            waiter.condition.signal();
+            return;
+        }
+        // 최근 반환된 연결부터 재사용 (LIFO)
+        availableConnections.offerFirst(entry);
+        if (waiter != null) {
+            waiter.condition.signal();
+        }
+    }
+    
+    private void checkNotShutdown() throws SQLException {
+        if (shutdown) {
+            throw new SQLException("Connection Pool이 종료되었습니다.");
+        }
+    }
+    
+    /**
+     * 풀 엔트리를 사용 중 목록으로 옮기고 프록시 연결을 만들어 반환합니다.
+     * 
+     * @param entry 대여할 풀 엔트리
+     * @param startNanos getConnection() 호출 시각 (대기 시간 측정용)
+     * @return 사용자에게 전달할 프록시 연결
+     */
+    private Connection borrow(PoolEntry entry, long startNanos) {
+        long waitNanos = System.nanoTime() - startNanos;
+        metrics.borrowWait.record(waitNanos);
+        entry.touch();
+        if (leakDetectionThreshold > 0) {
+            entry.recordBorrower();
+        }
+        usedConnections.add(entry);
+        if (sizeController != null) {
+            sizeController.recordBorrow(waitNanos, usedConnections.size());
+        }
+        logger.debug("연결 풀에서 연결 획득 (전체: {}, 사용 중: {})", connectionCount, usedConnections.size());
+        return new PooledConnection(this, entry);
     }
     
     /**
      * 사용이 끝난 연결을 풀로 반환합니다.
+     * {@link PooledConnection#close()}와 동일하게 동작합니다.
      * 
      * @param connection 반환할 연결
      */
@@ -130,31 +663,119 @@ public class ConnectionPool {
             return;
         }
         
-        if (usedConnections.remove(connection)) {
-            if (isValidConnection(connection)) {
-                // 정상적인 연결은 재사용을 위해 풀로 반환
-                availableConnections.offer(connection);
-                logger.debug("연결 풀로 반환 (사용 가능: " + availableConnections.size() + 
-                           ", 사용 중: " + usedConnections.size() + ")");
-            } else {
-                // 비정상 연결은 제거하고 새로 생성
-                closeConnection(connection);
-                connectionCount.decrementAndGet();
-                logger.debug("비정상 연결 제거 (전체 연결: " + connectionCount.get() + ")");
+        try {
+            connection.close();
+        } catch (SQLException e) {
+            logger.error("연결 반환 중 오류", e);
+        }
+    }
+    
+    /**
+     * 프록시가 닫힐 때 호출되어 물리 연결을 풀로 돌려놓습니다.
+     * 커밋되지 않은 작업은 여기서 롤백하고, autoCommit/readOnly는 다음 대여자가
+     * 문장을 실행할 때 필요한 경우에만 바꿉니다. ({@link PooledConnection} 참고)
+     * 
+     * @param entry 반환할 풀 엔트리
+     */
+    void release(PoolEntry entry) {
+        if (!usedConnections.remove(entry)) {
+            return;
+        }
+        
+        if (entry.isLeakReported()) {
+            logger.info("누수로 보고되었던 연결이 반환되었습니다 (사용 시간: "
+                    + (System.currentTimeMillis() - entry.getBorrowedAt()) + "ms, 스레드: "
+                    + entry.getBorrowerThreadName() + ")");
+        }
+        entry.clearBorrower();
+        
+        // 반환 시에는 isValid() 왕복 없이 상태 초기화만 수행 (유효성은 대여 시/하우스키핑에서 확인)
+        if (shutdown || entry.isExpired(System.currentTimeMillis()) || connectionCount.get() > maxPoolSize
+                || !resetConnection(entry)) {
+            // 비정상 또는 만료된 연결, 풀 축소로 남는 연결은 제거
+            discard(entry);
+            return;
+        }
+        
+        // 정상적인 연결은 재사용을 위해 풀로 반환
+        entry.touch();
+        lock.lock();
+        try {
+            handOff(entry);
+        } finally {
+            lock.unlock();
+        }
+        logger.debug("연결 풀로 반환 (사용 중: {})", usedConnections.size());
+    }
+    
+    /**
+     * 사용 중인 연결을 풀에서 제거합니다. (Connection.abort 시 사용)
+     * 
+     * @param entry 제거할 풀 엔트리
+     */
+    void evict(PoolEntry entry) {
+        if (usedConnections.remove(entry)) {
+            releaseSlot();
+            logger.debug("연결 강제 제거 (전체 연결: {})", connectionCount);
+        }
+    }
+    
+    /**
+     * 풀에서 빠진 엔트리의 물리 연결을 닫고 자리를 반납합니다.
+     * 
+     * @param entry 폐기할 풀 엔트리
+     */
+    private void discard(PoolEntry entry) {
+        closeEntry(entry);
+        releaseSlot();
+        logger.debug("비정상 연결 제거 (전체 연결: {})", connectionCount);
+    }
+    
+    /**
+     * 반환된 연결에 커밋되지 않은 작업이 남아 있을 수 있으면 롤백합니다.
+     * 세션 상태(autoCommit, readOnly)는 되돌리지 않으므로, 같은 설정으로 트랜잭션을 반복하는
+     * 대여자는 상태 변경 왕복 없이 연결을 사용합니다.
+     * 
+     * @param entry 초기화할 풀 엔트리
+     * @return 초기화 성공 여부
+     */
+    private boolean resetConnection(PoolEntry entry) {
+        try {
+            if (entry.needsRollback()) {
+                entry.getConnection().rollback();
             }
+            entry.resetStatementTracking();
+            return true;
+        } catch (SQLException e) {
+            logger.debug("연결 상태 초기화 실패", e);
+            return false;
         }
     }
     
+    /**
+     * 새 물리 연결을 만들어 풀 엔트리로 감쌉니다.
+     * 
+     * @return 새 풀 엔트리
+     * @throws SQLException 연결 생성 실패 시
+     */
+    private PoolEntry createEntry() throws SQLException {
+        long startNanos = System.nanoTime();
+        Connection connection = createNewConnection();
+        metrics.connectionCreation.record(System.nanoTime() - startNanos);
+        StatementCache statementCache = statementCacheSize > 0
+                ? new StatementCache(statementCacheSize, metrics) : null;
+        return new PoolEntry(connection, maxLifetime, statementCache);
+    }
+    
     /**
      * 새로운 데이터베이스 연결을 생성합니다.
-     * 기존 DatabaseConnection을 활용합니다.
+     * 기본 풀은 기존 DatabaseConnection을 활용합니다.
      * 
      * @return 새로운 Connection
      * @throws SQLException 연결 생성 실패 시
      */
     private Connection createNewConnection() throws SQLException {
-        // 기존 DatabaseConnection을 그대로 활용!
-        return DatabaseConnection.getConnection();
+        return connectionFactory.create();
     }
     
     /**
@@ -172,6 +793,221 @@ public class ConnectionPool {
         }
     }
     
+    /**
+     * 대여할 연결이 살아 있는지 확인합니다.
+     * validationBypassWindow 안에 검증된 연결은 서버 왕복 없이 통과시킵니다.
+     * 
+     * @param entry 확인할 풀 엔트리
+     * @return 유효성 여부
+     */
+    private boolean isAlive(PoolEntry entry) {
+        if (System.currentTimeMillis() - entry.getLastValidatedAt() < validationBypassWindow) {
+            return true;
+        }
+        if (isValidConnection(entry.getConnection())) {
+            entry.markValidated();
+            return true;
+        }
+        metrics.validationFailures.increment();
+        return false;
+    }
+    
+    // ==================== 하우스키핑 ====================
+    
+    /**
+     * 하우스키핑 스레드에서 주기적으로 실행됩니다.
+     * 만료/유휴 연결 정리, 유휴 연결 keepalive 검증, 최소 연결 수 유지를 수행합니다.
+     */
+    private void housekeep() {
+        if (shutdown) {
+            return;
+        }
+        
+        try {
+            long now = System.currentTimeMillis();
+            List<PoolEntry> retired = new ArrayList<>();
+            List<PoolEntry> stale = new ArrayList<>();
+            
+            // 1. lock 안에서는 유휴 목록에서 꺼내기만 하고, 네트워크 작업은 lock 밖에서 수행
+            lock.lock();
+            try {
+                int removable = connectionCount.get() - minPoolSize;
+                // 뒤쪽일수록 오래 쉬고 있는 연결
+                Iterator<PoolEntry> iterator = availableConnections.descendingIterator();
+                while (iterator.hasNext()) {
+                    PoolEntry entry = iterator.next();
+                    if (entry.isExpired(now)) {
+                        iterator.remove();
+                        retired.add(entry);
+                    } else if (idleTimeout > 0 && removable > 0 && now - entry.getLastAccessedAt() > idleTimeout) {
+                        iterator.remove();
+                        retired.add(entry);
+                        removable--;
+                    } else if (keepaliveTime > 0 && now - entry.getLastValidatedAt() > keepaliveTime) {
+                        iterator.remove();
+                        stale.add(entry);
+                    }
+                }
+            } finally {
+                lock.unlock();
+            }
+            
+            // 2. 만료/유휴 연결 폐기
+            for (PoolEntry entry : retired) {
+                discard(entry);
+            }
+            
+            // 3. keepalive: 오래 검증되지 않은 유휴 연결 검증 후 복귀
+            for (PoolEntry entry : stale) {
+                if (isValidConnection(entry.getConnection())) {
+                    entry.markValidated();
+                    lock.lock();
+                    try {
+                        handOff(entry);
+                    } finally {
+                        lock.unlock();
+                    }
+                } else {
+                    metrics.validationFailures.increment();
+                    discard(entry);
+                }
+            }
+            
+            // 4. 최소 연결 수 유지
+            fillPool();
+            
+            if (!retired.isEmpty() || !stale.isEmpty()) {
+                logger.debug(() -> "하우스키핑 완료 (정리: " + retired.size() + ", 검증: " + stale.size() +
+                           ", 전체 연결: " + connectionCount.get() + ")");
+            }
+        } catch (RuntimeException e) {
+            // 예외가 전파되면 스케줄이 중단되므로 여기서 처리
+            logger.error("Connection Pool 하우스키핑 중 오류", e);
+        }
+    }
+    
+    /**
+     * 누수 기준 시간보다 오래 대여 중인 연결을 찾아 대여 위치와 함께 보고합니다.
+     * 같은 대여에 대해서는 한 번만 보고합니다.
+     */
+    private void detectLeaks() {
+        if (shutdown) {
+            return;
+        }
+        
+        try {
+            long now = System.currentTimeMillis();
+            for (PoolEntry entry : usedConnections) {
+                Throwable trace = entry.getBorrowTrace();
+                if (trace == null || entry.isLeakReported() || now - entry.getBorrowedAt() < leakDetectionThreshold) {
+                    continue;
+                }
+                entry.markLeakReported();
+                metrics.leaksDetected.increment();
+                logger.error("⚠️ 연결 누수 의심: " + (now - entry.getBorrowedAt()) + "ms 동안 반환되지 않음 (스레드: "
+                        + entry.getBorrowerThreadName() + ")" + formatBorrowTrace(trace));
+            }
+        } catch (RuntimeException e) {
+            logger.error("연결 누수 검사 중 오류", e);
+        }
+    }
+    
+    /**
+     * 대여 위치 스택을 보고용 문자열로 만듭니다. 풀 내부 프레임은 제외합니다.
+     * 
+     * @param trace 대여 시점에 캡처한 Throwable
+     * @return 스택 문자열
+     */
+    private String formatBorrowTrace(Throwable trace) {
+        StringBuilder sb = new StringBuilder();
+        for (StackTraceElement element : trace.getStackTrace()) {
+            if (element.getClassName().startsWith(ConnectionPool.class.getPackageName() + ".")) {
+                continue;
+            }
+            sb.append("\n    at ").append(element);
+        }
+        return sb.toString();
+    }
+    
+    /**
+     * 전체 연결 수가 최소 연결 수가 될 때까지 새 연결을 만듭니다.
+     */
+    private void fillPool() {
+        while (!shutdown) {
+            lock.lock();
+            try {
+                if (connectionCount.get() >= minPoolSize || !tryReserveSlot()) {
+                    return;
+                }
+            } finally {
+                lock.unlock();
+            }
+            
+            PoolEntry entry;
+            try {
+                entry = createEntry();
+            } catch (SQLException e) {
+                logger.error("최소 연결 수 유지를 위한 연결 생성 실패", e);
+                releaseSlot();
+                return;
+            }
+            
+            addToPool(entry);
+        }
+    }
+    
+    /**
+     * 새로 만든 연결을 대기자에게 넘기거나 유휴 목록에 넣습니다.
+     * 그 사이 풀이 종료되었으면 연결을 닫고 자리를 반납합니다.
+     * 
+     * @param entry 새 풀 엔트리
+     * @return 풀에 추가되었는지 여부
+     */
+    private boolean addToPool(PoolEntry entry) {
+        lock.lock();
+        try {
+            if (!shutdown) {
+                handOff(entry);
+                return true;
+            }
+            connectionCount.decrementAndGet();
+        } finally {
+            lock.unlock();
+        }
+        closeEntry(entry);
+        return false;
+    }
+    
+    /**
+     * 유휴 목록의 연결을 모두 닫습니다.
+     */
+    private void closeIdleEntries() {
+        List<PoolEntry> idle;
+        lock.lock();
+        try {
+            idle = new ArrayList<>(availableConnections);
+            availableConnections.clear();
+            connectionCount.addAndGet(-idle.size());
+        } finally {
+            lock.unlock();
+        }
+        for (PoolEntry entry : idle) {
+            closeEntry(entry);
+        }
+    }
+    
+    /**
+     * 엔트리의 문장 캐시를 비우고 물리 연결을 닫습니다.
+     * 
+     * @param entry 닫을 풀 엔트리
+     */
+    private void closeEntry(PoolEntry entry) {
+        if (entry.getStatementCache() != null) {
+            entry.getStatementCache().invalidate();
+        }
+        closeConnection(entry.getConnection());
+    }
+    
     /**
      * 연결을 안전하게 닫습니다.
      * 
@@ -187,36 +1023,218 @@ public class ConnectionPool {
         }
     }
     
+    /**
+     * 현재 연결을 기다리고 있는 스레드 수를 반환합니다.
+     * 
+     * @return 대기 중인 스레드 수
+     */
+    public int getWaitingThreadCount() {
+        lock.lock();
+        try {
+            return waiters.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+    
+    /**
+     * 현재 지표 스냅샷을 반환합니다.
+     * 
+     * @return Connection Pool 지표 스냅샷
+     */
+    public PoolStats getStats() {
+        int idle;
+        int waiting;
+        lock.lock();
+        try {
+            idle = availableConnections.size();
+            waiting = waiters.size();
+        } finally {
+            lock.unlock();
+        }
+        return new PoolStats(name, usedConnections.size(), idle, connectionCount.get(), waiting,
+                minPoolSize, maxPoolSize, metrics);
+    }
+    
     /**
      * Connection Pool의 현재 상태를 출력합니다.
      */
     public void printPoolStatus() {
-        logger.info("=== Connection Pool 상태 ===");
-        logger.info("전체 연결 수: " + connectionCount.get());
-        logger.info("사용 가능한 연결: " + availableConnections.size());
-        logger.info("사용 중인 연결: " + usedConnections.size());
-        logger.info("최소 연결 수: " + minPoolSize);
-        logger.info("최대 연결 수: " + maxPoolSize);
+        for (String line : getStats().format().split("\n")) {
+            logger.info(line);
+        }
     }
     
     /**
      * Connection Pool을 안전하게 종료합니다.
+     * 대기 중인 스레드는 즉시 깨어나 예외를 받습니다.
      */
     public void shutdown() {
-        logger.info("Connection Pool 종료 시작...");
+        logger.info("Connection Pool(" + name + ") 종료 시작...");
+        shutdown = true;
+        housekeeper.shutdownNow();
+        if (isPrimary()) {
+            JmxExporter.unregister("ConnectionPool");
+        } else {
+            JmxExporter.unregister("ConnectionPool", name);
+        }
         
         // 모든 연결 닫기
-        while (!availableConnections.isEmpty()) {
-            Connection connection = availableConnections.poll();
-            closeConnection(connection);
+        lock.lock();
+        try {
+            PoolEntry entry;
+            while ((entry = availableConnections.poll()) != null) {
+                closeEntry(entry);
+            }
+            for (Waiter waiter : waiters) {
+                waiter.condition.signal();
+            }
+        } finally {
+            lock.unlock();
         }
         
-        while (!usedConnections.isEmpty()) {
-            Connection connection = usedConnections.poll();
-            closeConnection(connection);
+        for (PoolEntry used : usedConnections) {
+            closeEntry(used);
         }
+        usedConnections.clear();
         
         connectionCount.set(0);
-        logger.info("✅ Connection Pool 종료 완료");
+        logger.info("✅ Connection Pool(" + name + ") 종료 완료");
+    }
+    
+    /**
+     * JMX에 노출되는 MXBean 구현입니다. 속성을 조회할 때마다 최신 스냅샷을 만듭니다.
+     */
+    private final class JmxView implements ConnectionPoolMXBean {
+        
+        @Override
+        public double getTimeToFirstConnectionMillis() {
+            return getStats().getTimeToFirstConnectionMillis();
+        }
+        
+        @Override
+        public double getTimeToFullPoolMillis() {
+            return getStats().getTimeToFullPoolMillis();
+        }
+        
+        @Override
+        public int getActiveConnections() {
+            return usedConnections.size();
+        }
+        
+        @Override
+        public int getIdleConnections() {
+            return getStats().getIdleConnections();
+        }
+        
+        @Override
+        public int getTotalConnections() {
+            return connectionCount.get();
+        }
+        
+        @Override
+        public int getThreadsAwaitingConnection() {
+            return getWaitingThreadCount();
+        }
+        
+        @Override
+        public int getMinPoolSize() {
+            return minPoolSize;
+        }
+        
+        @Override
+        public int getMaxPoolSize() {
+            return maxPoolSize;
+        }
+        
+        @Override
+        public void setMinPoolSize(int size) {
+            resize(size, Math.max(size, maxPoolSize));
+        }
+        
+        @Override
+        public void setMaxPoolSize(int size) {
+            resize(Math.min(minPoolSize, size), size);
+        }
+        
+        @Override
+        public long getBorrowCount() {
+            return metrics.borrowWait.getCount();
+        }
+        
+        @Override
+        public double getBorrowWaitP50Millis() {
+            return metrics.borrowWait.percentileMillis(50.0);
+        }
+        
+        @Override
+        public double getBorrowWaitP95Millis() {
+            return metrics.borrowWait.percentileMillis(95.0);
+        }
+        
+        @Override
+        public double getBorrowWaitP99Millis() {
+            return metrics.borrowWait.percentileMillis(99.0);
+        }
+        
+        @Override
+        public double getBorrowWaitMaxMillis() {
+            return metrics.borrowWait.maxMillis();
+        }
+        
+        @Override
+        public long getConnectionsCreated() {
+            return metrics.connectionCreation.getCount();
+        }
+        
+        @Override
+        public double getConnectionCreationAvgMillis() {
+            return metrics.connectionCreation.meanMillis();
+        }
+        
+        @Override
+        public double getConnectionCreationMaxMillis() {
+            return metrics.connectionCreation.maxMillis();
+        }
+        
+        @Override
+        public long getValidationFailures() {
+            return metrics.validationFailures.sum();
+        }
+        
+        @Override
+        public long getTimeouts() {
+            return metrics.timeouts.sum();
+        }
+        
+        @Override
+        public long getLeaksDetected() {
+            return metrics.leaksDetected.sum();
+        }
+        
+        @Override
+        public long getStatementCacheHits() {
+            return metrics.statementCacheHits.sum();
+        }
+        
+        @Override
+        public long getStatementCacheMisses() {
+            return metrics.statementCacheMisses.sum();
+        }
+        
+        @Override
+        public long getStatementCacheEvictions() {
+            return metrics.statementCacheEvictions.sum();
+        }
+        
+        @Override
+        public double getStatementCacheHitRate() {
+            return getStats().getStatementCacheHitRate();
+        }
+        
+        @Override
+        public String dumpStats() {
+            return getStats().format();
+        }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,102 @@
+package app.common.database;
+
+/**
+ * Connection Pool 지표를 JMX로 노출하기 위한 MXBean 인터페이스입니다.
+ * 기본 풀은 "app.manazoo:type=ConnectionPool", 복제본 풀은
+ * "app.manazoo:type=ConnectionPool,name=replica-N" 이름으로 등록됩니다.
+ * 
+ * @author MANAZOO Team
+ * @since 2.0
+ */
+public interface ConnectionPoolMXBean {
+    
+    /** @return 초기화 시작부터 첫 연결 준비까지 걸린 시간 (ms, 측정 전이면 -1) */
+    double getTimeToFirstConnectionMillis();
+    
+    /** @return 초기화 시작부터 최소 연결 수 충족까지 걸린 시간 (ms, 미충족이면 -1) */
+    double getTimeToFullPoolMillis();
+    
+    /** @return 사용 중인 연결 수 */
+    int getActiveConnections();
+    
+    /** @return 유휴 연결 수 */
+    int getIdleConnections();
+    
+    /** @return 전체 연결 수 */
+    int getTotalConnections();
+    
+    /** @return 연결을 기다리는 스레드 수 */
+    int getThreadsAwaitingConnection();
+    
+    /** @return 최소 연결 수 */
+    int getMinPoolSize();
+    
+    /** @return 최대 연결 수 */
+    int getMaxPoolSize();
+    
+    /**
+     * 최소 연결 수를 변경합니다. 최대 연결 수보다 크면 최대 연결 수도 함께 늘립니다.
+     * 
+     * @param size 새 최소 연결 수
+     */
+    void setMinPoolSize(int size);
+    
+    /**
+     * 최대 연결 수를 변경합니다. 최소 연결 수보다 작으면 최소 연결 수도 함께 줄입니다.
+     * 
+     * @param size 새 최대 연결 수
+     */
+    void setMaxPoolSize(int size);
+    
+    /** @return 누적 대여 횟수 */
+    long getBorrowCount();
+    
+    /** @return 대여 대기 시간 50백분위 (ms) */
+    double getBorrowWaitP50Millis();
+    
+    /** @return 대여 대기 시간 95백분위 (ms) */
+    double getBorrowWaitP95Millis();
+    
+    /** @return 대여 대기 시간 99백분위 (ms) */
+    double getBorrowWaitP99Millis();
+    
+    /** @return 대여 대기 시간 최대값 (ms) */
+    double getBorrowWaitMaxMillis();
+    
+    /** @return 누적 생성된 물리 연결 수 */
+    long getConnectionsCreated();
+    
+    /** @return 물리 연결 생성 평균 시간 (ms) */
+    double getConnectionCreationAvgMillis();
+    
+    /** @return 물리 연결 생성 최대 시간 (ms) */
+    double getConnectionCreationMaxMillis();
+    
+    /** @return 누적 유효성 검사 실패 수 */
+    long getValidationFailures();
+    
+    /** @return 누적 대여 시간 초과 수 */
+    long getTimeouts();
+    
+    /** @return 누적 누수 의심 보고 수 */
+    long getLeaksDetected();
+    
+    /** @return PreparedStatement 캐시 적중 수 */
+    long getStatementCacheHits();
+    
+    /** @return PreparedStatement 캐시 미스 수 */
+    long getStatementCacheMisses();
+    
+    /** @return 용량 초과로 닫힌 PreparedStatement 수 */
+    long getStatementCacheEvictions();
+    
+    /** @return PreparedStatement 캐시 적중률 (0.0 ~ 1.0) */
+    double getStatementCacheHitRate();
+    
+    /**
+     * 전체 지표를 사람이 읽을 수 있는 텍스트로 반환합니다.
+     * 
+     * @return 지표 텍스트
+     */
+    String dumpStats();
+}
@@ -0,0 +1,239 @@
+package app.common.database;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Connection Pool이 관리하는 물리 연결 한 개와 그 메타데이터를 보관합니다.
+ * 사용자에게는 노출되지 않으며, 대여 시마다 {@link PooledConnection}으로 감싸서 전달됩니다.
+ * 
+ * <p>equals/hashCode를 재정의하지 않으므로 Set/Map에서 객체 식별자 기준으로 O(1) 조회됩니다.</p>
+ * 
+ * @author MANAZOO Team
+ * @since 2.0
+ */
+class PoolEntry {
+    
+    private final Connection connection;
+    private final StatementCache statementCache;
+    private final long createdAt;
+    private final long expiresAt;
+    private volatile long lastAccessedAt;
+    private volatile long lastValidatedAt;
+    
+    // 누수 감지용 대여 정보 (누수 감지가 켜진 경우에만 기록)
+    private volatile long borrowedAt;
+    private volatile String borrowerThreadName;
+    private volatile Throwable borrowTrace;
+    private volatile boolean leakReported;
+    
+    // 물리 연결의 세션 상태. 한 번에 한 대여자만 접근하며 풀의 대여/반환 경로를 거쳐 전달됨
+    private boolean autoCommit = true;         // JDBC 규약상 새 연결은 autoCommit 모드
+    private boolean readOnly;
+    private boolean transactionDirty;          // 마지막 커밋/롤백 이후 실행된 문장이 있음
+    private boolean untrackedStatements;       // 실행을 추적할 수 없는 문장이 대여 중 생성됨
+    
+    /**
+     * @param connection 물리 연결
+     * @param maxLifetime 최대 수명 (ms, 0이면 무제한)
+     * @param statementCache PreparedStatement 캐시 (사용하지 않으면 null)
+     */
+    PoolEntry(Connection connection, long maxLifetime, StatementCache statementCache) {
+        this.connection = connection;
+        this.statementCache = statementCache;
+        this.createdAt = System.currentTimeMillis();
+        this.lastAccessedAt = createdAt;
+        this.lastValidatedAt = createdAt;
+        
+        if (maxLifetime > 0) {
+            // 동시에 만들어진 연결이 한꺼번에 만료되지 않도록 최대 2.5%까지 수명을 줄임
+            long variance = ThreadLocalRandom.current().nextLong(maxLifetime / 40 + 1);
+            this.expiresAt = createdAt + maxLifetime - variance;
+        } else {
+            this.expiresAt = Long.MAX_VALUE;
+        }
+    }
+    
+    /**
+     * 물리 연결을 반환합니다.
+     * 
+     * @return 물리 Connection
+     */
+    Connection getConnection() {
+        return connection;
+    }
+    
+    /**
+     * 이 연결의 PreparedStatement 캐시를 반환합니다.
+     * 
+     * @return 문장 캐시, 캐시를 사용하지 않으면 null
+     */
+    StatementCache getStatementCache() {
+        return statementCache;
+    }
+    
+    /**
+     * 연결이 생성된 시각(ms)을 반환합니다.
+     * 
+     * @return 생성 시각
+     */
+    long getCreatedAt() {
+        return createdAt;
+    }
+    
+    /**
+     * 마지막으로 대여 또는 반환된 시각(ms)을 반환합니다.
+     * 
+     * @return 마지막 사용 시각
+     */
+    long getLastAccessedAt() {
+        return lastAccessedAt;
+    }
+    
+    /**
+     * 마지막 사용 시각을 현재 시각으로 갱신합니다.
+     */
+    void touch() {
+        this.lastAccessedAt = System.currentTimeMillis();
+    }
+    
+    /**
+     * 최대 수명을 넘겼는지 확인합니다.
+     * 
+     * @param now 현재 시각(ms)
+     * @return 만료 여부
+     */
+    boolean isExpired(long now) {
+        return now >= expiresAt;
+    }
+    
+    /**
+     * 마지막으로 유효성 검사를 통과한 시각(ms)을 반환합니다.
+     * 
+     * @return 마지막 검증 시각
+     */
+    long getLastValidatedAt() {
+        return lastValidatedAt;
+    }
+    
+    /**
+     * 유효성 검사를 통과했음을 기록합니다.
+     */
+    void markValidated() {
+        this.lastValidatedAt = System.currentTimeMillis();
+    }
+    
+    /**
+     * 대여한 스레드와 호출 스택을 기록합니다.
+     * 스택 프레임은 실제로 보고할 때까지 문자열로 변환되지 않습니다.
+     */
+    void recordBorrower() {
+        this.borrowedAt = lastAccessedAt;
+        this.borrowerThreadName = Thread.currentThread().getName();
+        this.leakReported = false;
+        this.borrowTrace = new Throwable("연결 대여 위치");
+    }
+    
+    /**
+     * 반환 시 대여 정보를 지웁니다.
+     */
+    void clearBorrower() {
+        this.borrowTrace = null;
+        this.borrowerThreadName = null;
+        this.leakReported = false;
+    }
+    
+    long getBorrowedAt() {
+        return borrowedAt;
+    }
+    
+    String getBorrowerThreadName() {
+        return borrowerThreadName;
+    }
+    
+    Throwable getBorrowTrace() {
+        return borrowTrace;
+    }
+    
+    boolean isLeakReported() {
+        return leakReported;
+    }
+    
+    void markLeakReported() {
+        this.leakReported = true;
+    }
+    
+    // ==================== 세션 상태 추적 ====================
+    
+    /**
+     * 물리 연결의 autoCommit을 바꿉니다. 이미 같은 값이면 서버 왕복 없이 반환합니다.
+     * 
+     * @param value 적용할 값
+     * @throws SQLException 설정 실패 시
+     */
+    void applyAutoCommit(boolean value) throws SQLException {
+        if (autoCommit != value) {
+            connection.setAutoCommit(value);
+            autoCommit = value;
+            if (value) {
+                // autoCommit으로 바꾸면 진행 중인 트랜잭션은 커밋됨
+                transactionDirty = false;
+            }
+        }
+    }
+    
+    /**
+     * 물리 연결의 readOnly를 바꿉니다. 이미 같은 값이면 서버 왕복 없이 반환합니다.
+     * 
+     * @param value 적용할 값
+     * @throws SQLException 설정 실패 시
+     */
+    void applyReadOnly(boolean value) throws SQLException {
+        if (readOnly != value) {
+            connection.setReadOnly(value);
+            readOnly = value;
+        }
+    }
+    
+    /**
+     * 문장이 실행되었음을 기록합니다. autoCommit이 꺼져 있으면 커밋되지 않은 작업이 생깁니다.
+     */
+    void markTransactionDirty() {
+        if (!autoCommit) {
+            transactionDirty = true;
+        }
+    }
+    
+    /**
+     * 실행 시점을 추적할 수 없는 문장(캐시를 거치지 않는 문장)이 생성되었음을 기록합니다.
+     * 이 경우 반환 시 autoCommit이 꺼져 있으면 항상 롤백합니다.
+     */
+    void markUntrackedStatement() {
+        untrackedStatements = true;
+    }
+    
+    /**
+     * 커밋 또는 롤백으로 트랜잭션이 끝났음을 기록합니다.
+     */
+    void transactionEnded() {
+        transactionDirty = false;
+    }
+    
+    /**
+     * 반환 시 롤백이 필요한지 확인합니다.
+     * 
+     * @return 커밋되지 않은 작업이 남아 있을 수 있으면 true
+     */
+    boolean needsRollback() {
+        return !autoCommit && (transactionDirty || untrackedStatements);
+    }
+    
+    /**
+     * 반환 처리 후 대여 단위의 추적 정보를 초기화합니다.
+     */
+    void resetStatementTracking() {
+        transactionDirty = false;
+        untrackedStatements = false;
+    }
+}
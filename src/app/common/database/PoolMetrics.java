@@ -0,0 +1,29 @@
+package app.common.database;
+
+import java.util.concurrent.atomic.LongAdder;
+
+import app.common.metrics.LatencyHistogram;
+
+/**
+ * Connection Pool의 누적 지표를 기록합니다.
+ * 대여 경로에서 호출되므로 모든 기록은 {@link LongAdder}와 {@link LatencyHistogram}을 사용해
+ * 잠금 없이 처리됩니다.
+ * 
+ * @author MANAZOO Team
+ * @since 2.0
+ */
+class PoolMetrics {
+    
+    final LatencyHistogram borrowWait = new LatencyHistogram();
+    final LatencyHistogram connectionCreation = new LatencyHistogram();
+    final LongAdder validationFailures = new LongAdder();
+    final LongAdder timeouts = new LongAdder();
+    final LongAdder leaksDetected = new LongAdder();
+    final LongAdder statementCacheHits = new LongAdder();
+    final LongAdder statementCacheMisses = new LongAdder();
+    final LongAdder statementCacheEvictions = new LongAdder();
+    
+    // 시작 지표 (아직 측정되지 않았으면 -1)
+    volatile long timeToFirstConnectionNanos = -1L;
+    volatile long timeToFullPoolNanos = -1L;
+}
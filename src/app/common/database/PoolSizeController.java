@@ -0,0 +1,103 @@
+package app.common.database;
+
+import app.common.SimpleLogger;
+import app.common.metrics.LatencyHistogram;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 관측된 대여 대기 시간에 따라 Connection Pool의 최대 연결 수를 조정하는 컨트롤러입니다.
+ * db.pool.adaptive=true일 때만 생성되며, 하우스키핑 스레드에서 주기적으로 {@link #evaluate()}가 호출됩니다.
+ * 
+ * <ul>
+ *   <li>직전 구간의 대여 대기 시간 p95가 목표값을 넘으면 최대 연결 수를 상한(ceiling)까지 25%씩 늘립니다.</li>
+ *   <li>대기 시간이 목표값의 절반 이하이고 최대 사용량이 줄인 크기 안에 드는 구간이
+ *       연속으로 이어지면 설정된 최대 연결 수까지 25%씩 줄입니다.</li>
+ * </ul>
+ * 
+ * <p>대기 시간은 풀이 포화되었을 때만 늘어나므로 증가 신호로 사용하지만,
+ * 데이터베이스 자체가 느려서 생긴 대기에도 반응하므로 상한을 DB의 max_connections보다
+ * 충분히 낮게 잡아야 합니다.</p>
+ * 
+ * @author MANAZOO Team
+ * @since 2.0
+ */
+class PoolSizeController {
+    
+    /** 축소하기 전에 필요한 연속 한가 구간 수 */
+    private static final int QUIET_WINDOWS_BEFORE_SHRINK = 3;
+    
+    private final ConnectionPool pool;
+    private final int floor;                   // 설정 파일의 최대 연결 수 (축소 하한)
+    private final int ceiling;                 // 최대 연결 수 상한
+    private final double targetWaitMillis;
+    private final AtomicInteger peakActive = new AtomicInteger();
+    private final SimpleLogger logger = SimpleLogger.getLogger(PoolSizeController.class);
+    
+    // 평가 구간마다 새로 교체되는 대기 시간 분포
+    private volatile LatencyHistogram window = new LatencyHistogram();
+    // 하우스키핑 스레드에서만 접근
+    private int quietWindows;
+    
+    /**
+     * @param pool 조정할 풀
+     * @param floor 축소 하한이 되는 최대 연결 수
+     * @param ceiling 확장 상한이 되는 최대 연결 수
+     * @param targetWaitMillis 목표 대여 대기 시간 p95 (ms)
+     */
+    PoolSizeController(ConnectionPool pool, int floor, int ceiling, double targetWaitMillis) {
+        this.pool = pool;
+        this.floor = floor;
+        this.ceiling = Math.max(floor, ceiling);
+        this.targetWaitMillis = targetWaitMillis;
+    }
+    
+    /**
+     * 대여 한 건을 기록합니다. 대여 경로에서 호출되므로 잠금을 사용하지 않습니다.
+     * 
+     * @param waitNanos 대여 대기 시간 (ns)
+     * @param active 대여 직후 사용 중인 연결 수
+     */
+    void recordBorrow(long waitNanos, int active) {
+        window.record(waitNanos);
+        int peak = peakActive.get();
+        while (active > peak && !peakActive.compareAndSet(peak, active)) {
+            peak = peakActive.get();
+        }
+    }
+    
+    /**
+     * 직전 구간의 지표로 최대 연결 수를 조정합니다.
+     */
+    void evaluate() {
+        LatencyHistogram recent = window;
+        window = new LatencyHistogram();
+        int peak = peakActive.getAndSet(pool.getActiveConnectionCount());
+        
+        int max = pool.getMaxPoolSize();
+        int step = Math.max(1, max / 4);
+        double p95 = recent.getCount() == 0 ? 0.0 : recent.percentileMillis(95.0);
+        
+        if (p95 > targetWaitMillis) {
+            quietWindows = 0;
+            if (max < ceiling) {
+                int newMax = Math.min(ceiling, max + step);
+                logger.info(String.format("풀(%s) 최대 연결 수 확장: %d → %d (대여 대기 p95 %.1fms > 목표 %.1fms)",
+                        pool.getName(), max, newMax, p95, targetWaitMillis));
+                pool.resize(pool.getMinPoolSize(), newMax);
+            }
+            return;
+        }
+        
+        int newMax = Math.max(Math.max(floor, pool.getMinPoolSize()), max - step);
+        if (p95 <= targetWaitMillis / 2 && newMax < max && peak <= newMax) {
+            if (++quietWindows >= QUIET_WINDOWS_BEFORE_SHRINK) {
+                quietWindows = 0;
+                logger.info(String.format("풀(%s) 최대 연결 수 축소: %d → %d (대여 대기 p95 %.1fms, 최대 사용 %d)",
+                        pool.getName(), max, newMax, p95, peak));
+                pool.resize(pool.getMinPoolSize(), newMax);
+            }
+        } else {
+            quietWindows = 0;
+        }
+    }
+}
@@ -0,0 +1,219 @@
+package app.common.database;
+
+/**
+ * 특정 시점의 Connection Pool 지표 스냅샷입니다.
+ * 불변 객체이므로 콘솔 출력이나 로그 기록에 그대로 사용할 수 있습니다.
+ * 
+ * <pre>{@code
+ * PoolStats stats = ConnectionPool.getInstance().getStats();
+ * System.out.println(stats.format());
+ * }</pre>
+ * 
+ * @author MANAZOO Team
+ * @since 2.0
+ */
+public final class PoolStats {
+    
+    private final String poolName;
+    private final int activeConnections;
+    private final int idleConnections;
+    private final int totalConnections;
+    private final int threadsAwaitingConnection;
+    private final int minPoolSize;
+    private final int maxPoolSize;
+    private final long borrowCount;
+    private final double borrowWaitP50Millis;
+    private final double borrowWaitP95Millis;
+    private final double borrowWaitP99Millis;
+    private final double borrowWaitMaxMillis;
+    private final long connectionsCreated;
+    private final double connectionCreationAvgMillis;
+    private final double connectionCreationMaxMillis;
+    private final long validationFailures;
+    private final long timeouts;
+    private final long leaksDetected;
+    private final long statementCacheHits;
+    private final long statementCacheMisses;
+    private final long statementCacheEvictions;
+    private final double timeToFirstConnectionMillis;
+    private final double timeToFullPoolMillis;
+    
+    PoolStats(String poolName, int activeConnections, int idleConnections, int totalConnections,
+            int threadsAwaitingConnection, int minPoolSize, int maxPoolSize, PoolMetrics metrics) {
+        this.poolName = poolName;
+        this.activeConnections = activeConnections;
+        this.idleConnections = idleConnections;
+        this.totalConnections = totalConnections;
+        this.threadsAwaitingConnection = threadsAwaitingConnection;
+        this.minPoolSize = minPoolSize;
+        this.maxPoolSize = maxPoolSize;
+        this.borrowCount = metrics.borrowWait.getCount();
+        this.borrowWaitP50Millis = metrics.borrowWait.percentileMillis(50.0);
+        this.borrowWaitP95Millis = metrics.borrowWait.percentileMillis(95.0);
+        this.borrowWaitP99Millis = metrics.borrowWait.percentileMillis(99.0);
+        this.borrowWaitMaxMillis = metrics.borrowWait.maxMillis();
+        this.connectionsCreated = metrics.connectionCreation.getCount();
+        this.connectionCreationAvgMillis = metrics.connectionCreation.meanMillis();
+        this.connectionCreationMaxMillis = metrics.connectionCreation.maxMillis();
+        this.validationFailures = metrics.validationFailures.sum();
+        this.timeouts = metrics.timeouts.sum();
+        this.leaksDetected = metrics.leaksDetected.sum();
+        this.statementCacheHits = metrics.statementCacheHits.sum();
+        this.statementCacheMisses = metrics.statementCacheMisses.sum();
+        this.statementCacheEvictions = metrics.statementCacheEvictions.sum();
+        this.timeToFirstConnectionMillis = toMillis(metrics.timeToFirstConnectionNanos);
+        this.timeToFullPoolMillis = toMillis(metrics.timeToFullPoolNanos);
+    }
+    
+    private static double toMillis(long nanos) {
+        return nanos < 0 ? -1.0 : nanos / 1_000_000.0;
+    }
+    
+    public String getPoolName() {
+        return poolName;
+    }
+    
+    public int getActiveConnections() {
+        return activeConnections;
+    }
+    
+    public int getIdleConnections() {
+        return idleConnections;
+    }
+    
+    public int getTotalConnections() {
+        return totalConnections;
+    }
+    
+    public int getThreadsAwaitingConnection() {
+        return threadsAwaitingConnection;
+    }
+    
+    public int getMinPoolSize() {
+        return minPoolSize;
+    }
+    
+    public int getMaxPoolSize() {
+        return maxPoolSize;
+    }
+    
+    public long getBorrowCount() {
+        return borrowCount;
+    }
+    
+    public double getBorrowWaitP50Millis() {
+        return borrowWaitP50Millis;
+    }
+    
+    public double getBorrowWaitP95Millis() {
+        return borrowWaitP95Millis;
+    }
+    
+    public double getBorrowWaitP99Millis() {
+        return borrowWaitP99Millis;
+    }
+    
+    public double getBorrowWaitMaxMillis() {
+        return borrowWaitMaxMillis;
+    }
+    
+    public long getConnectionsCreated() {
+        return connectionsCreated;
+    }
+    
+    public double getConnectionCreationAvgMillis() {
+        return connectionCreationAvgMillis;
+    }
+    
+    public double getConnectionCreationMaxMillis() {
+        return connectionCreationMaxMillis;
+    }
+    
+    public long getValidationFailures() {
+        return validationFailures;
+    }
+    
+    public long getTimeouts() {
+        return timeouts;
+    }
+    
+    public long getLeaksDetected() {
+        return leaksDetected;
+    }
+    
+    public long getStatementCacheHits() {
+        return statementCacheHits;
+    }
+    
+    public long getStatementCacheMisses() {
+        return statementCacheMisses;
+    }
+    
+    public long getStatementCacheEvictions() {
+        return statementCacheEvictions;
+    }
+    
+    /**
+     * 풀 초기화 시작부터 첫 연결이 준비되기까지 걸린 시간을 반환합니다.
+     * 
+     * @return 첫 연결 준비 시간 (ms, 측정 전이면 -1)
+     */
+    public double getTimeToFirstConnectionMillis() {
+        return timeToFirstConnectionMillis;
+    }
+    
+    /**
+     * 풀 초기화 시작부터 최소 연결 수가 모두 생성되기까지 걸린 시간을 반환합니다.
+     * 
+     * @return 최소 연결 충족 시간 (ms, 아직 채워지지 않았으면 -1)
+     */
+    public double getTimeToFullPoolMillis() {
+        return timeToFullPoolMillis;
+    }
+    
+    /**
+     * PreparedStatement 캐시 적중률을 반환합니다.
+     * 
+     * @return 적중률 (0.0 ~ 1.0, 조회가 없으면 0.0)
+     */
+    public double getStatementCacheHitRate() {
+        long lookups = statementCacheHits + statementCacheMisses;
+        return lookups == 0 ? 0.0 : (double) statementCacheHits / lookups;
+    }
+    
+    /**
+     * 지표를 여러 줄 텍스트로 만듭니다.
+     * 
+     * @return 콘솔 출력용 텍스트
+     */
+    public String format() {
+        StringBuilder sb = new StringBuilder();
+        sb.append("=== Connection Pool 상태 (").append(poolName).append(") ===\n");
+        sb.append(String.format("시작: 첫 연결 %s / 최소 연결 충족 %s%n",
+                formatMillis(timeToFirstConnectionMillis), formatMillis(timeToFullPoolMillis)));
+        sb.append(String.format("연결: 사용 중 %d / 유휴 %d / 전체 %d (최소 %d, 최대 %d)%n",
+                activeConnections, idleConnections, totalConnections, minPoolSize, maxPoolSize));
+        sb.append(String.format("대기 중인 스레드: %d%n", threadsAwaitingConnection));
+        sb.append(String.format("대여 대기 시간: p50 %.2fms / p95 %.2fms / p99 %.2fms / 최대 %.2fms (총 %d회)%n",
+                borrowWaitP50Millis, borrowWaitP95Millis, borrowWaitP99Millis, borrowWaitMaxMillis, borrowCount));
+        sb.append(String.format("연결 생성: %d회 (평균 %.2fms, 최대 %.2fms)%n",
+                connectionsCreated, connectionCreationAvgMillis, connectionCreationMaxMillis));
+        sb.append(String.format("유효성 검사 실패: %d / 대여 시간 초과: %d / 누수 의심: %d%n",
+                validationFailures, timeouts, leaksDetected));
+        sb.append(String.format("문장 캐시: 적중 %d / 미스 %d / 적중률 %.1f%% / 제거 %d",
+                statementCacheHits, statementCacheMisses, getStatementCacheHitRate() * 100.0,
+                statementCacheEvictions));
+        return sb.toString();
+    }
+    
+    private static String formatMillis(double millis) {
+        return millis < 0 ? "-" : String.format("%.1fms", millis);
+    }
+    
+    @Override
+    public String toString() {
+        return String.format("PoolStats{pool=%s, active=%d, idle=%d, total=%d, waiting=%d, p99=%.2fms, timeouts=%d, leaks=%d}",
+                poolName, activeConnections, idleConnections, totalConnections, threadsAwaitingConnection,
+                borrowWaitP99Millis, timeouts, leaksDetected);
+    }
+}
@@ -0,0 +1,485 @@
+package app.common.database;
+
+import java.sql.Array;
+import java.sql.Blob;
+import java.sql.CallableStatement;
+import java.sql.Clob;
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.NClob;
+import java.sql.PreparedStatement;
+import java.sql.SQLClientInfoException;
+import java.sql.SQLException;
+import java.sql.SQLWarning;
+import java.sql.SQLXML;
+import java.sql.Savepoint;
+import java.sql.Statement;
+import java.sql.Struct;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.Executor;
+
+/**
+ * Connection Pool에서 대여한 물리 연결을 감싸는 프록시 Connection입니다.
+ * 
+ * <p>대여할 때마다 새 프록시가 만들어지며, {@link #close()}는 물리 연결을 닫지 않고
+ * 풀로 반환합니다. 따라서 기존 try-with-resources 코드를 그대로 사용할 수 있습니다.
+ * 한 번 닫힌 프록시는 다시 사용할 수 없으므로, 반환 이후 남아 있는 참조가
+ * 다른 사용자에게 대여된 연결을 건드리는 일이 없습니다.</p>
+ * 
+ * <p>autoCommit/readOnly는 대여할 때마다 기본값(true/false)에서 시작하는 이 프록시의 값이며,
+ * 물리 연결에는 문장을 실행하거나 커밋/롤백하기 직전에 값이 다를 때만 적용됩니다.
+ * 따라서 같은 설정의 트랜잭션이 반복되면 상태 변경 왕복이 생기지 않고, 반환 시 초기화도 필요 없습니다.
+ * 캐시를 거치지 않는 문장이 생성된 뒤에는 실행 시점을 알 수 없으므로 변경을 즉시 적용합니다.
+ * unwrap()으로 얻은 물리 연결의 상태를 직접 바꾸면 이 추적이 어긋나므로 그렇게 하지 않아야 합니다.</p>
+ * 
+ * <p>SQL 추적({@link SqlTracer})이 켜져 있으면 만들어진 문장을 실행 통계를 기록하는 프록시로 감쌉니다.</p>
+ * 
+ * @author MANAZOO Team
+ * @since 2.0
+ */
+public class PooledConnection implements Connection {
+    
+    private final ConnectionPool pool;
+    private final PoolEntry entry;
+    private final Connection delegate;
+    private volatile boolean closed;
+    
+    // 이 대여자가 요청한 세션 상태 (물리 연결에는 지연 적용)
+    private boolean autoCommit = true;
+    private boolean readOnly;
+    private boolean untrackedStatementIssued;
+    
+    PooledConnection(ConnectionPool pool, PoolEntry entry) {
+        this.pool = pool;
+        this.entry = entry;
+        this.delegate = entry.getConnection();
+    }
+    
+    /**
+     * 이 프록시가 감싸고 있는 풀 엔트리를 반환합니다.
+     * 
+     * @return 풀 엔트리
+     */
+    PoolEntry getEntry() {
+        return entry;
+    }
+    
+    /**
+     * 프록시가 닫힌 상태이면 예외를 발생시킵니다.
+     * 
+     * @throws SQLException 이미 풀로 반환된 연결인 경우
+     */
+    private void checkOpen() throws SQLException {
+        if (closed) {
+            throw new SQLException("이미 Connection Pool로 반환된 연결입니다.");
+        }
+    }
+    
+    /**
+     * 요청된 세션 상태를 물리 연결에 적용합니다. 이미 같은 값이면 서버 왕복이 없습니다.
+     * 
+     * @throws SQLException 상태 변경 실패 시
+     */
+    private void syncSessionState() throws SQLException {
+        entry.applyAutoCommit(autoCommit);
+        entry.applyReadOnly(readOnly);
+    }
+    
+    /**
+     * 캐시된 문장이 실행되기 직전에 호출됩니다.
+     * 
+     * @throws SQLException 상태 변경 실패 시
+     */
+    void beforeExecute() throws SQLException {
+        checkOpen();
+        syncSessionState();
+        entry.markTransactionDirty();
+    }
+    
+    /**
+     * 실행 시점을 추적할 수 없는 문장을 만들기 전에 호출됩니다.
+     * 
+     * @throws SQLException 상태 변경 실패 시
+     */
+    private void beforeUntrackedStatement() throws SQLException {
+        syncSessionState();
+        entry.markUntrackedStatement();
+        untrackedStatementIssued = true;
+    }
+    
+    /**
+     * 물리 연결을 닫지 않고 Connection Pool로 반환합니다.
+     * 여러 번 호출해도 한 번만 반환됩니다.
+     */
+    @Override
+    public void close() throws SQLException {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        pool.release(entry);
+    }
+    
+    @Override
+    public boolean isClosed() throws SQLException {
+        return closed || delegate.isClosed();
+    }
+    
+    // ==================== 위임 메서드 ====================
+    
+    @Override
+    public Statement createStatement() throws SQLException {
+        checkOpen();
+        beforeUntrackedStatement();
+        return SqlTracer.trace(Statement.class, delegate.createStatement(), this, null);
+    }
+    
+    /**
+     * 문장 캐시가 켜져 있으면 같은 SQL로 준비된 문장을 재사용합니다.
+     * 반환된 문장의 close()는 물리 문장을 닫지 않고 캐시로 돌려보냅니다.
+     */
+    @Override
+    public PreparedStatement prepareStatement(String sql) throws SQLException {
+        checkOpen();
+        StatementCache cache = entry.getStatementCache();
+        if (cache == null) {
+            beforeUntrackedStatement();
+            return SqlTracer.trace(PreparedStatement.class, delegate.prepareStatement(sql), this, sql);
+        }
+
+        PreparedStatement statement = cache.take(sql);
+        if (statement == null) {
+            statement = delegate.prepareStatement(sql);
+        }
+        return SqlTracer.trace(PreparedStatement.class, CachedStatementHandler.wrap(this, cache, sql, statement), this, sql);
+    }
+    
+    @Override
+    public CallableStatement prepareCall(String sql) throws SQLException {
+        checkOpen();
+        beforeUntrackedStatement();
+        return SqlTracer.trace(CallableStatement.class, delegate.prepareCall(sql), this, sql);
+    }
+    
+    @Override
+    public String nativeSQL(String sql) throws SQLException {
+        checkOpen();
+        return delegate.nativeSQL(sql);
+    }
+    
+    @Override
+    public void setAutoCommit(boolean autoCommit) throws SQLException {
+        checkOpen();
+        this.autoCommit = autoCommit;
+        if (untrackedStatementIssued) {
+            syncSessionState();
+        }
+    }
+    
+    @Override
+    public boolean getAutoCommit() throws SQLException {
+        checkOpen();
+        return autoCommit;
+    }
+    
+    @Override
+    public void commit() throws SQLException {
+        checkOpen();
+        syncSessionState();
+        delegate.commit();
+        entry.transactionEnded();
+    }
+    
+    @Override
+    public void rollback() throws SQLException {
+        checkOpen();
+        syncSessionState();
+        delegate.rollback();
+        entry.transactionEnded();
+    }
+    
+    @Override
+    public DatabaseMetaData getMetaData() throws SQLException {
+        checkOpen();
+        return delegate.getMetaData();
+    }
+    
+    @Override
+    public void setReadOnly(boolean readOnly) throws SQLException {
+        checkOpen();
+        this.readOnly = readOnly;
+        if (untrackedStatementIssued) {
+            syncSessionState();
+        }
+    }
+    
+    @Override
+    public boolean isReadOnly() throws SQLException {
+        checkOpen();
+        return readOnly;
+    }
+    
+    @Override
+    public void setCatalog(String catalog) throws SQLException {
+        checkOpen();
+        delegate.setCatalog(catalog);
+    }
+    
+    @Override
+    public String getCatalog() throws SQLException {
+        checkOpen();
+        return delegate.getCatalog();
+    }
+    
+    @Override
+    public void setTransactionIsolation(int level) throws SQLException {
+        checkOpen();
+        delegate.setTransactionIsolation(level);
+    }
+    
+    @Override
+    public int getTransactionIsolation() throws SQLException {
+        checkOpen();
+        return delegate.getTransactionIsolation();
+    }
+    
+    @Override
+    public SQLWarning getWarnings() throws SQLException {
+        checkOpen();
+        return delegate.getWarnings();
+    }
+    
+    @Override
+    public void clearWarnings() throws SQLException {
+        checkOpen();
+        delegate.clearWarnings();
+    }
+    
+    @Override
+    public Statement createStatement(int resultSetType, int resultSetConcurrency) throws SQLException {
+        checkOpen();
+        beforeUntrackedStatement();
+        return SqlTracer.trace(Statement.class, delegate.createStatement(resultSetType, resultSetConcurrency), this, null);
+    }
+    
+    @Override
+    public PreparedStatement prepareStatement(String sql, int resultSetType, int resultSetConcurrency)
+            throws SQLException {
+        checkOpen();
+        beforeUntrackedStatement();
+        return SqlTracer.trace(PreparedStatement.class, delegate.prepareStatement(sql, resultSetType, resultSetConcurrency), this, sql);
+    }
+    
+    @Override
+    public CallableStatement prepareCall(String sql, int resultSetType, int resultSetConcurrency)
+            throws SQLException {
+        checkOpen();
+        beforeUntrackedStatement();
+        return SqlTracer.trace(CallableStatement.class, delegate.prepareCall(sql, resultSetType, resultSetConcurrency), this, sql);
+    }
+    
+    @Override
+    public Map<String, Class<?>> getTypeMap() throws SQLException {
+        checkOpen();
+        return delegate.getTypeMap();
+    }
+    
+    @Override
+    public void setTypeMap(Map<String, Class<?>> map) throws SQLException {
+        checkOpen();
+        delegate.setTypeMap(map);
+    }
+    
+    @Override
+    public void setHoldability(int holdability) throws SQLException {
+        checkOpen();
+        delegate.setHoldability(holdability);
+    }
+    
+    @Override
+    public int getHoldability() throws SQLException {
+        checkOpen();
+        return delegate.getHoldability();
+    }
+    
+    @Override
+    public Savepoint setSavepoint() throws SQLException {
+        checkOpen();
+        syncSessionState();
+        entry.markTransactionDirty();
+        return delegate.setSavepoint();
+    }
+    
+    @Override
+    public Savepoint setSavepoint(String name) throws SQLException {
+        checkOpen();
+        syncSessionState();
+        entry.markTransactionDirty();
+        return delegate.setSavepoint(name);
+    }
+    
+    @Override
+    public void rollback(Savepoint savepoint) throws SQLException {
+        checkOpen();
+        delegate.rollback(savepoint);
+    }
+    
+    @Override
+    public void releaseSavepoint(Savepoint savepoint) throws SQLException {
+        checkOpen();
+        delegate.releaseSavepoint(savepoint);
+    }
+    
+    @Override
+    public Statement createStatement(int resultSetType, int resultSetConcurrency, int resultSetHoldability)
+            throws SQLException {
+        checkOpen();
+        beforeUntrackedStatement();
+        return SqlTracer.trace(Statement.class, delegate.createStatement(resultSetType, resultSetConcurrency, resultSetHoldability), this, null);
+    }
+    
+    @Override
+    public PreparedStatement prepareStatement(String sql, int resultSetType, int resultSetConcurrency,
+            int resultSetHoldability) throws SQLException {
+        checkOpen();
+        beforeUntrackedStatement();
+        return SqlTracer.trace(PreparedStatement.class, delegate.prepareStatement(sql, resultSetType, resultSetConcurrency, resultSetHoldability), this, sql);
+    }
+    
+    @Override
+    public CallableStatement prepareCall(String sql, int resultSetType, int resultSetConcurrency,
+            int resultSetHoldability) throws SQLException {
+        checkOpen();
+        beforeUntrackedStatement();
+        return SqlTracer.trace(CallableStatement.class, delegate.prepareCall(sql, resultSetType, resultSetConcurrency, resultSetHoldability), this, sql);
+    }
+    
+    @Override
+    public PreparedStatement prepareStatement(String sql, int autoGeneratedKeys) throws SQLException {
+        checkOpen();
+        beforeUntrackedStatement();
+        return SqlTracer.trace(PreparedStatement.class, delegate.prepareStatement(sql, autoGeneratedKeys), this, sql);
+    }
+    
+    @Override
+    public PreparedStatement prepareStatement(String sql, int[] columnIndexes) throws SQLException {
+        checkOpen();
+        beforeUntrackedStatement();
+        return SqlTracer.trace(PreparedStatement.class, delegate.prepareStatement(sql, columnIndexes), this, sql);
+    }
+    
+    @Override
+    public PreparedStatement prepareStatement(String sql, String[] columnNames) throws SQLException {
+        checkOpen();
+        beforeUntrackedStatement();
+        return SqlTracer.trace(PreparedStatement.class, delegate.prepareStatement(sql, columnNames), this, sql);
+    }
+    
+    @Override
+    public Clob createClob() throws SQLException {
+        checkOpen();
+        return delegate.createClob();
+    }
+    
+    @Override
+    public Blob createBlob() throws SQLException {
+        checkOpen();
+        return delegate.createBlob();
+    }
+    
+    @Override
+    public NClob createNClob() throws SQLException {
+        checkOpen();
+        return delegate.createNClob();
+    }
+    
+    @Override
+    public SQLXML createSQLXML() throws SQLException {
+        checkOpen();
+        return delegate.createSQLXML();
+    }
+    
+    @Override
+    public boolean isValid(int timeout) throws SQLException {
+        return !closed && delegate.isValid(timeout);
+    }
+    
+    @Override
+    public void setClientInfo(String name, String value) throws SQLClientInfoException {
+        delegate.setClientInfo(name, value);
+    }
+    
+    @Override
+    public void setClientInfo(Properties properties) throws SQLClientInfoException {
+        delegate.setClientInfo(properties);
+    }
+    
+    @Override
+    public String getClientInfo(String name) throws SQLException {
+        checkOpen();
+        return delegate.getClientInfo(name);
+    }
+    
+    @Override
+    public Properties getClientInfo() throws SQLException {
+        checkOpen();
+        return delegate.getClientInfo();
+    }
+    
+    @Override
+    public Array createArrayOf(String typeName, Object[] elements) throws SQLException {
+        checkOpen();
+        return delegate.createArrayOf(typeName, elements);
+    }
+    
+    @Override
+    public Struct createStruct(String typeName, Object[] attributes) throws SQLException {
+        checkOpen();
+        return delegate.createStruct(typeName, attributes);
+    }
+    
+    @Override
+    public void setSchema(String schema) throws SQLException {
+        checkOpen();
+        delegate.setSchema(schema);
+    }
+    
+    @Override
+    public String getSchema() throws SQLException {
+        checkOpen();
+        return delegate.getSchema();
+    }
+    
+    @Override
+    public void abort(Executor executor) throws SQLException {
+        closed = true;
+        pool.evict(entry);
+        delegate.abort(executor);
+    }
+    
+    @Override
+    public void setNetworkTimeout(Executor executor, int milliseconds) throws SQLException {
+        checkOpen();
+        delegate.setNetworkTimeout(executor, milliseconds);
+    }
+    
+    @Override
+    public int getNetworkTimeout() throws SQLException {
+        checkOpen();
+        return delegate.getNetworkTimeout();
+    }
+    
+    @Override
+    public <T> T unwrap(Class<T> iface) throws SQLException {
+        if (iface.isInstance(this)) {
+            return iface.cast(this);
+        }
+        return delegate.unwrap(iface);
+    }
+    
+    @Override
+    public boolean isWrapperFor(Class<?> iface) throws SQLException {
+        return iface.isInstance(this) || delegate.isWrapperFor(iface);
+    }
+}
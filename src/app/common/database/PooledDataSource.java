@@ -0,0 +1,154 @@
+package app.common.database;
+
+import java.io.PrintWriter;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.util.logging.Logger;
+
+import javax.sql.DataSource;
+
+/**
+ * {@link ConnectionPool}을 {@link DataSource}로 노출하는 어댑터입니다.
+ * 모든 Jdbc*Repository와 DatabaseIdGenerator는 이 DataSource를 통해 연결을 얻습니다.
+ * 
+ * <p>{@link #getInstance()}는 기본(쓰기) 풀을, {@link #getReadOnlyInstance()}는
+ * {@link ReplicaRouter}를 통해 읽기 복제본 풀을 사용합니다. 복제본이 없거나 모두 장애 상태이면
+ * 읽기 전용 인스턴스도 기본 풀에서 연결을 대여합니다.</p>
+ * 
+ * <p>현재 스레드에서 트랜잭션이 진행 중이면({@link ConnectionContext}) 두 인스턴스 모두 새 연결을
+ * 대여하지 않고 트랜잭션 연결에 참여합니다.</p>
+ * 
+ * <p>반환되는 연결은 {@link PooledConnection}이므로 기존 try-with-resources 코드에서
+ * close()가 호출되면 연결이 물리적으로 닫히지 않고 풀로 반환됩니다.</p>
+ * 
+ * <pre>{@code
+ * try (Connection connection = PooledDataSource.getInstance().getConnection();
+ *      PreparedStatement pstmt = connection.prepareStatement(sql)) {
+ *     ...
+ * } // 연결이 풀로 반환됨
+ * }</pre>
+ * 
+ * @author MANAZOO Team
+ * @since 2.0
+ */
+public class PooledDataSource implements DataSource {
+    
+    private final boolean readOnly;
+    private int loginTimeout;
+    private PrintWriter logWriter;
+    
+    // ==================== Singleton 패턴 구현 ====================
+    
+    private static class SingletonHolder {
+        private static final PooledDataSource INSTANCE = new PooledDataSource(false);
+        private static final PooledDataSource READ_ONLY_INSTANCE = new PooledDataSource(true);
+    }
+    
+    private PooledDataSource(boolean readOnly) {
+        // private 생성자로 외부 인스턴스 생성 방지
+        this.readOnly = readOnly;
+    }
+    
+    /**
+     * PooledDataSource 싱글톤 인스턴스를 반환합니다.
+     * Connection Pool은 첫 번째 연결 요청 시점에 초기화됩니다.
+     * 
+     * @return PooledDataSource 인스턴스
+     */
+    public static PooledDataSource getInstance() {
+        return SingletonHolder.INSTANCE;
+    }
+    
+    /**
+     * 조회 전용 PooledDataSource 인스턴스를 반환합니다.
+     * 목록 조회, 검색, 집계처럼 복제 지연을 허용하는 읽기에만 사용합니다.
+     * 
+     * @return 읽기 복제본 우선 PooledDataSource 인스턴스
+     */
+    public static PooledDataSource getReadOnlyInstance() {
+        return SingletonHolder.READ_ONLY_INSTANCE;
+    }
+    
+    /**
+     * Connection Pool에서 연결을 대여합니다.
+     * 조회 전용 인스턴스는 복제본 풀을 우선 사용합니다.
+     * 현재 스레드에 트랜잭션 연결이 바인딩되어 있으면 그 연결에 참여합니다.
+     * 
+     * @return 풀에서 대여한 연결 (close() 시 풀로 반환) 또는 트랜잭션 참여 연결
+     * @throws SQLException 풀 초기화 실패 또는 연결 획득 시간 초과 시
+     */
+    @Override
+    public Connection getConnection() throws SQLException {
+        Connection bound = ConnectionContext.getBoundConnection();
+        if (bound != null) {
+            return bound;
+        }
+        return getDetachedConnection();
+    }
+    
+    /**
+     * 진행 중인 트랜잭션과 관계없이 Connection Pool에서 새 연결을 대여합니다.
+     * ID 채번처럼 바깥 트랜잭션이 끝날 때까지 잠금을 잡고 있으면 안 되는 짧은 작업에 사용합니다.
+     * 
+     * @return 풀에서 대여한 연결 (close() 시 풀로 반환)
+     * @throws SQLException 풀 초기화 실패 또는 연결 획득 시간 초과 시
+     */
+    public Connection getDetachedConnection() throws SQLException {
+        try {
+            if (readOnly) {
+                return ReplicaRouter.getInstance().getConnection();
+            }
+            return ConnectionPool.getInstance().getConnection();
+        } catch (RuntimeException e) {
+            // 풀 초기화 실패는 기존 DatabaseConnection과 같이 SQLException으로 전달
+            throw new SQLException("Connection Pool을 사용할 수 없습니다: " + e.getMessage(), e);
+        }
+    }
+    
+    /**
+     * 풀은 설정 파일의 계정 하나만 사용하므로 다른 계정으로의 연결은 지원하지 않습니다.
+     */
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        throw new SQLFeatureNotSupportedException("PooledDataSource는 설정 파일의 계정만 지원합니다.");
+    }
+    
+    @Override
+    public PrintWriter getLogWriter() throws SQLException {
+        return logWriter;
+    }
+    
+    @Override
+    public void setLogWriter(PrintWriter out) throws SQLException {
+        this.logWriter = out;
+    }
+    
+    @Override
+    public void setLoginTimeout(int seconds) throws SQLException {
+        this.loginTimeout = seconds;
+    }
+    
+    @Override
+    public int getLoginTimeout() throws SQLException {
+        return loginTimeout;
+    }
+    
+    @Override
+    public Logger getParentLogger() throws SQLFeatureNotSupportedException {
+        throw new SQLFeatureNotSupportedException("SimpleLogger를 사용합니다.");
+    }
+    
+    @Override
+    public <T> T unwrap(Class<T> iface) throws SQLException {
+        if (iface.isInstance(this)) {
+            return iface.cast(this);
+        }
+        throw new SQLException("지원하지 않는 인터페이스입니다: " + iface.getName());
+    }
+    
+    @Override
+    public boolean isWrapperFor(Class<?> iface) throws SQLException {
+        return iface.isInstance(this);
+    }
+}
@@ -0,0 +1,223 @@
+package app.common.database;
+
+import app.config.DatabaseConfigLoader;
+import app.config.DatabaseConnection;
+import app.common.SimpleLogger;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTimeoutException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 읽기 전용 요청을 복제본(replica) Connection Pool로 보내는 라우터입니다.
+ * 
+ * <p>db.replica.hosts에 지정한 복제본마다 별도의 {@link ConnectionPool}을 두고,
+ * 읽기 연결 요청이 오면 정상 상태인 복제본 중 대여 중인 연결이 가장 적은 곳을 고릅니다.
+ * 같은 부하의 복제본이 여럿이면 순서를 돌아가며 선택합니다.</p>
+ * 
+ * <p>복제본 연결에 실패하면 해당 복제본을 db.replica.retryInterval 동안 제외하고
+ * 기본(primary) 풀로 대체합니다. 제외 시간이 지나면 다음 요청에서 다시 시도합니다.
+ * 복제본이 설정되지 않았으면 항상 기본 풀을 사용합니다.</p>
+ * 
+ * <p>복제 지연이 있을 수 있으므로 방금 쓴 데이터를 바로 확인해야 하는 조회
+ * (ID로 단건 조회 후 수정, 존재 여부 확인 후 저장 등)는 기본 풀을 사용해야 합니다.</p>
+ * 
+ * @author MANAZOO Team
+ * @since 2.0
+ */
+public class ReplicaRouter {
+    
+    private final List<Replica> replicas;
+    private final long retryInterval;
+    private final AtomicInteger nextIndex = new AtomicInteger();
+    private final SimpleLogger logger = SimpleLogger.getLogger(ReplicaRouter.class);
+    
+    /**
+     * 복제본 하나와 그 풀, 상태를 나타냅니다.
+     */
+    private static final class Replica {
+        private final String name;
+        private final String hostAndPort;
+        private volatile ConnectionPool pool;        // 첫 사용 시 생성
+        private volatile long unavailableUntil;      // 이 시각(ms)까지 선택에서 제외
+        
+        private Replica(String name, String hostAndPort) {
+            this.name = name;
+            this.hostAndPort = hostAndPort;
+        }
+        
+        private boolean isAvailable(long now) {
+            return now >= unavailableUntil;
+        }
+        
+        private int load() {
+            ConnectionPool current = pool;
+            return current == null ? 0 : current.getActiveConnectionCount();
+        }
+    }
+    
+    // ==================== Singleton 패턴 구현 ====================
+    
+    private static class SingletonHolder {
+        private static final ReplicaRouter INSTANCE = new ReplicaRouter();
+    }
+    
+    private ReplicaRouter() {
+        DatabaseConfigLoader config = DatabaseConnection.getConfigLoader();
+        this.retryInterval = config.getReplicaRetryInterval();
+        
+        List<Replica> list = new ArrayList<>();
+        for (String hostAndPort : config.getReplicaHosts()) {
+            list.add(new Replica("replica-" + (list.size() + 1), hostAndPort));
+        }
+        this.replicas = Collections.unmodifiableList(list);
+        
+        if (!replicas.isEmpty()) {
+            logger.info("읽기 복제본 " + replicas.size() + "개 설정됨: " + config.getReplicaHosts());
+        }
+    }
+    
+    /**
+     * ReplicaRouter 싱글톤 인스턴스를 반환합니다.
+     * 
+     * @return ReplicaRouter 인스턴스
+     */
+    public static ReplicaRouter getInstance() {
+        return SingletonHolder.INSTANCE;
+    }
+    
+    /**
+     * 복제본이 하나 이상 설정되어 있는지 확인합니다.
+     * 
+     * @return 복제본 설정 여부
+     */
+    public boolean hasReplicas() {
+        return !replicas.isEmpty();
+    }
+    
+    /**
+     * 읽기 전용 연결을 대여합니다.
+     * 사용 가능한 복제본이 없으면 기본 풀에서 대여합니다.
+     * 
+     * @return 복제본 또는 기본 풀의 연결 ({@link PooledConnection})
+     * @throws SQLException 기본 풀에서도 연결을 얻지 못한 경우
+     */
+    public Connection getConnection() throws SQLException {
+        if (replicas.isEmpty()) {
+            return ConnectionPool.getInstance().getConnection();
+        }
+        
+        // 선택한 복제본이 실패하면 다음으로 부하가 적은 복제본을 시도
+        List<Replica> tried = new ArrayList<>(replicas.size());
+        Replica replica;
+        while ((replica = selectLeastBusy(tried)) != null) {
+            tried.add(replica);
+            try {
+                Connection connection = borrowFrom(replica);
+                if (connection != null) {
+                    return connection;
+                }
+            } catch (SQLTimeoutException e) {
+                // 복제본이 바쁠 뿐 장애는 아니므로 제외하지 않음
+                logger.debug("복제본 %s 연결 대기 시간 초과, 다른 풀로 대체", replica.name);
+            } catch (SQLException | RuntimeException e) {
+                markUnavailable(replica, e);
+            }
+        }
+        
+        logger.debug("사용 가능한 복제본이 없어 기본 풀에서 읽기 연결을 대여합니다.");
+        return ConnectionPool.getInstance().getConnection();
+    }
+    
+    /**
+     * 제외되지 않은 복제본 중 대여 중인 연결이 가장 적은 복제본을 고릅니다.
+     * 
+     * @param excluded 이번 요청에서 이미 실패한 복제본
+     * @return 선택된 복제본, 없으면 null
+     */
+    private Replica selectLeastBusy(List<Replica> excluded) {
+        long now = System.currentTimeMillis();
+        int size = replicas.size();
+        int start = Math.floorMod(nextIndex.getAndIncrement(), size);
+        
+        Replica best = null;
+        int bestLoad = Integer.MAX_VALUE;
+        for (int i = 0; i < size; i++) {
+            Replica candidate = replicas.get((start + i) % size);
+            if (!candidate.isAvailable(now) || excluded.contains(candidate)) {
+                continue;
+            }
+            int load = candidate.load();
+            if (load < bestLoad) {
+                best = candidate;
+                bestLoad = load;
+            }
+        }
+        return best;
+    }
+    
+    /**
+     * 복제본 풀에서 연결을 대여합니다. 풀이 없으면 먼저 생성합니다.
+     * 
+     * @param replica 대상 복제본
+     * @return 대여한 연결, 다른 스레드의 풀 생성이 실패해 복제본이 제외되었으면 null
+     * @throws SQLException 연결 실패 시
+     */
+    private Connection borrowFrom(Replica replica) throws SQLException {
+        ConnectionPool pool = replica.pool;
+        if (pool == null) {
+            synchronized (replica) {
+                pool = replica.pool;
+                if (pool == null) {
+                    // 기다리는 동안 다른 스레드가 생성에 실패했다면 다시 시도하지 않음
+                    if (!replica.isAvailable(System.currentTimeMillis())) {
+                        return null;
+                    }
+                    String hostAndPort = replica.hostAndPort;
+                    pool = new ConnectionPool(replica.name,
+                            () -> DatabaseConnection.getReplicaConnection(hostAndPort));
+                    replica.pool = pool;
+                }
+            }
+        }
+        return pool.getConnection();
+    }
+    
+    private void markUnavailable(Replica replica, Exception cause) {
+        replica.unavailableUntil = System.currentTimeMillis() + retryInterval;
+        logger.error("복제본 " + replica.name + "(" + replica.hostAndPort + ") 연결 실패, "
+                + retryInterval + "ms 동안 기본 풀로 대체합니다: " + cause.getMessage());
+    }
+    
+    /**
+     * 생성된 복제본 풀의 지표 스냅샷을 반환합니다.
+     * 
+     * @return 복제본 풀 지표 목록 (아직 사용되지 않은 복제본은 제외)
+     */
+    public List<PoolStats> getReplicaStats() {
+        List<PoolStats> stats = new ArrayList<>();
+        for (Replica replica : replicas) {
+            ConnectionPool pool = replica.pool;
+            if (pool != null) {
+                stats.add(pool.getStats());
+            }
+        }
+        return stats;
+    }
+    
+    /**
+     * 모든 복제본 풀을 종료합니다.
+     */
+    public void shutdown() {
+        for (Replica replica : replicas) {
+            ConnectionPool pool = replica.pool;
+            if (pool != null) {
+                pool.shutdown();
+                replica.pool = null;
+            }
+        }
+    }
+}
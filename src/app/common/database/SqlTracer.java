@@ -0,0 +1,259 @@
+package app.common.database;
+
+import app.common.SimpleLogger;
+import app.common.metrics.JmxExporter;
+import app.common.metrics.LatencyHistogram;
+import app.config.DatabaseConfigLoader;
+import app.config.DatabaseConnection;
+import java.sql.Statement;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/**
+ * SQL 문장별 실행 통계를 수집하는 추적기입니다. (db.trace.enabled, 기본값: 꺼짐)
+ * 
+ * <p>켜져 있으면 {@link PooledConnection}이 만드는 문장을 {@link TracingStatementHandler}로 감싸
+ * 실행 시간, 바인드 파라미터 수, 반환/변경 행 수, 문장을 준비한 호출 위치(리포지토리 메서드)를 기록합니다.
+ * 통계는 SQL 지문(fingerprint)별로 모으며, 지문은 공백을 정리하고 리터럴을 ?로, IN 목록을 (?+)로 바꾼 SQL입니다.
+ * 서로 다른 지문은 db.trace.maxStatements종까지만 따로 모으고 나머지는 "(기타)"로 합칩니다.</p>
+ * 
+ * <p>꺼져 있으면 문장을 준비할 때 volatile 필드 하나를 읽는 것 외에는 비용이 없습니다.</p>
+ * 
+ * @author MANAZOO Team
+ * @since 2.0
+ */
+public final class SqlTracer implements SqlTracerMXBean {
+    
+    private static final String OTHER = "(기타)";
+    private static final int MAX_CALL_SITES = 5;
+    private static final int MAX_FINGERPRINT_CACHE = 1000;
+    
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+    private static final Pattern STRING_LITERAL = Pattern.compile("'(?:[^']|'')*'");
+    private static final Pattern NUMBER_LITERAL = Pattern.compile("(?<![\\w.])-?\\d+(?:\\.\\d+)?\\b");
+    private static final Pattern IN_LIST = Pattern.compile("\\(\\s*\\?(?:\\s*,\\s*\\?)+\\s*\\)");
+    
+    /**
+     * SQL 지문 하나의 통계입니다.
+     */
+    private static final class SqlStats {
+        private final LatencyHistogram time = new LatencyHistogram();
+        private final LongAdder errors = new LongAdder();
+        private final LongAdder rows = new LongAdder();
+        private final LongAccumulator maxRows = new LongAccumulator(Long::max, 0L);
+        private final Set<String> callSites = ConcurrentHashMap.newKeySet();
+        private volatile int binds;
+    }
+    
+    private final Map<String, SqlStats> statements = new ConcurrentHashMap<>();
+    private final Map<String, String> fingerprints = new ConcurrentHashMap<>();
+    private final LongAdder executions = new LongAdder();
+    private final int maxStatements;
+    private final int topN;
+    private final SimpleLogger logger = SimpleLogger.getLogger(SqlTracer.class);
+    
+    private volatile boolean enabled;
+    
+    // ==================== Singleton 패턴 구현 ====================
+    
+    private static class SingletonHolder {
+        private static final SqlTracer INSTANCE = new SqlTracer();
+    }
+    
+    private SqlTracer() {
+        DatabaseConfigLoader config = DatabaseConnection.getConfigLoader();
+        this.enabled = config.isTraceEnabled();
+        this.maxStatements = Math.max(1, config.getTraceMaxStatements());
+        this.topN = Math.max(1, config.getTraceTopN());
+        JmxExporter.register("SqlTracer", this);
+    }
+    
+    /**
+     * SqlTracer 싱글톤 인스턴스를 반환합니다.
+     * 
+     * @return SqlTracer 인스턴스
+     */
+    public static SqlTracer getInstance() {
+        return SingletonHolder.INSTANCE;
+    }
+    
+    /**
+     * 추적이 켜져 있으면 문장을 추적 프록시로 감쌉니다.
+     * 
+     * @param <T> 문장 타입 (Statement, PreparedStatement, CallableStatement)
+     * @param type 프록시가 구현할 인터페이스
+     * @param statement 감쌀 문장
+     * @param owner 문장을 만든 풀 프록시 연결
+     * @param sql 준비된 SQL (Statement이면 null)
+     * @return 추적 프록시, 꺼져 있으면 전달받은 문장
+     */
+    static <T extends Statement> T trace(Class<T> type, T statement, PooledConnection owner, String sql) {
+        SqlTracer tracer = getInstance();
+        if (!tracer.enabled) {
+            return statement;
+        }
+        return TracingStatementHandler.wrap(tracer, type, statement, owner, sql, resolveCallSite());
+    }
+    
+    /**
+     * 문장을 준비한 호출 위치를 찾습니다. 풀/JDK/프록시 프레임은 건너뜁니다.
+     * 
+     * @return 호출 위치 (예: "JdbcAnimalRepository.findAll")
+     */
+    private static String resolveCallSite() {
+        return StackWalker.getInstance()
+                .walk(frames -> frames
+                        .filter(frame -> !isInfrastructure(frame.getClassName()))
+                        .findFirst()
+                        .map(frame -> {
+                            String className = frame.getClassName();
+                            return className.substring(className.lastIndexOf('.') + 1) + "." + frame.getMethodName();
+                        })
+                        .orElse("unknown"));
+    }
+    
+    private static boolean isInfrastructure(String className) {
+        return className.startsWith(SqlTracer.class.getPackageName() + ".")
+                || className.startsWith("java.") || className.startsWith("javax.")
+                || className.startsWith("jdk.") || className.startsWith("sun.")
+                || className.startsWith("com.sun.") || className.contains("$Proxy");
+    }
+    
+    /**
+     * 실행 한 건을 기록합니다.
+     * 
+     * @param sql 실행한 SQL
+     * @param callSite 문장을 준비한 호출 위치
+     * @param binds 바인드 파라미터 수
+     * @param nanos 실행 시간 (ns)
+     * @param rows 반환하거나 변경한 행 수
+     * @param failed 실행 실패 여부
+     */
+    void record(String sql, String callSite, int binds, long nanos, long rows, boolean failed) {
+        SqlStats stats = statsFor(fingerprint(sql));
+        executions.increment();
+        stats.time.record(nanos);
+        stats.rows.add(rows);
+        stats.maxRows.accumulate(rows);
+        stats.binds = binds;
+        if (failed) {
+            stats.errors.increment();
+        }
+        if (stats.callSites.size() < MAX_CALL_SITES) {
+            stats.callSites.add(callSite);
+        }
+    }
+    
+    private SqlStats statsFor(String fingerprint) {
+        SqlStats stats = statements.get(fingerprint);
+        if (stats != null) {
+            return stats;
+        }
+        String key = statements.size() < maxStatements ? fingerprint : OTHER;
+        return statements.computeIfAbsent(key, k -> new SqlStats());
+    }
+    
+    /**
+     * SQL 지문을 만듭니다. 같은 SQL 문자열의 결과는 캐시합니다.
+     * 
+     * @param sql SQL 문자열
+     * @return 지문
+     */
+    String fingerprint(String sql) {
+        if (sql == null) {
+            return "(unknown)";
+        }
+        String cached = fingerprints.get(sql);
+        if (cached != null) {
+            return cached;
+        }
+        String fingerprint = WHITESPACE.matcher(sql.trim()).replaceAll(" ");
+        fingerprint = STRING_LITERAL.matcher(fingerprint).replaceAll("?");
+        fingerprint = NUMBER_LITERAL.matcher(fingerprint).replaceAll("?");
+        fingerprint = IN_LIST.matcher(fingerprint).replaceAll("(?+)");
+        if (fingerprints.size() < MAX_FINGERPRINT_CACHE) {
+            fingerprints.put(sql, fingerprint);
+        }
+        return fingerprint;
+    }
+    
+    @Override
+    public boolean isEnabled() {
+        return enabled;
+    }
+    
+    @Override
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+        logger.info("SQL 추적 " + (enabled ? "시작" : "중지"));
+    }
+    
+    @Override
+    public int getStatementCount() {
+        return statements.size();
+    }
+    
+    @Override
+    public long getExecutionCount() {
+        return executions.sum();
+    }
+    
+    @Override
+    public String[] getTopStatements() {
+        return topStatements().stream().map(SqlTracer::describe).toArray(String[]::new);
+    }
+    
+    @Override
+    public void reset() {
+        statements.clear();
+        executions.reset();
+    }
+    
+    private List<Map.Entry<String, SqlStats>> topStatements() {
+        return statements.entrySet().stream()
+                .filter(entry -> entry.getValue().time.getCount() > 0)
+                .sorted(Comparator.comparingDouble((Map.Entry<String, SqlStats> entry) -> totalMillis(entry.getValue()))
+                        .reversed())
+                .limit(topN)
+                .collect(Collectors.toList());
+    }
+    
+    private static String describe(Map.Entry<String, SqlStats> entry) {
+        SqlStats stats = entry.getValue();
+        long count = stats.time.getCount();
+        return String.format("%s%n     %d회, 전체 %.1fms, 평균 %.2fms, p95 %.1fms, 최대 %.1fms,"
+                + " 행 평균 %.1f / 최대 %d, 바인드 %d, 오류 %d [%s]",
+                entry.getKey(), count, totalMillis(stats), stats.time.meanMillis(),
+                stats.time.percentileMillis(95.0), stats.time.maxMillis(),
+                (double) stats.rows.sum() / count, stats.maxRows.get(), stats.binds, stats.errors.sum(),
+                String.join(", ", stats.callSites));
+    }
+    
+    private static double totalMillis(SqlStats stats) {
+        return stats.time.meanMillis() * stats.time.getCount();
+    }
+    
+    /**
+     * 콘솔 출력용 텍스트를 만듭니다.
+     * SQL은 전체 실행 시간이 큰 순서로 상위 db.trace.topN개를 보여 줍니다.
+     * 
+     * @return SQL 추적 통계 텍스트
+     */
+    public String format() {
+        StringBuilder sb = new StringBuilder();
+        sb.append(String.format("SQL 추적: %s, %d종 / 실행 %d회", enabled ? "켜짐" : "꺼짐 (db.trace.enabled)",
+                getStatementCount(), getExecutionCount()));
+        int rank = 1;
+        for (Map.Entry<String, SqlStats> entry : topStatements()) {
+            sb.append(String.format("%n  %d. %s", rank++, describe(entry)));
+        }
+        return sb.toString();
+    }
+}
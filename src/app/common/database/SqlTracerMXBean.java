@@ -0,0 +1,35 @@
+package app.common.database;
+
+/**
+ * SQL 실행 통계를 JMX로 노출하기 위한 MXBean 인터페이스입니다.
+ * "app.manazoo:type=SqlTracer" 이름으로 등록됩니다.
+ * 
+ * @author MANAZOO Team
+ * @since 2.0
+ */
+public interface SqlTracerMXBean {
+    
+    /** @return SQL 추적 사용 여부 */
+    boolean isEnabled();
+    
+    /**
+     * SQL 추적을 켜거나 끕니다. 이후에 준비하는 문장부터 적용됩니다.
+     * 
+     * @param enabled 사용 여부
+     */
+    void setEnabled(boolean enabled);
+    
+    /** @return 통계를 수집 중인 SQL 종류 수 */
+    int getStatementCount();
+    
+    /** @return 추적한 누적 실행 횟수 */
+    long getExecutionCount();
+    
+    /** @return 전체 실행 시간이 큰 순서의 상위 SQL 통계 */
+    String[] getTopStatements();
+    
+    /**
+     * 수집한 통계를 모두 지웁니다.
+     */
+    void reset();
+}
@@ -0,0 +1,229 @@
+package app.common.database;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ * {@link SqlTracer}가 켜져 있을 때 문장을 감싸 실행 통계를 기록하는 동적 프록시 핸들러입니다.
+ * 
+ * <p>execute 계열 메서드의 실행 시간을 재고, 바인드 파라미터 수는 set 계열 메서드로 지정된 가장 큰 인덱스로 셉니다.
+ * 변경 문장은 실행 직후 변경 행 수와 함께 기록합니다. 조회 문장은 ResultSet도 감싸 next()로 읽은 행 수를 세고,
+ * ResultSet이나 문장이 닫히거나 다음 실행이 시작될 때 기록합니다.
+ * 문장은 한 번에 한 스레드만 사용하므로 상태는 동기화하지 않습니다.</p>
+ * 
+ * @author MANAZOO Team
+ * @since 2.0
+ */
+final class TracingStatementHandler implements InvocationHandler {
+    
+    private final SqlTracer tracer;
+    private final Statement delegate;
+    private final PooledConnection owner;
+    private final String preparedSql;
+    private final String callSite;
+    private Object proxy;
+    private int binds;
+    private String batchSql;
+    
+    // 행을 다 읽기 전인 조회 실행 (없으면 pendingSql == null)
+    private String pendingSql;
+    private long pendingNanos;
+    private long pendingRows;
+    
+    private TracingStatementHandler(SqlTracer tracer, Statement delegate, PooledConnection owner, String sql,
+            String callSite) {
+        this.tracer = tracer;
+        this.delegate = delegate;
+        this.owner = owner;
+        this.preparedSql = sql;
+        this.callSite = callSite;
+    }
+    
+    /**
+     * 문장을 추적 프록시로 감쌉니다.
+     * 
+     * @param <T> 문장 타입
+     * @param tracer 통계를 기록할 추적기
+     * @param type 프록시가 구현할 인터페이스
+     * @param delegate 감쌀 문장
+     * @param owner 문장을 만든 풀 프록시 연결
+     * @param sql 준비된 SQL (Statement이면 null)
+     * @param callSite 문장을 준비한 호출 위치
+     * @return 추적 프록시
+     */
+    static <T extends Statement> T wrap(SqlTracer tracer, Class<T> type, T delegate, PooledConnection owner,
+            String sql, String callSite) {
+        TracingStatementHandler handler = new TracingStatementHandler(tracer, delegate, owner, sql, callSite);
+        T proxy = type.cast(Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[] { type }, handler));
+        handler.proxy = proxy;
+        return proxy;
+    }
+    
+    @Override
+    public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+        String name = method.getName();
+        switch (name) {
+            case "close":
+                finishPending();
+                break;
+            case "getConnection":
+                return owner;
+            case "equals":
+                return proxy == args[0];
+            case "hashCode":
+                return System.identityHashCode(proxy);
+            case "toString":
+                return "TracingStatement[" + (preparedSql != null ? preparedSql : delegate) + "]";
+            case "clearParameters":
+                binds = 0;
+                break;
+            case "addBatch":
+                if (args != null && args.length == 1 && batchSql == null) {
+                    batchSql = (String) args[0];
+                }
+                break;
+            case "getResultSet":
+                return wrapResultSet((ResultSet) invokeDelegate(method, args));
+            default:
+                if (name.startsWith("set") && args != null && args.length >= 2 && args[0] instanceof Integer) {
+                    binds = Math.max(binds, (Integer) args[0]);
+                } else if (name.startsWith("execute")) {
+                    return execute(method, args);
+                }
+                break;
+        }
+        return invokeDelegate(method, args);
+    }
+    
+    private Object execute(Method method, Object[] args) throws Throwable {
+        finishPending();
+        String name = method.getName();
+        boolean batch = name.equals("executeBatch") || name.equals("executeLargeBatch");
+        String sql = batch && batchSql != null ? batchSql
+                : args != null && args.length > 0 && args[0] instanceof String ? (String) args[0] : preparedSql;
+        if (batch) {
+            batchSql = null;
+        }
+        
+        long start = System.nanoTime();
+        Object result;
+        try {
+            result = invokeDelegate(method, args);
+        } catch (SQLException | RuntimeException e) {
+            tracer.record(sql, callSite, binds, System.nanoTime() - start, 0, true);
+            throw e;
+        }
+        long nanos = System.nanoTime() - start;
+        
+        if (result instanceof ResultSet) {
+            pendingSql = sql;
+            pendingNanos = nanos;
+            pendingRows = 0;
+            return wrapResultSet((ResultSet) result);
+        }
+        if (result instanceof Boolean) {
+            if ((Boolean) result) {
+                // 결과가 ResultSet이면 getResultSet()으로 읽은 행 수까지 세고 기록
+                pendingSql = sql;
+                pendingNanos = nanos;
+                pendingRows = 0;
+            } else {
+                tracer.record(sql, callSite, binds, nanos, Math.max(0, delegate.getUpdateCount()), false);
+            }
+            return result;
+        }
+        tracer.record(sql, callSite, binds, nanos, updatedRows(result), false);
+        return result;
+    }
+    
+    private static long updatedRows(Object result) {
+        if (result instanceof Number) {
+            return Math.max(0L, ((Number) result).longValue());
+        }
+        long rows = 0;
+        if (result instanceof int[]) {
+            for (int count : (int[]) result) {
+                rows += Math.max(0, count);
+            }
+        } else if (result instanceof long[]) {
+            for (long count : (long[]) result) {
+                rows += Math.max(0L, count);
+            }
+        }
+        return rows;
+    }
+    
+    private ResultSet wrapResultSet(ResultSet resultSet) {
+        if (resultSet == null) {
+            return null;
+        }
+        return (ResultSet) Proxy.newProxyInstance(ResultSet.class.getClassLoader(),
+                new Class<?>[] { ResultSet.class }, new ResultSetHandler(resultSet));
+    }
+    
+    /**
+     * 행을 읽는 중이던 조회 실행을 기록합니다.
+     */
+    private void finishPending() {
+        if (pendingSql != null) {
+            tracer.record(pendingSql, callSite, binds, pendingNanos, pendingRows, false);
+            pendingSql = null;
+        }
+    }
+    
+    private Object invokeDelegate(Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(delegate, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+    
+    /**
+     * 읽은 행 수를 세는 ResultSet 프록시 핸들러입니다.
+     */
+    private final class ResultSetHandler implements InvocationHandler {
+        private final ResultSet resultSet;
+        
+        private ResultSetHandler(ResultSet resultSet) {
+            this.resultSet = resultSet;
+        }
+        
+        @Override
+        public Object invoke(Object rsProxy, Method method, Object[] args) throws Throwable {
+            switch (method.getName()) {
+                case "next":
+                    Object hasRow = invokeResultSet(method, args);
+                    if ((Boolean) hasRow) {
+                        pendingRows++;
+                    }
+                    return hasRow;
+                case "close":
+                    finishPending();
+                    break;
+                case "getStatement":
+                    return proxy;
+                case "equals":
+                    return rsProxy == args[0];
+                case "hashCode":
+                    return System.identityHashCode(rsProxy);
+                default:
+                    break;
+            }
+            return invokeResultSet(method, args);
+        }
+        
+        private Object invokeResultSet(Method method, Object[] args) throws Throwable {
+            try {
+                return method.invoke(resultSet, args);
+            } catch (InvocationTargetException e) {
+                throw e.getCause();
+            }
+        }
+    }
+}
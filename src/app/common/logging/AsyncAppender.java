@@ -0,0 +1,236 @@
+package app.common.logging;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 로그 이벤트를 링 버퍼에 넣고 백그라운드 스레드 하나가 모아서 기록하는 appender입니다.
+ * 
+ * <p>호출 스레드는 이벤트를 잠금 없는 링 버퍼({@link LogRingBuffer})에 넣기만 하고 콘솔 잠금이나
+ * 줄 단위 flush를 기다리지 않습니다. 기록 스레드는 쌓인 이벤트를 한 번에 꺼내 싱크 버퍼에 쓴 뒤
+ * 한 번만 비웁니다.</p>
+ * 
+ * <p>버퍼가 가득 찼을 때의 동작은 {@link OverflowPolicy}로 정합니다. 종료 시에는 종료 훅에서
+ * 남은 이벤트를 모두 기록하며, 그 이후의 이벤트는 호출 스레드에서 바로 기록합니다.</p>
+ * 
+ * @author MANAZOO Team
+ * @since 2.0
+ */
+public final class AsyncAppender implements LogAppender {
+
+    /**
+     * 링 버퍼가 가득 찼을 때의 처리 방식입니다.
+     */
+    public enum OverflowPolicy {
+        /** 새 이벤트를 버림 (호출 스레드는 기다리지 않음) */
+        DROP,
+        /** 자리가 날 때까지 호출 스레드가 기다림 (이벤트를 잃지 않음) */
+        BLOCK,
+        /** ERROR와 sampleRate건 중 1건만 기다려서 남기고 나머지는 버림 */
+        SAMPLE;
+
+        /**
+         * 설정 문자열을 정책으로 변환합니다.
+         * 
+         * @param value "drop", "block", "sample" (대소문자 무시)
+         * @return 정책, 알 수 없는 값이면 BLOCK
+         */
+        public static OverflowPolicy from(String value) {
+            for (OverflowPolicy policy : values()) {
+                if (policy.name().equalsIgnoreCase(value)) {
+                    return policy;
+                }
+            }
+            return BLOCK;
+        }
+    }
+
+    private static final long IDLE_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(10);
+    private static final long FULL_PARK_NANOS = TimeUnit.MICROSECONDS.toNanos(50);
+    private static final long SHUTDOWN_TIMEOUT_MILLIS = 2000;
+
+    private final LogSink sink;                     // 기록은 항상 sink를 잠근 상태에서 수행
+    private final LogRingBuffer<LogEvent> buffer;
+    private final OverflowPolicy overflowPolicy;
+    private final int sampleRate;
+    private final Thread writer;
+    private final LongAdder dropped = new LongAdder();
+    private final AtomicLong overflows = new AtomicLong();
+    private long reportedDrops;                     // sink 잠금으로 보호
+    private volatile boolean writerParked;
+    private volatile boolean closed;
+
+    /**
+     * 기록 스레드를 시작하고 종료 훅을 등록합니다.
+     * 
+     * @param sink 로그를 기록할 대상
+     * @param capacity 링 버퍼 크기 (2의 거듭제곱으로 올림)
+     * @param overflowPolicy 버퍼가 가득 찼을 때의 처리 방식
+     * @param sampleRate SAMPLE 정책에서 남길 비율 (N건 중 1건)
+     */
+    public AsyncAppender(LogSink sink, int capacity, OverflowPolicy overflowPolicy, int sampleRate) {
+        this.sink = sink;
+        this.buffer = new LogRingBuffer<>(capacity);
+        this.overflowPolicy = overflowPolicy;
+        this.sampleRate = Math.max(1, sampleRate);
+
+        this.writer = new Thread(this::runWriter, "manazoo-log-writer");
+        writer.setDaemon(true);
+        writer.start();
+        Runtime.getRuntime().addShutdownHook(new Thread(this::close, "manazoo-log-flush"));
+    }
+
+    @Override
+    public void append(LogLevel level, String loggerName, String message, Throwable throwable) {
+        LogEvent event = new LogEvent(level, loggerName, message, throwable);
+        if (closed) {
+            writeDirect(event);
+            return;
+        }
+        if (!buffer.offer(event) && !handleOverflow(event)) {
+            dropped.increment();
+            return;
+        }
+        if (closed) {
+            // 기록 스레드가 이미 멈췄을 수 있으므로 직접 비움
+            drain();
+        } else if (writerParked) {
+            writerParked = false;
+            LockSupport.unpark(writer);
+        }
+    }
+
+    /**
+     * 버퍼가 가득 찼을 때 정책에 따라 자리가 날 때까지 기다립니다.
+     * 
+     * @return 이벤트를 넣었거나 기록했으면 true, 버려야 하면 false
+     */
+    private boolean handleOverflow(LogEvent event) {
+        boolean wait = switch (overflowPolicy) {
+        case DROP -> false;
+        case BLOCK -> true;
+        case SAMPLE -> event.level == LogLevel.ERROR || overflows.incrementAndGet() % sampleRate == 0;
+        };
+        if (!wait) {
+            return false;
+        }
+        while (!buffer.offer(event)) {
+            if (closed) {
+                writeDirect(event);
+                return true;
+            }
+            LockSupport.unpark(writer);
+            LockSupport.parkNanos(this, FULL_PARK_NANOS);
+        }
+        return true;
+    }
+
+    @Override
+    public void flush() {
+        drain();
+    }
+
+    /**
+     * 버퍼에 남은 이벤트를 모두 기록하고 기록 스레드를 멈춥니다. 종료 훅에서 호출됩니다.
+     */
+    public void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        LockSupport.unpark(writer);
+        try {
+            writer.join(SHUTDOWN_TIMEOUT_MILLIS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        drain();
+    }
+
+    /**
+     * @return 버퍼가 가득 차 버린 이벤트 수
+     */
+    public long getDroppedCount() {
+        return dropped.sum();
+    }
+
+    private void runWriter() {
+        while (!closed) {
+            if (!drain()) {
+                writerParked = true;
+                // 표시 후 다시 확인해야 그 사이에 들어온 이벤트를 놓치지 않음
+                if (buffer.isEmpty() && !closed) {
+                    LockSupport.parkNanos(this, IDLE_PARK_NANOS);
+                }
+                writerParked = false;
+            }
+        }
+        drain();
+    }
+
+    /**
+     * 쌓인 이벤트를 모두 꺼내 기록하고 한 번 비웁니다. 링 버퍼의 소비자는 sink 잠금을 가진 스레드 하나뿐입니다.
+     * 
+     * @return 기록한 이벤트가 있으면 true
+     */
+    private boolean drain() {
+        synchronized (sink) {
+            int written = 0;
+            try {
+                LogEvent event;
+                while ((event = buffer.poll()) != null) {
+                    sink.write(event.level, event.format());
+                    written++;
+                }
+                long drops = dropped.sum();
+                if (drops != reportedDrops) {
+                    sink.write(LogLevel.INFO, LogLine.format(LogLevel.INFO, "SimpleLogger",
+                            "로그 버퍼(" + buffer.capacity() + ")가 가득 차 " + (drops - reportedDrops) + "건을 버렸습니다.", null));
+                    reportedDrops = drops;
+                    written++;
+                }
+                if (written > 0) {
+                    sink.flush();
+                }
+            } catch (IOException e) {
+                // 로그 기록 실패로 업무 처리를 멈추지 않음
+            }
+            return written > 0;
+        }
+    }
+
+    private void writeDirect(LogEvent event) {
+        synchronized (sink) {
+            try {
+                sink.write(event.level, event.format());
+                sink.flush();
+            } catch (IOException e) {
+                // 로그 기록 실패로 업무 처리를 멈추지 않음
+            }
+        }
+    }
+
+    /**
+     * 버퍼에 담기는 로그 이벤트입니다. 줄 만들기는 기록 스레드에서 수행합니다.
+     */
+    private static final class LogEvent {
+        private final LogLevel level;
+        private final String loggerName;
+        private final String message;
+        private final Throwable throwable;
+
+        private LogEvent(LogLevel level, String loggerName, String message, Throwable throwable) {
+            this.level = level;
+            this.loggerName = loggerName;
+            this.message = message;
+            this.throwable = throwable;
+        }
+
+        private String format() {
+            return LogLine.format(level, loggerName, message, throwable);
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package app.common.logging;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.CodingErrorAction;
+
+/**
+ * 문자열을 인코딩해 바이트 버퍼에 모았다가 채널로 내보냅니다. 싱크 구현에서 공통으로 사용합니다.
+ * 
+ * @author MANAZOO Team
+ * @since 2.0
+ */
+final class ChannelWriter {
+
+    private final WritableByteChannel channel;
+    private final CharsetEncoder encoder;
+    private final ByteBuffer buffer;
+    private long drainedBytes;
+
+    /**
+     * @param channel 내보낼 채널
+     * @param charset 문자 인코딩
+     * @param bufferSize 버퍼 크기 (bytes)
+     * @param initialSize 채널에 이미 기록된 크기 (bytes)
+     */
+    ChannelWriter(WritableByteChannel channel, Charset charset, int bufferSize, long initialSize) {
+        this.channel = channel;
+        this.encoder = charset.newEncoder()
+                .onMalformedInput(CodingErrorAction.REPLACE)
+                .onUnmappableCharacter(CodingErrorAction.REPLACE);
+        this.buffer = ByteBuffer.allocate(bufferSize);
+        this.drainedBytes = initialSize;
+    }
+
+    /**
+     * 문자열을 버퍼에 씁니다. 버퍼가 가득 차면 그 자리에서 채널로 내보냅니다.
+     */
+    void write(CharSequence text) throws IOException {
+        CharBuffer chars = CharBuffer.wrap(text);
+        while (encoder.encode(chars, buffer, true) == CoderResult.OVERFLOW) {
+            flush();
+        }
+        while (encoder.flush(buffer) == CoderResult.OVERFLOW) {
+            flush();
+        }
+        encoder.reset();
+    }
+
+    /**
+     * 버퍼의 내용을 모두 채널로 내보냅니다.
+     */
+    void flush() throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            drainedBytes += channel.write(buffer);
+        }
+        buffer.clear();
+    }
+
+    boolean hasPending() {
+        return buffer.position() > 0;
+    }
+
+    /**
+     * @return 채널에 기록했거나 버퍼에 남은 전체 크기 (bytes)
+     */
+    long size() {
+        return drainedBytes + buffer.position();
+    }
+}
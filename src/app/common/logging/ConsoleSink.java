@@ -0,0 +1,71 @@
+package app.common.logging;
+
+import java.io.FileDescriptor;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.channels.Channels;
+import java.nio.charset.Charset;
+
+/**
+ * 콘솔(표준 출력/표준 오류)에 로그를 기록합니다. ERROR는 표준 오류로, 나머지는 표준 출력으로 보냅니다.
+ * 
+ * <p>System.out처럼 줄마다 잠그고 비우지 않고, 로그 줄을 바이트 버퍼에 모았다가 {@link #flush()} 때
+ * 채널로 한 번에 씁니다. 화면 출력 순서가 뒤섞이지 않도록 내보내기 전에 System.out/System.err에
+ * 남아 있는 내용을 먼저 비웁니다. 문자 인코딩은 stdout.encoding/stderr.encoding 시스템 프로퍼티
+ * (콘솔 코드 페이지)를 따르고, 없으면 기본 인코딩을 사용합니다.</p>
+ * 
+ * <p>파일 디스크립터에 직접 쓰므로 System.setOut/setErr로 바꾼 출력에는 기록되지 않습니다.
+ * 비동기 방식({@link AsyncAppender})에서만 사용하며, 동기 방식은 {@link PrintStreamSink}를 사용합니다.</p>
+ * 
+ * @author MANAZOO Team
+ * @since 2.0
+ */
+public final class ConsoleSink implements LogSink {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final ChannelWriter out = newWriter(FileDescriptor.out, "stdout.encoding");
+    private final ChannelWriter err = newWriter(FileDescriptor.err, "stderr.encoding");
+
+    private static ChannelWriter newWriter(FileDescriptor fd, String encodingProperty) {
+        return new ChannelWriter(Channels.newChannel(new FileOutputStream(fd)), streamCharset(encodingProperty),
+                BUFFER_SIZE, 0);
+    }
+
+    /**
+     * 콘솔 스트림의 문자 인코딩을 찾습니다. (JDK 18 이상은 기본 인코딩이 UTF-8이어도 콘솔은 코드 페이지를 사용)
+     * 
+     * @param encodingProperty 인코딩 시스템 프로퍼티 이름
+     * @return 스트림 인코딩, 프로퍼티가 없거나 지원하지 않으면 기본 인코딩
+     */
+    private static Charset streamCharset(String encodingProperty) {
+        String encoding = System.getProperty(encodingProperty);
+        if (encoding != null) {
+            try {
+                return Charset.forName(encoding);
+            } catch (IllegalArgumentException e) {
+                // 알 수 없는 인코딩이면 기본 인코딩 사용
+            }
+        }
+        return Charset.defaultCharset();
+    }
+
+    @Override
+    public void write(LogLevel level, CharSequence line) throws IOException {
+        (level == LogLevel.ERROR ? err : out).write(line);
+    }
+
+    @Override
+    public void flush() throws IOException {
+        flush(out, System.out);
+        flush(err, System.err);
+    }
+
+    private static void flush(ChannelWriter writer, PrintStream stream) throws IOException {
+        if (writer.hasPending()) {
+            stream.flush();
+            writer.flush();
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package app.common.logging;
+
+/**
+ * 로그 이벤트를 받아 {@link LogSink}로 전달하는 방식을 정의합니다.
+ * 
+ * @author MANAZOO Team
+ * @since 2.0
+ */
+public interface LogAppender {
+
+    /**
+     * 로그 이벤트를 기록합니다.
+     * 
+     * @param level 로그 수준
+     * @param loggerName 로거 이름 (클래스명)
+     * @param message 메시지
+     * @param throwable 스택 트레이스를 함께 기록할 예외 (없으면 null)
+     */
+    void append(LogLevel level, String loggerName, String message, Throwable throwable);
+
+    /**
+     * 아직 기록되지 않은 이벤트를 모두 기록합니다.
+     */
+    void flush();
+}
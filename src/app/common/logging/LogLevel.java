@@ -0,0 +1,48 @@
+package app.common.logging;
+
+/**
+ * 로그 메시지의 수준입니다.
+ * 
+ * @author MANAZOO Team
+ * @since 2.0
+ */
+public enum LogLevel {
+    /** 개발 중 확인용 상세 메시지 */
+    DEBUG("[DEBUG]"),
+    /** 일반 정보 메시지 */
+    INFO("[INFO]"),
+    /** 오류 메시지 (표준 오류로 출력) */
+    ERROR("[ERROR]"),
+    /** 모든 메시지를 끔 (수준 설정에만 사용) */
+    OFF("[OFF]");
+
+    private final String tag;
+
+    LogLevel(String tag) {
+        this.tag = tag;
+    }
+
+    /**
+     * 로그 줄 맨 앞에 붙는 표시를 반환합니다.
+     * @return 수준 표시 (예: "[INFO]")
+     */
+    public String getTag() {
+        return tag;
+    }
+
+    /**
+     * 설정 문자열을 로그 수준으로 변환합니다.
+     * 
+     * @param value "DEBUG", "INFO", "ERROR", "OFF" (대소문자 무시)
+     * @return 로그 수준
+     * @throws IllegalArgumentException 알 수 없는 값인 경우
+     */
+    public static LogLevel from(String value) {
+        for (LogLevel level : values()) {
+            if (level.name().equalsIgnoreCase(value.trim())) {
+                return level;
+            }
+        }
+        throw new IllegalArgumentException("알 수 없는 로그 수준: " + value);
+    }
+}
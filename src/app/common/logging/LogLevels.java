@@ -0,0 +1,187 @@
+package app.common.logging;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 패키지/클래스별 로그 수준을 관리합니다.
+ * 
+ * <p>수준은 이름의 계층을 따라 적용됩니다. "app.repository.JdbcAnimalRepository"의 수준은 자신, "app.repository",
+ * "app" 순으로 가장 가까운 지정값을 쓰고, 없으면 루트 수준(-Dapp.debug=true이면 DEBUG, 아니면 INFO)을 씁니다.
+ * 시작 시 -Dapp.log.level.&lt;이름&gt;=&lt;수준&gt; 시스템 프로퍼티를 읽고, 실행 중에는 {@link #setLevel(String, LogLevel)}이나
+ * JMX("app.manazoo:type=Logging")로 바꿀 수 있습니다.</p>
+ * 
+ * <p>로거는 클래스 이름별 {@link LevelRef}를 공유합니다. 수준이 바뀌면 모든 LevelRef의 실제 수준을 다시
+ * 계산해 두므로, 로그를 남길 때의 수준 확인은 volatile 필드 하나를 읽는 것으로 끝납니다.</p>
+ * 
+ * @author MANAZOO Team
+ * @since 2.0
+ */
+public final class LogLevels {
+
+    /** 루트 수준을 나타내는 이름 */
+    public static final String ROOT = "";
+
+    private static final String PROPERTY_PREFIX = "app.log.level.";
+
+    // 지정된 수준 (ROOT 포함), LogLevels.class로 보호
+    private static final Map<String, LogLevel> configured = new TreeMap<>();
+    private static final Map<String, LevelRef> refs = new ConcurrentHashMap<>();
+
+    static {
+        configured.put(ROOT, Boolean.parseBoolean(System.getProperty("app.debug", "false")) ? LogLevel.DEBUG : LogLevel.INFO);
+        for (String key : System.getProperties().stringPropertyNames()) {
+            if (key.startsWith(PROPERTY_PREFIX)) {
+                try {
+                    configured.put(key.substring(PROPERTY_PREFIX.length()), LogLevel.from(System.getProperty(key)));
+                } catch (IllegalArgumentException e) {
+                    System.err.println("[ERROR] [LogLevels] " + e.getMessage() + " (" + key + ")");
+                }
+            }
+        }
+    }
+
+    private LogLevels() {
+    }
+
+    /**
+     * 클래스 이름에 해당하는 수준 참조를 반환합니다. 같은 이름이면 같은 객체를 반환합니다.
+     * 
+     * @param name 클래스 전체 이름
+     * @return 수준 참조
+     */
+    public static LevelRef forLogger(String name) {
+        LevelRef ref = refs.get(name);
+        if (ref != null) {
+            return ref;
+        }
+        // 수준 변경과 겹쳐 오래된 수준으로 만들어지지 않도록 잠금 안에서 생성
+        synchronized (LogLevels.class) {
+            return refs.computeIfAbsent(name, key -> new LevelRef(resolve(key)));
+        }
+    }
+
+    /**
+     * 패키지나 클래스의 로그 수준을 바꿉니다. 이미 만들어진 로거에도 바로 적용됩니다.
+     * 
+     * @param name 패키지 또는 클래스 전체 이름 ({@link #ROOT}이면 루트)
+     * @param level 로그 수준 (null이면 지정 해제, 루트는 해제할 수 없음)
+     */
+    public static synchronized void setLevel(String name, LogLevel level) {
+        if (level == null) {
+            if (!ROOT.equals(name)) {
+                configured.remove(name);
+            }
+        } else {
+            configured.put(name, level);
+        }
+        refs.forEach((key, ref) -> ref.level = resolve(key));
+    }
+
+    /**
+     * 아직 지정되지 않은 이름에만 수준을 지정합니다. 설정 파일의 값을 적용할 때 사용하며,
+     * 시스템 프로퍼티나 실행 중에 지정한 값이 우선합니다.
+     * 
+     * @param levels 이름별 로그 수준
+     */
+    public static synchronized void applyDefaults(Map<String, LogLevel> levels) {
+        levels.forEach(configured::putIfAbsent);
+        refs.forEach((key, ref) -> ref.level = resolve(key));
+    }
+
+    /**
+     * @return 루트 로그 수준
+     */
+    public static synchronized LogLevel getRootLevel() {
+        return configured.get(ROOT);
+    }
+
+    /**
+     * @return 지정된 이름별 로그 수준 (루트 포함)
+     */
+    public static synchronized Map<String, LogLevel> getConfiguredLevels() {
+        return new TreeMap<>(configured);
+    }
+
+    /**
+     * 이름에 실제로 적용되는 수준을 계층을 거슬러 올라가며 찾습니다.
+     * 
+     * @param name 클래스 전체 이름
+     * @return 적용되는 로그 수준
+     */
+    public static synchronized LogLevel resolve(String name) {
+        String current = name;
+        while (!current.isEmpty()) {
+            LogLevel level = configured.get(current);
+            if (level != null) {
+                return level;
+            }
+            int dot = current.lastIndexOf('.');
+            current = dot < 0 ? ROOT : current.substring(0, dot);
+        }
+        return configured.get(ROOT);
+    }
+
+    /**
+     * JMX 등록용 MXBean을 반환합니다.
+     * 
+     * @return 로그 수준 MXBean
+     */
+    public static LoggingMXBean getMXBean() {
+        return JmxView.INSTANCE;
+    }
+
+    /**
+     * 클래스 하나에 실제로 적용되는 로그 수준입니다.
+     */
+    public static final class LevelRef {
+        private volatile LogLevel level;
+
+        private LevelRef(LogLevel level) {
+            this.level = level;
+        }
+
+        /**
+         * @param messageLevel 메시지 수준
+         * @return 메시지를 출력해야 하면 true
+         */
+        public boolean isEnabled(LogLevel messageLevel) {
+            return messageLevel.compareTo(level) >= 0;
+        }
+
+        public LogLevel getLevel() {
+            return level;
+        }
+    }
+
+    /**
+     * JMX에 노출하는 뷰입니다.
+     */
+    private static final class JmxView implements LoggingMXBean {
+        private static final JmxView INSTANCE = new JmxView();
+
+        @Override
+        public String getRootLevel() {
+            return LogLevels.getRootLevel().name();
+        }
+
+        @Override
+        public Map<String, String> getLevels() {
+            Map<String, String> levels = new TreeMap<>();
+            getConfiguredLevels().forEach((name, level) -> levels.put(name.isEmpty() ? "(root)" : name, level.name()));
+            return levels;
+        }
+
+        @Override
+        public void setLevel(String name, String level) {
+            String target = name == null ? ROOT : name.trim();
+            LogLevels.setLevel(target, level == null || level.isBlank() ? null : LogLevel.from(level));
+        }
+
+        @Override
+        public String getEffectiveLevel(String name) {
+            return resolve(name == null ? ROOT : name.trim()).name();
+        }
+    }
+}
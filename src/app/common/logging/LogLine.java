@@ -0,0 +1,37 @@
+package app.common.logging;
+
+import java.io.PrintWriter;
+import java.io.StringWriter;
+
+/**
+ * 로그 이벤트를 "[INFO] [클래스명] 메시지" 형식의 한 줄로 만듭니다.
+ * 
+ * @author MANAZOO Team
+ * @since 2.0
+ */
+final class LogLine {
+
+    private static final String LINE_SEPARATOR = System.lineSeparator();
+
+    private LogLine() {
+    }
+
+    /**
+     * @param level 로그 수준
+     * @param loggerName 로거 이름 (클래스명)
+     * @param message 메시지 (null이면 "null")
+     * @param throwable 스택 트레이스를 덧붙일 예외 (없으면 null)
+     * @return 줄바꿈을 포함한 로그 줄
+     */
+    static String format(LogLevel level, String loggerName, String message, Throwable throwable) {
+        String text = String.valueOf(message);
+        StringBuilder sb = new StringBuilder(level.getTag().length() + loggerName.length() + text.length() + 8);
+        sb.append(level.getTag()).append(" [").append(loggerName).append("] ").append(text).append(LINE_SEPARATOR);
+        if (throwable != null) {
+            StringWriter stackTrace = new StringWriter();
+            throwable.printStackTrace(new PrintWriter(stackTrace));
+            sb.append(stackTrace);
+        }
+        return sb.toString();
+    }
+}
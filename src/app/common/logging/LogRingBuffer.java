@@ -0,0 +1,93 @@
+package app.common.logging;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * 잠금 없는 고정 크기 링 버퍼입니다. (다중 생산자, 단일 소비자)
+ * 
+ * <p>칸마다 순번을 두어 생산자는 꼬리 위치 하나만 CAS로 차지하고, 소비자는 순번이 채워진 칸만
+ * 꺼냅니다. 가득 차면 {@link #offer(Object)}가 기다리지 않고 false를 반환합니다.</p>
+ * 
+ * <p>{@link #poll()}은 동시에 한 스레드만 호출해야 합니다. (호출하는 쪽에서 보장)</p>
+ * 
+ * @param <E> 원소 타입
+ * @author MANAZOO Team
+ * @since 2.0
+ */
+final class LogRingBuffer<E> {
+
+    private final int capacity;
+    private final int mask;
+    private final AtomicReferenceArray<E> elements;
+    // 칸의 순번: 위치 p에 쓸 수 있으면 p, 위치 p의 원소가 채워졌으면 p + 1
+    private final AtomicLongArray sequences;
+    private final AtomicLong tail = new AtomicLong();
+    private volatile long head;
+
+    /**
+     * @param requestedCapacity 요청 크기 (2의 거듭제곱으로 올림)
+     */
+    LogRingBuffer(int requestedCapacity) {
+        int size = Integer.highestOneBit(Math.max(2, requestedCapacity) - 1) << 1;
+        this.capacity = size;
+        this.mask = size - 1;
+        this.elements = new AtomicReferenceArray<>(size);
+        this.sequences = new AtomicLongArray(size);
+        for (int i = 0; i < size; i++) {
+            sequences.set(i, i);
+        }
+    }
+
+    /**
+     * 원소를 넣습니다.
+     * 
+     * @param element 넣을 원소
+     * @return 넣었으면 true, 버퍼가 가득 찼으면 false
+     */
+    boolean offer(E element) {
+        while (true) {
+            long position = tail.get();
+            int index = (int) (position & mask);
+            long diff = sequences.get(index) - position;
+            if (diff == 0) {
+                if (tail.compareAndSet(position, position + 1)) {
+                    elements.lazySet(index, element);
+                    sequences.set(index, position + 1);
+                    return true;
+                }
+            } else if (diff < 0) {
+                return false;
+            }
+            // 다른 생산자가 먼저 칸을 차지했으면 새 꼬리 위치로 다시 시도
+        }
+    }
+
+    /**
+     * 가장 오래된 원소를 꺼냅니다.
+     * 
+     * @return 원소, 비어 있으면 null
+     */
+    E poll() {
+        long position = head;
+        int index = (int) (position & mask);
+        if (sequences.get(index) != position + 1) {
+            return null;
+        }
+        E element = elements.get(index);
+        elements.lazySet(index, null);
+        sequences.set(index, position + capacity);
+        head = position + 1;
+        return element;
+    }
+
+    boolean isEmpty() {
+        long position = head;
+        return sequences.get((int) (position & mask)) != position + 1;
+    }
+
+    int capacity() {
+        return capacity;
+    }
+}
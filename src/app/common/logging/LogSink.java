@@ -0,0 +1,31 @@
+package app.common.logging;
+
+import java.io.IOException;
+
+/**
+ * 완성된 로그 줄을 실제로 기록하는 대상입니다.
+ * 
+ * <p>구현체는 스레드 안전하지 않아도 됩니다. 호출하는 appender가 한 번에 한 스레드만
+ * 접근하도록 보장합니다.</p>
+ * 
+ * @author MANAZOO Team
+ * @since 2.0
+ */
+public interface LogSink {
+
+    /**
+     * 로그 줄 하나를 버퍼에 씁니다. 버퍼가 가득 차면 그 자리에서 내보낼 수 있습니다.
+     * 
+     * @param level 로그 수준
+     * @param line 줄바꿈을 포함한 로그 줄
+     * @throws IOException 기록 실패 시
+     */
+    void write(LogLevel level, CharSequence line) throws IOException;
+
+    /**
+     * 버퍼에 남은 내용을 모두 내보냅니다.
+     * 
+     * @throws IOException 기록 실패 시
+     */
+    void flush() throws IOException;
+}
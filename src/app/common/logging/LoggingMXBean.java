@@ -0,0 +1,33 @@
+package app.common.logging;
+
+import java.util.Map;
+
+/**
+ * 로그 수준을 JMX에서 조회하고 실행 중에 바꾸기 위한 MXBean 인터페이스입니다.
+ * "app.manazoo:type=Logging" 이름으로 등록됩니다.
+ * 
+ * @author MANAZOO Team
+ * @since 2.0
+ */
+public interface LoggingMXBean {
+
+    /** @return 기본(루트) 로그 수준 */
+    String getRootLevel();
+
+    /** @return 패키지/클래스 이름별로 지정된 로그 수준 */
+    Map<String, String> getLevels();
+
+    /**
+     * 패키지나 클래스의 로그 수준을 바꿉니다.
+     * 
+     * @param name 패키지 또는 클래스 전체 이름 (빈 문자열이면 루트)
+     * @param level DEBUG, INFO, ERROR, OFF (빈 문자열이면 지정 해제)
+     */
+    void setLevel(String name, String level);
+
+    /**
+     * @param name 클래스 전체 이름
+     * @return 실제로 적용되는 로그 수준
+     */
+    String getEffectiveLevel(String name);
+}
@@ -0,0 +1,43 @@
+package app.common.logging;
+
+/**
+ * 로그 메시지 포맷에 인수를 채웁니다.
+ * 
+ * <p>포맷에 "{}"가 있으면 앞에서부터 차례로 인수의 문자열 표현으로 바꾸고(String.format을 거치지 않음),
+ * 없으면 기존 호출과의 호환을 위해 {@link String#format(String, Object...)}으로 처리합니다.
+ * 인수보다 많은 "{}"는 그대로 남고, 남는 인수는 무시합니다.</p>
+ * 
+ * @author MANAZOO Team
+ * @since 2.0
+ */
+public final class MessageFormatter {
+
+    private static final String PLACEHOLDER = "{}";
+
+    private MessageFormatter() {
+    }
+
+    /**
+     * @param format 메시지 포맷 ("{}" 또는 String.format 형식)
+     * @param args 포맷 인수들
+     * @return 완성된 메시지
+     */
+    public static String format(String format, Object... args) {
+        int placeholder = format.indexOf(PLACEHOLDER);
+        if (placeholder < 0) {
+            return args.length == 0 ? format : String.format(format, args);
+        }
+
+        StringBuilder sb = new StringBuilder(format.length() + 16 * args.length);
+        int start = 0;
+        for (Object arg : args) {
+            if (placeholder < 0) {
+                break;
+            }
+            sb.append(format, start, placeholder).append(arg);
+            start = placeholder + PLACEHOLDER.length();
+            placeholder = format.indexOf(PLACEHOLDER, start);
+        }
+        return sb.append(format, start, format.length()).toString();
+    }
+}
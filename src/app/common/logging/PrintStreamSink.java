@@ -0,0 +1,27 @@
+package app.common.logging;
+
+import java.io.PrintStream;
+
+/**
+ * System.out/System.err로 로그를 기록합니다. ERROR는 System.err로, 나머지는 System.out으로 보냅니다. (동기 방식 기본값)
+ * 
+ * <p>기록할 때마다 현재의 System.out/System.err를 사용하므로 System.setOut/setErr로 바꾼 출력에도 기록되며,
+ * 문자 인코딩도 각 스트림의 설정을 따릅니다.</p>
+ * 
+ * @author MANAZOO Team
+ * @since 2.0
+ */
+public final class PrintStreamSink implements LogSink {
+
+    @Override
+    public void write(LogLevel level, CharSequence line) {
+        PrintStream stream = level == LogLevel.ERROR ? System.err : System.out;
+        stream.print(line);
+    }
+
+    @Override
+    public void flush() {
+        System.out.flush();
+        System.err.flush();
+    }
+}
@@ -0,0 +1,193 @@
+package app.common.logging;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.FileTime;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.regex.Pattern;
+
+/**
+ * 로그를 파일에 기록하고, 크기나 시간 기준을 넘으면 새 파일로 교체합니다.
+ * 
+ * <p>로그 줄은 바이트 버퍼에 모았다가 {@link FileChannel}로 씁니다. (UTF-8, fsync는 하지 않음)
+ * 파일이 maxBytes를 넘거나 파일을 연 뒤 rollInterval이 지나면 현재 파일을
+ * "이름-yyyyMMdd-HHmmss.확장자"로 옮기고 새 파일을 엽니다. 옮긴 파일은 최근 maxHistory개만 남깁니다.
+ * 파일을 옮기지 못하면 현재 파일에 이어서 기록하고 maxBytes만큼 더 쓴 뒤 다시 시도하며,
+ * 이전 파일 정리에 실패해도 기록은 계속합니다. (각 실패는 표준 오류에 한 번만 알림)</p>
+ * 
+ * @author MANAZOO Team
+ * @since 2.0
+ */
+public final class RollingFileSink implements LogSink {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final DateTimeFormatter ROLL_TIMESTAMP = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss");
+
+    private final Path file;
+    private final Path directory;
+    private final String baseName;
+    private final String extension;
+    private final Pattern rolledName;       // 교체된 파일 이름 (baseName-yyyyMMdd-HHmmss[-n]extension)
+    private final long maxBytes;
+    private final long rollInterval;
+    private final int maxHistory;
+
+    private FileChannel channel;
+    private ChannelWriter writer;
+    private long nextRollAt;
+    private long rollAtSize;
+    private boolean moveFailureReported;
+    private boolean cleanupFailureReported;
+
+    /**
+     * 로그 파일을 엽니다. 디렉터리가 없으면 만들고, 파일이 있으면 이어서 씁니다.
+     * 
+     * @param file 로그 파일 경로
+     * @param maxBytes 파일 최대 크기 (bytes, 0 이하이면 크기로 교체하지 않음)
+     * @param rollInterval 파일 교체 주기 (ms, 0 이하이면 시간으로 교체하지 않음)
+     * @param maxHistory 남겨 둘 이전 파일 수 (0 이하이면 모두 남김)
+     * @throws IOException 파일을 열 수 없는 경우
+     */
+    public RollingFileSink(Path file, long maxBytes, long rollInterval, int maxHistory) throws IOException {
+        this.file = file.toAbsolutePath();
+        this.directory = this.file.getParent();
+        String fileName = this.file.getFileName().toString();
+        int dot = fileName.lastIndexOf('.');
+        this.baseName = dot > 0 ? fileName.substring(0, dot) : fileName;
+        this.extension = dot > 0 ? fileName.substring(dot) : "";
+        this.rolledName = Pattern.compile(Pattern.quote(baseName) + "-\\d{8}-\\d{6}(-\\d+)?" + Pattern.quote(extension));
+        this.maxBytes = maxBytes;
+        this.rollInterval = rollInterval;
+        this.maxHistory = maxHistory;
+
+        Files.createDirectories(directory);
+        open();
+    }
+
+    @Override
+    public void write(LogLevel level, CharSequence line) throws IOException {
+        if (shouldRoll()) {
+            roll();
+        }
+        writer.write(line);
+    }
+
+    @Override
+    public void flush() throws IOException {
+        if (writer.hasPending()) {
+            writer.flush();
+        }
+    }
+
+    private void open() throws IOException {
+        channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+        writer = new ChannelWriter(channel, StandardCharsets.UTF_8, BUFFER_SIZE, channel.size());
+        nextRollAt = rollInterval > 0 ? System.currentTimeMillis() + rollInterval : Long.MAX_VALUE;
+        rollAtSize = maxBytes > 0 ? maxBytes : Long.MAX_VALUE;
+    }
+
+    private boolean shouldRoll() {
+        return writer.size() >= rollAtSize || System.currentTimeMillis() >= nextRollAt;
+    }
+
+    /**
+     * 현재 파일을 닫고 타임스탬프가 붙은 이름으로 옮긴 뒤 새 파일을 엽니다.
+     * 어느 단계에서 실패하더라도 파일은 다시 열어 기록이 멈추지 않게 합니다.
+     */
+    private void roll() throws IOException {
+        boolean moved = false;
+        try {
+            try {
+                flush();
+            } finally {
+                channel.close();
+            }
+            moved = moveCurrentFile();
+        } finally {
+            // 옮기지 못했으면 같은 파일을 이어서 열게 됨
+            open();
+            if (!moved && maxBytes > 0) {
+                // 줄마다 교체를 다시 시도하지 않도록 maxBytes만큼 더 쓴 뒤 재시도
+                rollAtSize = writer.size() + maxBytes;
+            }
+        }
+    }
+
+    /**
+     * 현재 파일을 교체 이름으로 옮기고 오래된 파일을 정리합니다.
+     * 
+     * @return 옮겼으면 true, 비어 있거나 옮기지 못했으면 false
+     */
+    private boolean moveCurrentFile() {
+        try {
+            if (Files.size(file) == 0) {
+                return false;
+            }
+            Files.move(file, rolledPath());
+        } catch (IOException | RuntimeException e) {
+            if (!moveFailureReported) {
+                moveFailureReported = true;
+                reportFailure("로그 파일을 교체하지 못해 현재 파일에 이어서 기록합니다", e);
+            }
+            return false;
+        }
+        try {
+            deleteOldFiles();
+        } catch (IOException | RuntimeException e) {
+            if (!cleanupFailureReported) {
+                cleanupFailureReported = true;
+                reportFailure("이전 로그 파일을 정리하지 못했습니다", e);
+            }
+        }
+        return true;
+    }
+
+    private void reportFailure(String message, Exception e) {
+        System.err.println("[ERROR] [RollingFileSink] " + message + ": " + file + " (" + e + ")");
+    }
+
+    private Path rolledPath() {
+        String stamp = baseName + "-" + LocalDateTime.now().format(ROLL_TIMESTAMP);
+        Path target = directory.resolve(stamp + extension);
+        // 1초 안에 여러 번 교체되면 순번을 붙임
+        for (int i = 1; Files.exists(target); i++) {
+            target = directory.resolve(stamp + "-" + i + extension);
+        }
+        return target;
+    }
+
+    private void deleteOldFiles() throws IOException {
+        if (maxHistory <= 0) {
+            return;
+        }
+        List<Path> rolled = new ArrayList<>();
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(directory,
+                path -> rolledName.matcher(path.getFileName().toString()).matches())) {
+            files.forEach(rolled::add);
+        }
+        // 마지막 기록 시각 순서가 곧 교체 순서 (같으면 순번이 짧은 이름이 먼저)
+        rolled.sort(Comparator.comparing(RollingFileSink::lastModified)
+                .thenComparingInt(path -> path.toString().length())
+                .thenComparing(Comparator.naturalOrder()));
+        for (int i = 0; i < rolled.size() - maxHistory; i++) {
+            Files.deleteIfExists(rolled.get(i));
+        }
+    }
+
+    private static FileTime lastModified(Path path) {
+        try {
+            return Files.getLastModifiedTime(path);
+        } catch (IOException e) {
+            return FileTime.fromMillis(0);
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package app.common.logging;
+
+import java.io.IOException;
+
+/**
+ * 호출한 스레드에서 바로 기록하고 비우는 appender입니다. (기본 방식)
+ * 
+ * @author MANAZOO Team
+ * @since 2.0
+ */
+public final class SyncAppender implements LogAppender {
+
+    private final LogSink sink;
+
+    /**
+     * @param sink 로그를 기록할 대상
+     */
+    public SyncAppender(LogSink sink) {
+        this.sink = sink;
+    }
+
+    @Override
+    public void append(LogLevel level, String loggerName, String message, Throwable throwable) {
+        String line = LogLine.format(level, loggerName, message, throwable);
+        synchronized (sink) {
+            try {
+                sink.write(level, line);
+                sink.flush();
+            } catch (IOException e) {
+                // 로그 기록 실패로 업무 처리를 멈추지 않음
+            }
+        }
+    }
+
+    @Override
+    public void flush() {
+        // 이벤트마다 비우므로 남은 내용이 없음
+    }
+}
@@ -0,0 +1,95 @@
+package app.common.metrics;
+
+import java.lang.management.ManagementFactory;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+import app.common.SimpleLogger;
+
+/**
+ * 플랫폼 MBeanServer에 모니터링용 MBean을 등록하는 유틸리티 클래스입니다.
+ * 등록된 지표는 JConsole, VisualVM 등에서 "app.manazoo" 도메인 아래에서 확인할 수 있습니다.
+ * 
+ * @author MANAZOO Team
+ * @since 2.0
+ */
+public final class JmxExporter {
+    
+    /** 애플리케이션 MBean의 공통 도메인 */
+    public static final String DOMAIN = "app.manazoo";
+    
+    private static final SimpleLogger logger = SimpleLogger.getLogger(JmxExporter.class);
+    
+    private JmxExporter() {
+        // 유틸리티 클래스이므로 인스턴스 생성 방지
+    }
+    
+    /**
+     * MBean을 등록합니다. 같은 이름이 이미 있으면 교체합니다.
+     * 모니터링은 부가 기능이므로 등록 실패는 로그만 남기고 무시합니다.
+     * 
+     * @param type MBean 타입 이름 (예: "ConnectionPool")
+     * @param mbean 등록할 MBean/MXBean 구현체
+     */
+    public static void register(String type, Object mbean) {
+        register(type, null, mbean);
+    }
+    
+    /**
+     * 같은 타입의 MBean이 여러 개일 때 name 속성으로 구분하여 등록합니다.
+     * 
+     * @param type MBean 타입 이름 (예: "ConnectionPool")
+     * @param instanceName 인스턴스 이름 (예: "replica-1", null이면 생략)
+     * @param mbean 등록할 MBean/MXBean 구현체
+     */
+    public static void register(String type, String instanceName, Object mbean) {
+        try {
+            MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+            ObjectName name = objectName(type, instanceName);
+            if (server.isRegistered(name)) {
+                server.unregisterMBean(name);
+            }
+            server.registerMBean(mbean, name);
+            logger.debug("JMX MBean 등록 완료: %s", name);
+        } catch (JMException | RuntimeException e) {
+            logger.error("JMX MBean 등록 실패: " + type, e);
+        }
+    }
+    
+    /**
+     * 등록된 MBean을 해제합니다.
+     * 
+     * @param type MBean 타입 이름
+     */
+    public static void unregister(String type) {
+        unregister(type, null);
+    }
+    
+    /**
+     * name 속성으로 등록된 MBean을 해제합니다.
+     * 
+     * @param type MBean 타입 이름
+     * @param instanceName 인스턴스 이름 (null이면 생략)
+     */
+    public static void unregister(String type, String instanceName) {
+        try {
+            MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+            ObjectName name = objectName(type, instanceName);
+            if (server.isRegistered(name)) {
+                server.unregisterMBean(name);
+            }
+        } catch (JMException | RuntimeException e) {
+            logger.error("JMX MBean 해제 실패: " + type, e);
+        }
+    }
+    
+    private static ObjectName objectName(String type, String instanceName) throws JMException {
+        String name = DOMAIN + ":type=" + type;
+        if (instanceName != null) {
+            name += ",name=" + instanceName;
+        }
+        return new ObjectName(name);
+    }
+}
@@ -0,0 +1,139 @@
+package app.common.metrics;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 지연 시간 분포를 기록하는 lock-free 히스토그램입니다.
+ * 
+ * <p>값은 마이크로초 단위로 로그 스케일 버킷에 누적됩니다. 2의 거듭제곱 구간 하나를
+ * 8개의 하위 버킷으로 나누므로 백분위 값의 상대 오차는 약 12% 이내입니다.
+ * 기록은 {@link AtomicLongArray} 증가 한 번과 {@link LongAdder} 갱신뿐이라
+ * 여러 스레드가 동시에 호출해도 잠금 없이 동작합니다.</p>
+ * 
+ * <pre>{@code
+ * LatencyHistogram histogram = new LatencyHistogram();
+ * long start = System.nanoTime();
+ * ...
+ * histogram.record(System.nanoTime() - start);
+ * double p99 = histogram.percentileMillis(99.0);
+ * }</pre>
+ * 
+ * @author MANAZOO Team
+ * @since 2.0
+ */
+public class LatencyHistogram {
+    
+    private static final int SUB_BUCKET_BITS = 3;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    private static final int MAX_EXPONENT = 36;                    // 2^36us ≈ 19시간
+    private static final int BUCKET_COUNT = (MAX_EXPONENT - SUB_BUCKET_BITS + 2) * SUB_BUCKETS;
+    
+    private final AtomicLongArray buckets = new AtomicLongArray(BUCKET_COUNT);
+    private final LongAdder count = new LongAdder();
+    private final LongAdder totalMicros = new LongAdder();
+    private final LongAccumulator maxMicros = new LongAccumulator(Long::max, 0L);
+    
+    /**
+     * 지연 시간 한 건을 기록합니다.
+     * 
+     * @param nanos 지연 시간 (나노초)
+     */
+    public void record(long nanos) {
+        long micros = Math.max(0L, TimeUnit.NANOSECONDS.toMicros(nanos));
+        buckets.incrementAndGet(bucketIndex(micros));
+        count.increment();
+        totalMicros.add(micros);
+        maxMicros.accumulate(micros);
+    }
+    
+    /**
+     * 지금까지 기록된 건수를 반환합니다.
+     * 
+     * @return 기록 건수
+     */
+    public long getCount() {
+        return count.sum();
+    }
+    
+    /**
+     * 평균 지연 시간을 밀리초 단위로 반환합니다.
+     * 
+     * @return 평균 (ms), 기록이 없으면 0
+     */
+    public double meanMillis() {
+        long n = count.sum();
+        return n == 0 ? 0.0 : totalMicros.sum() / (double) n / 1000.0;
+    }
+    
+    /**
+     * 최대 지연 시간을 밀리초 단위로 반환합니다.
+     * 
+     * @return 최대값 (ms)
+     */
+    public double maxMillis() {
+        return maxMicros.get() / 1000.0;
+    }
+    
+    /**
+     * 백분위 지연 시간을 밀리초 단위로 반환합니다.
+     * 
+     * @param percentile 백분위 (0 ~ 100, 예: 99.0)
+     * @return 해당 백분위의 근사값 (ms), 기록이 없으면 0
+     */
+    public double percentileMillis(double percentile) {
+        long[] snapshot = new long[BUCKET_COUNT];
+        long total = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            snapshot[i] = buckets.get(i);
+            total += snapshot[i];
+        }
+        if (total == 0) {
+            return 0.0;
+        }
+        
+        long rank = Math.max(1L, (long) Math.ceil(total * percentile / 100.0));
+        long seen = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            seen += snapshot[i];
+            if (seen >= rank) {
+                // 버킷 중간값을 대표값으로 사용하되 관측된 최대값은 넘지 않음
+                double micros = Math.min(bucketMidpoint(i), maxMicros.get());
+                return micros / 1000.0;
+            }
+        }
+        return maxMillis();
+    }
+    
+    /**
+     * 마이크로초 값이 속하는 버킷 번호를 계산합니다.
+     */
+    private static int bucketIndex(long micros) {
+        if (micros < SUB_BUCKETS) {
+            // 8us 미만은 1us 단위로 그대로 기록
+            return (int) micros;
+        }
+        int exponent = 63 - Long.numberOfLeadingZeros(micros);
+        if (exponent > MAX_EXPONENT) {
+            return BUCKET_COUNT - 1;
+        }
+        int subBucket = (int) ((micros >>> (exponent - SUB_BUCKET_BITS)) & (SUB_BUCKETS - 1));
+        return (exponent - SUB_BUCKET_BITS + 1) * SUB_BUCKETS + subBucket;
+    }
+    
+    /**
+     * 버킷이 나타내는 구간의 중간값(마이크로초)을 계산합니다.
+     */
+    private static double bucketMidpoint(int index) {
+        if (index < SUB_BUCKETS) {
+            return index;
+        }
+        int exponent = index / SUB_BUCKETS + SUB_BUCKET_BITS - 1;
+        int subBucket = index % SUB_BUCKETS;
+        long width = 1L << (exponent - SUB_BUCKET_BITS);
+        long lower = (1L << exponent) + subBucket * width;
+        return lower + width / 2.0;
+    }
+}
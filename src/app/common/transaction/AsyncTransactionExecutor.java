@@ -0,0 +1,161 @@
+package app.common.transaction;
+
+import app.common.SimpleLogger;
+import app.common.exception.TransactionException;
+import app.common.transaction.TransactionManager.TransactionCallback;
+import app.config.DatabaseConfigLoader;
+import app.config.DatabaseConnection;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 트랜잭션 콜백을 별도 스레드에서 실행하고 {@link CompletableFuture}로 결과를 돌려주는 실행기입니다.
+ * 
+ * <p>동시에 실행되는 트랜잭션 수는 db.tx.async.parallelism(기본값: 풀 최대 연결 수)으로 제한되며,
+ * 실행을 기다리는 작업은 db.tx.async.queueCapacity개까지 받습니다. 대기열이 가득 차면 제출한 스레드가
+ * 자리가 날 때까지 최대 db.tx.async.submitTimeout 동안 기다리고, 그래도 자리가 없으면
+ * 실패한 Future를 반환합니다. 따라서 제출 속도가 처리 속도를 넘어도 메모리나 연결 대기가 무한히 늘지 않습니다.</p>
+ * 
+ * <p>Java 21 이상에서는 작업마다 가상 스레드를 사용하고, 그 이하에서는 parallelism 크기의
+ * 데몬 스레드 풀을 사용합니다.</p>
+ * 
+ * <p>콜백은 제출한 스레드의 트랜잭션과 무관한 독립 트랜잭션에서 실행됩니다. 트랜잭션 안에서 비동기 작업의
+ * 결과를 기다리면 연결을 두 개 사용하므로, 풀 크기보다 많은 스레드가 그렇게 하면 서로를 기다릴 수 있습니다.</p>
+ * 
+ * @author MANAZOO Team
+ * @since 2.0
+ */
+public final class AsyncTransactionExecutor {
+    
+    private final JdbcTransactionManager transactionManager;
+    private final ExecutorService executor;
+    private final Semaphore admission;          // 실행 중 + 대기 중 작업 수 제한
+    private final Semaphore running;            // 가상 스레드 사용 시 동시 실행 수 제한 (아니면 null)
+    private final long submitTimeout;
+    private final SimpleLogger logger = SimpleLogger.getLogger(AsyncTransactionExecutor.class);
+    
+    // ==================== Singleton 패턴 구현 ====================
+    
+    private static class SingletonHolder {
+        private static final AsyncTransactionExecutor INSTANCE = new AsyncTransactionExecutor(new JdbcTransactionManager());
+    }
+    
+    private AsyncTransactionExecutor(JdbcTransactionManager transactionManager) {
+        DatabaseConfigLoader config = DatabaseConnection.getConfigLoader();
+        int parallelism = Math.max(1, config.getTxAsyncParallelism());
+        int queueCapacity = Math.max(0, config.getTxAsyncQueueCapacity());
+        
+        this.transactionManager = transactionManager;
+        this.submitTimeout = config.getTxAsyncSubmitTimeout();
+        this.admission = new Semaphore(parallelism + queueCapacity, true);
+        
+        ExecutorService virtualExecutor = newVirtualThreadExecutor();
+        if (virtualExecutor != null) {
+            this.executor = virtualExecutor;
+            this.running = new Semaphore(parallelism, true);
+        } else {
+            this.executor = Executors.newFixedThreadPool(parallelism, new AsyncThreadFactory());
+            this.running = null;
+        }
+        logger.info(String.format("비동기 트랜잭션 실행기 준비: 동시 실행 %d, 대기열 %d (%s)",
+                parallelism, queueCapacity, running != null ? "가상 스레드" : "플랫폼 스레드"));
+    }
+    
+    /**
+     * AsyncTransactionExecutor 싱글톤 인스턴스를 반환합니다.
+     * 
+     * @return AsyncTransactionExecutor 인스턴스
+     */
+    public static AsyncTransactionExecutor getInstance() {
+        return SingletonHolder.INSTANCE;
+    }
+    
+    /**
+     * Java 21 이상이면 작업마다 가상 스레드를 만드는 실행기를 생성합니다.
+     * 
+     * @return 가상 스레드 실행기, 지원하지 않는 런타임이면 null
+     */
+    private static ExecutorService newVirtualThreadExecutor() {
+        try {
+            return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            return null;
+        }
+    }
+    
+    /**
+     * 트랜잭션 콜백을 비동기로 실행합니다.
+     * 대기열이 가득 차 있으면 자리가 날 때까지 호출 스레드가 기다립니다.
+     * 
+     * @param <T> 반환 타입
+     * @param callback 실행할 비즈니스 로직
+     * @param readOnly 읽기 전용 트랜잭션 여부
+     * @return 콜백 결과로 완료되는 Future (실패 시 {@link TransactionException}을 원인으로 하는
+     *         {@link CompletionException}으로 완료)
+     */
+    public <T> CompletableFuture<T> submit(TransactionCallback<T> callback, boolean readOnly) {
+        try {
+            if (!admission.tryAcquire(submitTimeout, TimeUnit.MILLISECONDS)) {
+                return CompletableFuture.failedFuture(new TransactionException(
+                        "비동기 트랜잭션 대기열이 가득 찼습니다. (" + submitTimeout + "ms 대기)"));
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return CompletableFuture.failedFuture(new TransactionException("비동기 트랜잭션 제출 중 인터럽트 발생", e));
+        }
+        
+        // 작업 스레드에서는 제출한 위치를 알 수 없으므로 지표용 호출 위치를 미리 찾아 둠
+        String callSite = CallSiteResolver.resolve(callback);
+        CompletableFuture<T> future = new CompletableFuture<>();
+        try {
+            executor.execute(() -> run(callback, readOnly, callSite, future));
+        } catch (RuntimeException e) {
+            admission.release();
+            future.completeExceptionally(new TransactionException("비동기 트랜잭션 제출 실패", e));
+        }
+        return future;
+    }
+    
+    private <T> void run(TransactionCallback<T> callback, boolean readOnly, String callSite,
+            CompletableFuture<T> future) {
+        boolean acquired = false;
+        try {
+            if (running != null) {
+                running.acquire();
+                acquired = true;
+            }
+            T result = transactionManager.executeDetached(callback, readOnly, callSite);
+            future.complete(result);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            future.completeExceptionally(new TransactionException("비동기 트랜잭션 실행 중 인터럽트 발생", e));
+        } catch (Throwable e) {
+            future.completeExceptionally(e);
+        } finally {
+            if (acquired) {
+                running.release();
+            }
+            admission.release();
+        }
+    }
+    
+    /**
+     * 비동기 트랜잭션 실행 스레드를 만듭니다. 애플리케이션 종료를 막지 않도록 데몬 스레드로 만듭니다.
+     */
+    private static final class AsyncThreadFactory implements ThreadFactory {
+        private final AtomicInteger sequence = new AtomicInteger();
+        
+        @Override
+        public Thread newThread(Runnable task) {
+            Thread thread = new Thread(task, "manazoo-tx-async-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
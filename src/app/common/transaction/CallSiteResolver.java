@@ -0,0 +1,61 @@
+package app.common.transaction;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 트랜잭션을 요청한 호출 위치(call site)를 "클래스명.메서드명" 형식으로 찾습니다.
+ * 
+ * <p>호출 위치는 트랜잭션 패키지 밖의 첫 번째 스택 프레임입니다. 콜백 람다는 작성된 위치마다
+ * 별도의 클래스가 만들어지므로, 한 번 찾은 호출 위치를 콜백 클래스 기준으로 캐시하여
+ * 이후 트랜잭션에서는 스택을 탐색하지 않습니다. {@link TransactionTemplate}처럼 트랜잭션 패키지 안에서
+ * 만든 콜백은 여러 위치에서 공유되므로 캐시하지 않습니다.</p>
+ * 
+ * @author MANAZOO Team
+ * @since 2.0
+ */
+final class CallSiteResolver {
+    
+    private static final String TRANSACTION_PACKAGE = CallSiteResolver.class.getPackageName() + ".";
+    private static final String UNKNOWN = "unknown";
+    
+    private static final Map<Class<?>, String> CACHE = new ConcurrentHashMap<>();
+    
+    private CallSiteResolver() {
+        // 유틸리티 클래스이므로 인스턴스 생성 방지
+    }
+    
+    /**
+     * 현재 스레드에서 트랜잭션을 요청한 호출 위치를 반환합니다.
+     * 
+     * @param callback 트랜잭션 콜백 (캐시 키)
+     * @return 호출 위치 (예: "FinanceManager.fetchTotals")
+     */
+    static String resolve(Object callback) {
+        Class<?> callbackClass = callback.getClass();
+        if (callbackClass.getName().startsWith(TRANSACTION_PACKAGE)) {
+            return walk();
+        }
+        String cached = CACHE.get(callbackClass);
+        if (cached != null) {
+            return cached;
+        }
+        String callSite = walk();
+        if (!UNKNOWN.equals(callSite)) {
+            CACHE.put(callbackClass, callSite);
+        }
+        return callSite;
+    }
+    
+    private static String walk() {
+        return StackWalker.getInstance()
+                .walk(frames -> frames
+                        .filter(frame -> !frame.getClassName().startsWith(TRANSACTION_PACKAGE))
+                        .findFirst()
+                        .map(frame -> {
+                            String className = frame.getClassName();
+                            return className.substring(className.lastIndexOf('.') + 1) + "." + frame.getMethodName();
+                        })
+                        .orElse(UNKNOWN));
+    }
+}
@@ -1,14 +1,35 @@
 package app.common.transaction;
 
+import app.common.database.ConnectionContext;
 import app.common.database.ConnectionPool;
+import app.common.database.ReplicaRouter;
 import app.common.exception.TransactionException;
 import app.common.SimpleLogger;
+import app.config.DatabaseConfigLoader;
+import app.config.DatabaseConnection;
 import java.sql.Connection;
 import java.sql.SQLException;
+import java.sql.Savepoint;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ThreadLocalRandom;
 
 /**
  * JDBC 기반 트랜잭션 매니저 구현체입니다.
  * ConnectionPool을 활용하여 트랜잭션의 원자성을 보장합니다.
+ * 읽기 전용 트랜잭션은 {@link ReplicaRouter}를 통해 읽기 복제본 연결을 우선 사용합니다.
+ * 
+ * <p>트랜잭션 연결은 실행 중 {@link ConnectionContext}에 바인딩되므로, 콜백 안에서 호출되는
+ * Jdbc*Repository는 같은 연결과 같은 트랜잭션을 사용합니다. 이미 트랜잭션이 진행 중인 스레드에서
+ * 다시 호출하면 {@link Propagation}에 따라 동작하며, REQUIRES_NEW를 제외하면 새 연결을 대여하지 않습니다.</p>
+ * 
+ * <p>새로 시작한 트랜잭션이 교착 상태나 잠금 대기 시간 초과로 실패하면 롤백 후 콜백을 처음부터
+ * 다시 실행합니다(db.tx.retry.*). 따라서 콜백은 데이터베이스 외의 부수 효과 없이 여러 번 실행해도
+ * 안전해야 합니다. 바깥 트랜잭션에 참여한 콜백은 재시도하지 않고 바깥 트랜잭션이 재시도합니다.
+ * 재시도 횟수는 호출 위치별로 {@link TransactionMetrics}에 기록됩니다.</p>
+ * 
+ * <p>새로 시작한 트랜잭션은 연결 획득, 콜백 실행, 커밋/롤백 단계별 소요 시간과 결과를
+ * 호출 위치별로 {@link TransactionMetrics}에 기록합니다. 시작/커밋/롤백마다 로그를 남기지 않고,
+ * db.tx.slowThreshold를 넘은 트랜잭션만 로그로 남깁니다.</p>
  * 
  * @author MANAZOO Team
  * @since 2.0
@@ -16,71 +37,224 @@ import java.sql.SQLException;
 public class JdbcTransactionManager implements TransactionManager {
     
     private final ConnectionPool connectionPool;
+    private final ReplicaRouter replicaRouter;
+    private final TransactionMetrics metrics;
     private final SimpleLogger logger;
     
+    // 교착 상태/잠금 대기 초과 재시도 설정
+    private final int maxAttempts;
+    private final long retryBaseDelay;
+    private final long retryMaxDelay;
+    
     public JdbcTransactionManager() {
         this.connectionPool = ConnectionPool.getInstance();
+        this.replicaRouter = ReplicaRouter.getInstance();
+        this.metrics = TransactionMetrics.getInstance();
         this.logger = SimpleLogger.getLogger(JdbcTransactionManager.class);
+        
+        DatabaseConfigLoader config = DatabaseConnection.getConfigLoader();
+        this.maxAttempts = Math.max(1, config.getTxRetryMaxAttempts());
+        this.retryBaseDelay = Math.max(1L, config.getTxRetryBaseDelay());
+        this.retryMaxDelay = Math.max(retryBaseDelay, config.getTxRetryMaxDelay());
     }
     
     @Override
     public <T> T executeInTransaction(TransactionCallback<T> callback) throws TransactionException {
-        return executeTransaction(callback, false);
+        return executeTransaction(callback, Propagation.REQUIRED, false);
+    }
+    
+    @Override
+    public <T> T executeInTransaction(Propagation propagation, TransactionCallback<T> callback)
+            throws TransactionException {
+        return executeTransaction(callback, propagation, false);
     }
     
     @Override
     public <T> T executeInReadOnlyTransaction(TransactionCallback<T> callback) throws TransactionException {
-        return executeTransaction(callback, true);
+        return executeTransaction(callback, Propagation.REQUIRED, true);
+    }
+    
+    @Override
+    public <T> CompletableFuture<T> executeInTransactionAsync(TransactionCallback<T> callback) {
+        return AsyncTransactionExecutor.getInstance().submit(callback, false);
+    }
+    
+    @Override
+    public <T> CompletableFuture<T> executeInReadOnlyTransactionAsync(TransactionCallback<T> callback) {
+        return AsyncTransactionExecutor.getInstance().submit(callback, true);
     }
     
     /**
-     * 실제 트랜잭션을 실행하는 내부 메서드입니다.
+     * 전파 방식에 따라 트랜잭션을 시작하거나 진행 중인 트랜잭션에 참여합니다.
+     * 
+     * @param <T> 반환 타입
+     * @param callback 실행할 비즈니스 로직
+     * @param propagation 진행 중인 트랜잭션이 있을 때의 동작
+     * @param readOnly 읽기 전용 여부 (새 트랜잭션을 시작할 때만 적용)
+     * @return 비즈니스 로직 실행 결과
+     * @throws TransactionException 트랜잭션 처리 중 오류 발생 시
+     */
+    private <T> T executeTransaction(TransactionCallback<T> callback, Propagation propagation, boolean readOnly)
+            throws TransactionException {
+        
+        boolean active = ConnectionContext.isBound();
+        switch (propagation) {
+            case REQUIRES_NEW:
+                return executeWithRetry(callback, readOnly, CallSiteResolver.resolve(callback));
+            case NESTED:
+                return active ? executeNested(callback)
+                        : executeWithRetry(callback, readOnly, CallSiteResolver.resolve(callback));
+            case SUPPORTS:
+                return active ? participate(callback) : executeWithoutTransaction(callback);
+            case REQUIRED:
+            default:
+                return active ? participate(callback)
+                        : executeWithRetry(callback, readOnly, CallSiteResolver.resolve(callback));
+        }
+    }
+    
+    /**
+     * 진행 중인 트랜잭션이 없는 작업 스레드에서 새 트랜잭션을 실행합니다.
+     * {@link AsyncTransactionExecutor}가 제출한 스레드에서 미리 찾은 호출 위치로 지표를 기록할 때 사용합니다.
      * 
      * @param <T> 반환 타입
      * @param callback 실행할 비즈니스 로직
      * @param readOnly 읽기 전용 여부
+     * @param callSite 트랜잭션 호출 위치
      * @return 비즈니스 로직 실행 결과
      * @throws TransactionException 트랜잭션 처리 중 오류 발생 시
      */
-    private <T> T executeTransaction(TransactionCallback<T> callback, boolean readOnly) 
+    <T> T executeDetached(TransactionCallback<T> callback, boolean readOnly, String callSite)
+            throws TransactionException {
+        return executeWithRetry(callback, readOnly, callSite);
+    }
+    
+    /**
+     * 새 트랜잭션을 실행하고, 교착 상태나 잠금 대기 시간 초과로 실패하면
+     * 지터를 적용한 지수 백오프 후 최대 maxAttempts회까지 다시 실행합니다.
+     * 
+     * @param <T> 반환 타입
+     * @param callback 실행할 비즈니스 로직
+     * @param readOnly 읽기 전용 여부
+     * @param callSite 트랜잭션 호출 위치
+     * @return 비즈니스 로직 실행 결과
+     * @throws TransactionException 재시도할 수 없는 오류이거나 재시도를 모두 소진한 경우
+     */
+    private <T> T executeWithRetry(TransactionCallback<T> callback, boolean readOnly, String callSite)
+            throws TransactionException {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return executeNewTransaction(callback, readOnly, callSite);
+            } catch (TransactionException e) {
+                if (!RetryableSqlErrors.isRetryable(e)) {
+                    throw e;
+                }
+                if (attempt >= maxAttempts) {
+                    metrics.recordRetriesExhausted(callSite);
+                    logger.error("트랜잭션 재시도 " + maxAttempts + "회 소진 (" + callSite + ")", e);
+                    throw e;
+                }
+                
+                long delay = retryDelay(attempt);
+                metrics.recordRetry(callSite);
+                logger.info(String.format("교착 상태/잠금 대기 초과로 트랜잭션 재시도 %d/%d (%s, %dms 후)",
+                        attempt, maxAttempts - 1, callSite, delay));
+                try {
+                    Thread.sleep(delay);
+                } catch (InterruptedException ie) {
+                    Thread.currentThread().interrupt();
+                    e.addSuppressed(ie);
+                    throw e;
+                }
+            }
+        }
+    }
+    
+    private long retryDelay(int attempt) {
+        long backoff = Math.min(retryMaxDelay, retryBaseDelay << Math.min(attempt - 1, 16));
+        return backoff / 2 + ThreadLocalRandom.current().nextLong(backoff / 2 + 1);
+    }
+    
+    /**
+     * 새 연결을 대여하여 독립된 트랜잭션을 실행하는 내부 메서드입니다.
+     * 진행 중인 트랜잭션이 있으면 끝날 때까지 가려집니다.
+     * 단계별 소요 시간과 결과는 끝날 때 {@link TransactionMetrics}에 기록됩니다.
+     * 
+     * @param <T> 반환 타입
+     * @param callback 실행할 비즈니스 로직
+     * @param readOnly 읽기 전용 여부
+     * @param callSite 트랜잭션 호출 위치 (지표 기록용)
+     * @return 비즈니스 로직 실행 결과
+     * @throws TransactionException 트랜잭션 처리 중 오류 발생 시
+     */
+    private <T> T executeNewTransaction(TransactionCallback<T> callback, boolean readOnly, String callSite) 
             throws TransactionException {
         
         Connection connection = null;
+        boolean bound = false;
         boolean originalAutoCommit = true;
         
+        // 단계별 소요 시간 (ns)
+        long startNanos = System.nanoTime();
+        long acquireNanos = 0L;
+        long callbackNanos = 0L;
+        long completionStart = 0L;
+        long completionNanos = 0L;
+        TransactionMetrics.Outcome outcome = TransactionMetrics.Outcome.FAILED;
+        
         try {
-            // 1. Connection Pool에서 연결 획득
-            connection = connectionPool.getConnection();
+            // 1. Connection Pool에서 연결 획득 (읽기 전용은 복제본 우선)
+            connection = readOnly ? replicaRouter.getConnection() : connectionPool.getConnection();
+            acquireNanos = System.nanoTime() - startNanos;
             originalAutoCommit = connection.getAutoCommit();
             
             if (!readOnly && originalAutoCommit) {
                 connection.setAutoCommit(false);
-                logger.info("트랜잭션 시작됨");
             }
             
             if (readOnly) {
                 connection.setReadOnly(true);
-                logger.info("읽기 전용 트랜잭션 시작됨");
             }
             
-            // 2. 비즈니스 로직 실행
-            T result = callback.execute();
+            // 2. 콜백 안의 Repository가 같은 연결을 사용하도록 바인딩 후 비즈니스 로직 실행
+            ConnectionContext.bind(connection);
+            bound = true;
+            long callbackStart = System.nanoTime();
+            T result;
+            try {
+                result = callback.execute();
+            } finally {
+                callbackNanos = System.nanoTime() - callbackStart;
+            }
+            
+            if (ConnectionContext.isRollbackOnly()) {
+                throw new TransactionException("참여한 작업이 롤백을 요청하여 트랜잭션을 커밋하지 않았습니다.");
+            }
             
             // 3. 커밋 (읽기 전용이 아닌 경우에만)
             if (!readOnly && originalAutoCommit) {
+                completionStart = System.nanoTime();
                 connection.commit();
-                logger.info("트랜잭션 커밋됨");
+                completionNanos = System.nanoTime() - completionStart;
             }
             
+            outcome = readOnly ? TransactionMetrics.Outcome.READ_ONLY : TransactionMetrics.Outcome.COMMITTED;
             return result;
             
         } catch (Exception e) {
-            // 4. 롤백 처리
+            if (connection == null) {
+                acquireNanos = System.nanoTime() - startNanos;
+            }
+            
+            // 4. 롤백 처리 (커밋이 실패한 경우 완료 시간에 커밋 시도 시간도 포함)
             if (connection != null && !readOnly) {
+                if (completionStart == 0L) {
+                    completionStart = System.nanoTime();
+                }
                 try {
                     if (originalAutoCommit) {
                         connection.rollback();
-                        logger.info("트랜잭션 롤백됨");
+                        outcome = TransactionMetrics.Outcome.ROLLED_BACK;
                     }
                 } catch (SQLException rollbackException) {
                     logger.error("트랜잭션 롤백 중 오류 발생", rollbackException);
@@ -89,6 +263,8 @@ public class JdbcTransactionManager implements TransactionManager {
                             "트랜잭션 실행 중 오류 발생", e);
                     transactionException.addSuppressed(rollbackException);
                     throw transactionException;
+                } finally {
+                    completionNanos = System.nanoTime() - completionStart;
                 }
             }
             
@@ -100,23 +276,114 @@ public class JdbcTransactionManager implements TransactionManager {
             }
             
         } finally {
-            // 6. 연결 상태 복원 및 Connection Pool로 반환
+            // 6. 바인딩 해제 후 Connection Pool로 반환
+            //    autoCommit/readOnly는 대여 단위로 관리되어 다음 대여자에게 기본값으로 보이므로 따로 복원하지 않음
+            //    (같은 설정이 반복되면 물리 연결 상태 변경 왕복도 생기지 않음)
+            if (bound) {
+                ConnectionContext.unbind();
+            }
             if (connection != null) {
-                try {
-                    if (readOnly) {
-                        connection.setReadOnly(false);
-                    }
-                    if (originalAutoCommit) {
-                        connection.setAutoCommit(originalAutoCommit);
-                    }
-                    
-                    // Connection Pool로 연결 반환
-                    connectionPool.returnConnection(connection);
-                    
-                } catch (SQLException e) {
-                    logger.error("커넥션 상태 복원 중 오류 발생", e);
-                }
+                connectionPool.returnConnection(connection);
+            }
+            metrics.recordTransaction(callSite, outcome, acquireNanos, callbackNanos, completionNanos,
+                    System.nanoTime() - startNanos);
+        }
+    }
+    
+    /**
+     * 이미 진행 중인 트랜잭션에 참여하여 콜백을 실행합니다.
+     * 콜백이 실패하면 바깥 트랜잭션을 롤백 전용으로 표시합니다.
+     * 
+     * @param <T> 반환 타입
+     * @param callback 실행할 비즈니스 로직
+     * @return 비즈니스 로직 실행 결과
+     * @throws TransactionException 비즈니스 로직 실행 중 오류 발생 시
+     */
+    private <T> T participate(TransactionCallback<T> callback) throws TransactionException {
+        try {
+            return callback.execute();
+        } catch (Exception e) {
+            ConnectionContext.setRollbackOnly();
+            throw toTransactionException(e);
+        }
+    }
+    
+    /**
+     * 진행 중인 트랜잭션의 연결에 세이브포인트를 만들어 콜백을 실행합니다.
+     * 콜백이 실패하거나 안쪽 작업이 롤백을 요청하면 세이브포인트까지만 롤백하므로
+     * 바깥 트랜잭션은 계속 진행할 수 있습니다.
+     * 
+     * @param <T> 반환 타입
+     * @param callback 실행할 비즈니스 로직
+     * @return 비즈니스 로직 실행 결과
+     * @throws TransactionException 비즈니스 로직 실행 중 오류 발생 시
+     */
+    private <T> T executeNested(TransactionCallback<T> callback) throws TransactionException {
+        boolean outerRollbackOnly = ConnectionContext.isRollbackOnly();
+        Savepoint savepoint;
+        try (Connection connection = ConnectionContext.getBoundConnection()) {
+            savepoint = connection.setSavepoint();
+        } catch (SQLException e) {
+            throw new TransactionException("세이브포인트 생성 실패", e);
+        }
+        
+        try {
+            T result = callback.execute();
+            if (ConnectionContext.isRollbackOnly() && !outerRollbackOnly) {
+                throw new TransactionException("중첩 트랜잭션 안의 작업이 롤백을 요청했습니다.");
             }
+            releaseSavepoint(savepoint);
+            return result;
+        } catch (Exception e) {
+            rollbackToSavepoint(savepoint, e);
+            ConnectionContext.restoreRollbackOnly(outerRollbackOnly);
+            throw toTransactionException(e);
+        }
+    }
+    
+    private void rollbackToSavepoint(Savepoint savepoint, Exception cause) throws TransactionException {
+        try (Connection connection = ConnectionContext.getBoundConnection()) {
+            connection.rollback(savepoint);
+            logger.info("중첩 트랜잭션 세이브포인트까지 롤백됨");
+        } catch (SQLException rollbackException) {
+            // 세이브포인트 롤백에 실패하면 바깥 트랜잭션도 안전하게 커밋할 수 없음
+            logger.error("세이브포인트 롤백 중 오류 발생", rollbackException);
+            ConnectionContext.setRollbackOnly();
+            TransactionException transactionException = new TransactionException("트랜잭션 실행 중 오류 발생", cause);
+            transactionException.addSuppressed(rollbackException);
+            throw transactionException;
+        }
+    }
+    
+    private void releaseSavepoint(Savepoint savepoint) {
+        try (Connection connection = ConnectionContext.getBoundConnection()) {
+            connection.releaseSavepoint(savepoint);
+        } catch (SQLException e) {
+            // 해제하지 못한 세이브포인트는 바깥 트랜잭션이 끝날 때 함께 정리됨
+            logger.debug("세이브포인트 해제 실패: %s", e.getMessage());
+        }
+    }
+    
+    /**
+     * 트랜잭션 없이 콜백을 실행합니다. 콜백 안의 Repository는 각자 연결을 대여합니다.
+     * 
+     * @param <T> 반환 타입
+     * @param callback 실행할 비즈니스 로직
+     * @return 비즈니스 로직 실행 결과
+     * @throws TransactionException 비즈니스 로직 실행 중 오류 발생 시
+     */
+    private <T> T executeWithoutTransaction(TransactionCallback<T> callback) throws TransactionException {
+        try {
+            return callback.execute();
+        } catch (Exception e) {
+            throw toTransactionException(e);
+        }
+    }
+    
+    private TransactionException toTransactionException(Exception e) {
+        if (e instanceof TransactionException) {
+            return (TransactionException) e;
         }
+        return new TransactionException("트랜잭션 실행 중 오류 발생", e);
     }
 }
\ No newline at end of file
@@ -0,0 +1,30 @@
+package app.common.transaction;
+
+/**
+ * 트랜잭션 전파(propagation) 방식을 정의하는 열거형입니다.
+ * 이미 트랜잭션이 진행 중인 스레드에서 다시 트랜잭션을 요청했을 때의 동작을 결정합니다.
+ * 
+ * @author MANAZOO Team
+ * @since 2.0
+ */
+public enum Propagation {
+    
+    /** 진행 중인 트랜잭션이 있으면 참여하고, 없으면 새로 시작합니다. (기본값) */
+    REQUIRED,
+    
+    /**
+     * 진행 중인 트랜잭션을 잠시 중단하고 항상 새 연결로 독립된 트랜잭션을 시작합니다.
+     * 바깥 트랜잭션의 연결을 잡은 채로 풀에서 연결을 하나 더 대여하므로,
+     * 풀 크기보다 많은 스레드가 동시에 사용하면 서로의 연결을 기다리며 멈출 수 있습니다.
+     */
+    REQUIRES_NEW,
+    
+    /**
+     * 진행 중인 트랜잭션이 있으면 같은 연결에 세이브포인트를 만들어 실행하고,
+     * 실패하면 세이브포인트까지만 롤백합니다. 진행 중인 트랜잭션이 없으면 REQUIRED와 같습니다.
+     */
+    NESTED,
+    
+    /** 진행 중인 트랜잭션이 있으면 참여하고, 없으면 트랜잭션 없이 실행합니다. */
+    SUPPORTS
+}
@@ -0,0 +1,61 @@
+package app.common.transaction;
+
+import java.sql.SQLException;
+import java.sql.SQLTransactionRollbackException;
+
+/**
+ * 트랜잭션을 처음부터 다시 실행하면 성공할 수 있는 데이터베이스 오류를 판별합니다.
+ * 
+ * <p>교착 상태나 잠금 대기 시간 초과는 다른 트랜잭션과의 경합으로 생기는 일시적인 오류이므로,
+ * 롤백 후 같은 작업을 다시 실행하면 대부분 성공합니다. 제약 조건 위반이나 문법 오류처럼
+ * 다시 실행해도 같은 결과가 나오는 오류는 재시도하지 않습니다.</p>
+ * 
+ * @author MANAZOO Team
+ * @since 2.0
+ */
+final class RetryableSqlErrors {
+    
+    /** MySQL ER_LOCK_DEADLOCK: 교착 상태로 트랜잭션이 롤백됨 */
+    static final int MYSQL_DEADLOCK = 1213;
+    
+    /** MySQL ER_LOCK_WAIT_TIMEOUT: innodb_lock_wait_timeout 초과 */
+    static final int MYSQL_LOCK_WAIT_TIMEOUT = 1205;
+    
+    /** 예외 원인을 따라가는 최대 깊이 (순환 참조 방지) */
+    private static final int MAX_CAUSE_DEPTH = 10;
+    
+    private RetryableSqlErrors() {
+        // 유틸리티 클래스이므로 인스턴스 생성 방지
+    }
+    
+    /**
+     * 예외나 그 원인 중에 재시도할 수 있는 데이터베이스 오류가 있는지 확인합니다.
+     * Repository가 SQLException을 RuntimeException으로 감싸 던지므로 원인을 따라가며 확인합니다.
+     * 
+     * @param error 트랜잭션 실행 중 발생한 예외
+     * @return 재시도 가능 여부
+     */
+    static boolean isRetryable(Throwable error) {
+        Throwable current = error;
+        for (int depth = 0; current != null && depth < MAX_CAUSE_DEPTH; depth++) {
+            if (current instanceof SQLException && isRetryable((SQLException) current)) {
+                return true;
+            }
+            current = current.getCause();
+        }
+        return false;
+    }
+    
+    private static boolean isRetryable(SQLException e) {
+        if (e instanceof SQLTransactionRollbackException) {
+            return true;
+        }
+        int errorCode = e.getErrorCode();
+        if (errorCode == MYSQL_DEADLOCK || errorCode == MYSQL_LOCK_WAIT_TIMEOUT) {
+            return true;
+        }
+        // 40001: 직렬화 실패(교착 상태 포함), 40P01: 교착 상태 (다른 DBMS)
+        String sqlState = e.getSQLState();
+        return "40001".equals(sqlState) || "40P01".equals(sqlState);
+    }
+}
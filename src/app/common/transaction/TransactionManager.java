@@ -1,6 +1,8 @@
 package app.common.transaction;
 
 import app.common.exception.TransactionException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 
 /**
  * 트랜잭션 관리를 담당하는 매니저 인터페이스입니다.
@@ -30,6 +32,7 @@ public interface TransactionManager {
     /**
      * 트랜잭션 내에서 비즈니스 로직을 실행합니다.
      * 실행 중 예외가 발생하면 자동으로 롤백됩니다.
+     * 진행 중인 트랜잭션이 있으면 참여합니다. ({@link Propagation#REQUIRED})
      * 
      * @param <T> 반환 타입
      * @param callback 트랜잭션 내에서 실행할 비즈니스 로직
@@ -38,6 +41,17 @@ public interface TransactionManager {
      */
     <T> T executeInTransaction(TransactionCallback<T> callback) throws TransactionException;
     
+    /**
+     * 지정한 전파 방식으로 트랜잭션 내에서 비즈니스 로직을 실행합니다.
+     * 
+     * @param <T> 반환 타입
+     * @param propagation 진행 중인 트랜잭션이 있을 때의 동작
+     * @param callback 트랜잭션 내에서 실행할 비즈니스 로직
+     * @return 비즈니스 로직 실행 결과
+     * @throws TransactionException 트랜잭션 처리 중 오류 발생 시
+     */
+    <T> T executeInTransaction(Propagation propagation, TransactionCallback<T> callback) throws TransactionException;
+    
     /**
      * 읽기 전용 트랜잭션 내에서 비즈니스 로직을 실행합니다.
      * 성능 최적화를 위해 읽기 전용으로 설정됩니다.
@@ -48,4 +62,55 @@ public interface TransactionManager {
      * @throws TransactionException 트랜잭션 처리 중 오류 발생 시
      */
     <T> T executeInReadOnlyTransaction(TransactionCallback<T> callback) throws TransactionException;
+    
+    /**
+     * 트랜잭션을 별도 스레드에서 실행하고 결과를 Future로 반환합니다.
+     * 콜백은 호출 스레드의 트랜잭션과 무관한 독립 트랜잭션에서 실행됩니다.
+     * 
+     * @param <T> 반환 타입
+     * @param callback 트랜잭션 내에서 실행할 비즈니스 로직
+     * @return 비즈니스 로직 결과로 완료되는 Future
+     */
+    <T> CompletableFuture<T> executeInTransactionAsync(TransactionCallback<T> callback);
+    
+    /**
+     * 읽기 전용 트랜잭션을 별도 스레드에서 실행하고 결과를 Future로 반환합니다.
+     * 서로 독립적인 조회를 동시에 실행할 때 사용합니다.
+     * 
+     * @param <T> 반환 타입
+     * @param callback 읽기 전용 트랜잭션 내에서 실행할 비즈니스 로직
+     * @return 비즈니스 로직 결과로 완료되는 Future
+     */
+    <T> CompletableFuture<T> executeInReadOnlyTransactionAsync(TransactionCallback<T> callback);
+    
+    /**
+     * 비동기 트랜잭션의 결과를 기다립니다.
+     * {@link CompletableFuture#join()}과 달리 {@link CompletionException}을 벗겨 내어,
+     * 콜백이 던진 런타임 예외는 동기 호출과 같이 그대로, 그 밖의 실패는 {@link TransactionException}으로 전달합니다.
+     * 
+     * @param <T> 반환 타입
+     * @param future {@link #executeInTransactionAsync} 등이 반환한 Future
+     * @return 비즈니스 로직 실행 결과
+     * @throws TransactionException 대기열 초과 등 트랜잭션 처리 중 오류 발생 시
+     */
+    static <T> T join(CompletableFuture<T> future) throws TransactionException {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof TransactionException) {
+                if (cause.getCause() instanceof RuntimeException) {
+                    throw (RuntimeException) cause.getCause();
+                }
+                throw (TransactionException) cause;
+            }
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw new TransactionException("비동기 트랜잭션 실행", cause);
+        }
+    }
 }
\ No newline at end of file
@@ -0,0 +1,282 @@
+package app.common.transaction;
+
+import app.config.DatabaseConnection;
+import app.common.SimpleLogger;
+import app.common.metrics.JmxExporter;
+import app.common.metrics.LatencyHistogram;
+import java.time.LocalTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 트랜잭션 지표를 호출 위치(call site)별로 수집합니다.
+ * 
+ * <p>호출 위치는 트랜잭션을 요청한 메서드("EnclosureManager.executeAnimalAdmission")이며,
+ * 어느 작업이 느리거나 잠금 경합이 잦은지 확인하는 데 사용합니다.</p>
+ * 
+ * <p>새로 시작한 트랜잭션마다 연결 획득, 콜백 실행, 커밋/롤백 단계의 소요 시간과 결과를 기록합니다.
+ * 전체 소요 시간이 db.tx.slowThreshold 이상이면 호출 위치와 단계별 시간을 로그로 남기고
+ * 최근 기록에 보관합니다. 기존 트랜잭션에 참여한 경우는 바깥 트랜잭션에 포함되므로 따로 기록하지 않습니다.</p>
+ * 
+ * @author MANAZOO Team
+ * @since 2.0
+ */
+public final class TransactionMetrics implements TransactionMetricsMXBean {
+    
+    /** 보관할 최근 느린 트랜잭션 수 */
+    private static final int RECENT_SLOW_CAPACITY = 20;
+    private static final DateTimeFormatter TIME_FORMAT = DateTimeFormatter.ofPattern("HH:mm:ss.SSS");
+    
+    /**
+     * 트랜잭션 결과입니다.
+     */
+    enum Outcome {
+        /** 커밋됨 */
+        COMMITTED,
+        /** 읽기 전용으로 정상 종료됨 */
+        READ_ONLY,
+        /** 롤백됨 */
+        ROLLED_BACK,
+        /** 연결을 얻지 못했거나 읽기 전용 트랜잭션이 실패함 */
+        FAILED
+    }
+    
+    /**
+     * 호출 위치 하나의 지표입니다.
+     */
+    private static final class CallSiteStats {
+        private final LatencyHistogram acquire = new LatencyHistogram();
+        private final LatencyHistogram callback = new LatencyHistogram();
+        private final LatencyHistogram completion = new LatencyHistogram();
+        private final LatencyHistogram total = new LatencyHistogram();
+        private final LongAdder commits = new LongAdder();
+        private final LongAdder rollbacks = new LongAdder();
+        private final LongAdder slow = new LongAdder();
+        private final LongAdder retries = new LongAdder();
+        private final LongAdder retriesExhausted = new LongAdder();
+    }
+    
+    private final Map<String, CallSiteStats> callSites = new ConcurrentHashMap<>();
+    private final LongAdder transactions = new LongAdder();
+    private final LongAdder commits = new LongAdder();
+    private final LongAdder rollbacks = new LongAdder();
+    private final LongAdder slowTransactions = new LongAdder();
+    private final LongAdder retries = new LongAdder();
+    private final LongAdder retriesExhausted = new LongAdder();
+    private final SimpleLogger logger = SimpleLogger.getLogger(TransactionMetrics.class);
+    
+    private volatile long slowThresholdNanos;
+    // 최근 느린 트랜잭션 (최신이 앞), 자신으로 보호
+    private final Deque<String> recentSlow = new ArrayDeque<>(RECENT_SLOW_CAPACITY);
+    
+    // ==================== Singleton 패턴 구현 ====================
+    
+    private static class SingletonHolder {
+        private static final TransactionMetrics INSTANCE = new TransactionMetrics();
+    }
+    
+    private TransactionMetrics() {
+        this.slowThresholdNanos = TimeUnit.MILLISECONDS.toNanos(
+                DatabaseConnection.getConfigLoader().getTxSlowThreshold());
+        JmxExporter.register("TransactionMetrics", this);
+    }
+    
+    /**
+     * TransactionMetrics 싱글톤 인스턴스를 반환합니다.
+     * 
+     * @return TransactionMetrics 인스턴스
+     */
+    public static TransactionMetrics getInstance() {
+        return SingletonHolder.INSTANCE;
+    }
+    
+    private CallSiteStats callSite(String callSite) {
+        return callSites.computeIfAbsent(callSite, key -> new CallSiteStats());
+    }
+    
+    /**
+     * 새로 시작한 트랜잭션 한 건의 단계별 소요 시간과 결과를 기록합니다.
+     * 
+     * @param callSite 트랜잭션 호출 위치
+     * @param outcome 트랜잭션 결과
+     * @param acquireNanos 연결 획득 시간 (ns)
+     * @param callbackNanos 콜백 실행 시간 (ns)
+     * @param completionNanos 커밋 또는 롤백 시간 (ns)
+     * @param totalNanos 전체 소요 시간 (ns)
+     */
+    void recordTransaction(String callSite, Outcome outcome, long acquireNanos, long callbackNanos,
+            long completionNanos, long totalNanos) {
+        CallSiteStats stats = callSite(callSite);
+        transactions.increment();
+        stats.acquire.record(acquireNanos);
+        stats.callback.record(callbackNanos);
+        stats.completion.record(completionNanos);
+        stats.total.record(totalNanos);
+        
+        if (outcome == Outcome.COMMITTED) {
+            commits.increment();
+            stats.commits.increment();
+        } else if (outcome == Outcome.ROLLED_BACK) {
+            rollbacks.increment();
+            stats.rollbacks.increment();
+        }
+        
+        if (totalNanos >= slowThresholdNanos) {
+            slowTransactions.increment();
+            stats.slow.increment();
+            String detail = String.format("%s %.1fms (%s): 연결 %.1fms / 콜백 %.1fms / 완료 %.1fms",
+                    callSite, toMillis(totalNanos), outcome, toMillis(acquireNanos),
+                    toMillis(callbackNanos), toMillis(completionNanos));
+            synchronized (recentSlow) {
+                if (recentSlow.size() == RECENT_SLOW_CAPACITY) {
+                    recentSlow.removeLast();
+                }
+                recentSlow.addFirst(LocalTime.now().format(TIME_FORMAT) + " " + detail);
+            }
+            logger.info("느린 트랜잭션: " + detail);
+        }
+    }
+    
+    private static double toMillis(long nanos) {
+        return nanos / 1_000_000.0;
+    }
+    
+    /**
+     * 재시도 한 번을 기록합니다.
+     * 
+     * @param callSite 트랜잭션 호출 위치
+     */
+    void recordRetry(String callSite) {
+        retries.increment();
+        callSite(callSite).retries.increment();
+    }
+    
+    /**
+     * 재시도를 모두 소진하고 실패한 트랜잭션을 기록합니다.
+     * 
+     * @param callSite 트랜잭션 호출 위치
+     */
+    void recordRetriesExhausted(String callSite) {
+        retriesExhausted.increment();
+        callSite(callSite).retriesExhausted.increment();
+    }
+    
+    @Override
+    public long getTransactionCount() {
+        return transactions.sum();
+    }
+    
+    @Override
+    public long getCommitCount() {
+        return commits.sum();
+    }
+    
+    @Override
+    public long getRollbackCount() {
+        return rollbacks.sum();
+    }
+    
+    @Override
+    public long getSlowTransactionCount() {
+        return slowTransactions.sum();
+    }
+    
+    @Override
+    public long getSlowThresholdMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(slowThresholdNanos);
+    }
+    
+    @Override
+    public void setSlowThresholdMillis(long millis) {
+        slowThresholdNanos = TimeUnit.MILLISECONDS.toNanos(Math.max(0L, millis));
+        logger.info("느린 트랜잭션 기준 변경: " + millis + "ms");
+    }
+    
+    @Override
+    public String[] getRecentSlowTransactions() {
+        synchronized (recentSlow) {
+            return recentSlow.toArray(new String[0]);
+        }
+    }
+    
+    @Override
+    public Map<String, Double> getTotalP95MillisByCallSite() {
+        Map<String, Double> result = new TreeMap<>();
+        callSites.forEach((site, stats) -> {
+            if (stats.total.getCount() > 0) {
+                result.put(site, stats.total.percentileMillis(95.0));
+            }
+        });
+        return result;
+    }
+    
+    @Override
+    public long getRetryCount() {
+        return retries.sum();
+    }
+    
+    @Override
+    public long getRetriesExhausted() {
+        return retriesExhausted.sum();
+    }
+    
+    @Override
+    public Map<String, Long> getRetriesByCallSite() {
+        Map<String, Long> result = new TreeMap<>();
+        callSites.forEach((site, stats) -> {
+            long count = stats.retries.sum();
+            if (count > 0) {
+                result.put(site, count);
+            }
+        });
+        return result;
+    }
+    
+    /**
+     * 콘솔 출력용 텍스트를 만듭니다.
+     * 호출 위치는 전체 소요 시간 합이 큰 순서로 정렬합니다.
+     * 
+     * @return 트랜잭션 지표 텍스트
+     */
+    public String format() {
+        StringBuilder sb = new StringBuilder();
+        sb.append(String.format("트랜잭션: %d건 (커밋 %d / 롤백 %d / 느림 %d, 기준 %dms)",
+                getTransactionCount(), getCommitCount(), getRollbackCount(), getSlowTransactionCount(),
+                getSlowThresholdMillis()));
+        sb.append(String.format("%n트랜잭션 재시도: %d회 / 재시도 소진: %d회", getRetryCount(), getRetriesExhausted()));
+        callSites.entrySet().stream()
+                .filter(entry -> entry.getValue().total.getCount() > 0 || entry.getValue().retries.sum() > 0)
+                .sorted((a, b) -> Double.compare(totalMillis(b.getValue()), totalMillis(a.getValue())))
+                .forEach(entry -> {
+                    CallSiteStats stats = entry.getValue();
+                    sb.append(String.format("%n  %s: %d건 (커밋 %d / 롤백 %d / 느림 %d) p95 전체 %.1fms"
+                            + " [연결 %.1f / 콜백 %.1f / 완료 %.1f] 최대 %.1fms, 재시도 %d회 / 소진 %d회",
+                            entry.getKey(), stats.total.getCount(), stats.commits.sum(), stats.rollbacks.sum(),
+                            stats.slow.sum(), p95(stats.total), p95(stats.acquire), p95(stats.callback),
+                            p95(stats.completion), stats.total.maxMillis(),
+                            stats.retries.sum(), stats.retriesExhausted.sum()));
+                });
+        String[] slow = getRecentSlowTransactions();
+        if (slow.length > 0) {
+            sb.append(String.format("%n최근 느린 트랜잭션:"));
+            for (String line : slow) {
+                sb.append(String.format("%n  %s", line));
+            }
+        }
+        return sb.toString();
+    }
+    
+    private static double totalMillis(CallSiteStats stats) {
+        return stats.total.meanMillis() * stats.total.getCount();
+    }
+    
+    private static double p95(LatencyHistogram histogram) {
+        return histogram.getCount() == 0 ? 0.0 : histogram.percentileMillis(95.0);
+    }
+}
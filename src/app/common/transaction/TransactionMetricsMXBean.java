@@ -0,0 +1,50 @@
+package app.common.transaction;
+
+import java.util.Map;
+
+/**
+ * 트랜잭션 지표를 JMX로 노출하기 위한 MXBean 인터페이스입니다.
+ * "app.manazoo:type=TransactionMetrics" 이름으로 등록됩니다.
+ * 
+ * @author MANAZOO Team
+ * @since 2.0
+ */
+public interface TransactionMetricsMXBean {
+    
+    /** @return 새로 시작한 누적 트랜잭션 수 (참여한 트랜잭션 제외) */
+    long getTransactionCount();
+    
+    /** @return 커밋된 누적 트랜잭션 수 */
+    long getCommitCount();
+    
+    /** @return 롤백된 누적 트랜잭션 수 */
+    long getRollbackCount();
+    
+    /** @return 느린 트랜잭션 기준을 넘은 누적 트랜잭션 수 */
+    long getSlowTransactionCount();
+    
+    /** @return 느린 트랜잭션 기준 (ms) */
+    long getSlowThresholdMillis();
+    
+    /**
+     * 느린 트랜잭션 기준을 변경합니다.
+     * 
+     * @param millis 새 기준 (ms)
+     */
+    void setSlowThresholdMillis(long millis);
+    
+    /** @return 최근 느린 트랜잭션 기록 (최신순) */
+    String[] getRecentSlowTransactions();
+    
+    /** @return 호출 위치별 트랜잭션 전체 소요 시간 p95 (ms) */
+    Map<String, Double> getTotalP95MillisByCallSite();
+    
+    /** @return 교착 상태/잠금 대기 초과로 재시도한 누적 횟수 */
+    long getRetryCount();
+    
+    /** @return 재시도 횟수를 모두 소진하고 실패한 누적 트랜잭션 수 */
+    long getRetriesExhausted();
+    
+    /** @return 호출 위치별 재시도 횟수 */
+    Map<String, Long> getRetriesByCallSite();
+}
@@ -30,6 +30,20 @@ public class TransactionTemplate {
         });
     }
     
+    /**
+     * 지정한 전파 방식의 트랜잭션 내에서 작업을 실행하되 결과를 반환하지 않는 경우에 사용합니다.
+     * 
+     * @param propagation 진행 중인 트랜잭션이 있을 때의 동작
+     * @param action 실행할 작업
+     * @throws TransactionException 트랜잭션 실행 중 오류 발생 시
+     */
+    public void execute(Propagation propagation, TransactionAction action) throws TransactionException {
+        transactionManager.executeInTransaction(propagation, () -> {
+            action.execute();
+            return null;
+        });
+    }
+    
     /**
      * 읽기 전용 트랜잭션 내에서 작업을 실행하되 결과를 반환하지 않는 경우에 사용합니다.
      * 
@@ -5,6 +5,7 @@ import java.time.format.DateTimeFormatter;
 import java.time.format.DateTimeParseException;
 
 import app.common.InputUtil;
+import app.common.SimpleLogger;
 
 /**
  * 메뉴 UI 생성 및 출력을 담당하는 유틸리티 클래스입니다. 일관된 스타일의 메뉴를 쉽게 생성할 수 있도록 도와줍니다.
@@ -28,6 +29,8 @@ public final class MenuUtil {
 	 * 콘솔 너비에 맞춰 좌측 정렬됩니다.
 	 */
 	public static void printAccessMenu() {
+		// 앞선 작업의 비동기 로그가 메뉴 사이에 끼어들지 않도록 먼저 출력
+		SimpleLogger.flush();
 		UIUtil.printSeparator('━');
 		System.out.println("  시스템 접속을 선택하세요");
 		System.out.println();
@@ -47,6 +50,8 @@ public final class MenuUtil {
 	 * @param options 메뉴 옵션들
 	 */
 	public static void printMenu(String title, String[] options) {
+		SimpleLogger.flush();
+
 		// 상단 구분선
 		UIUtil.printSeparator('━');
 
@@ -76,6 +81,8 @@ public final class MenuUtil {
 	 */
 	public static void generateMenuWithSpecialOptions(Runnable titlePrinter, String[] options,
 			String[] specialOptions) {
+		SimpleLogger.flush();
+
 		// 제목 출력 (Runnable이 제공된 경우)
 		if (titlePrinter != null) {
 			titlePrinter.run();
@@ -1,8 +1,13 @@
 package app.config;
 
 import app.common.SimpleLogger;
+import app.common.logging.LogLevel;
 import java.io.*;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
 import java.util.Properties;
+import java.util.TreeMap;
 
 /**
  * 데이터베이스 설정을 로드하고 관리하는 클래스
@@ -138,6 +143,425 @@ public class DatabaseConfigLoader {
         return Boolean.parseBoolean(properties.getProperty("db.autoReconnect", "true"));
     }
     
+    // 커넥션 풀 설정 getter 메서드들
+    
+    /**
+     * Connection Pool의 공정 모드 여부를 반환합니다.
+     * 공정 모드에서는 반환된 연결이 가장 오래 기다린 스레드에게 먼저 전달됩니다.
+     * 
+     * @return 공정 모드 여부 (기본값: true)
+     */
+    public boolean isPoolFair() {
+        return Boolean.parseBoolean(properties.getProperty("db.pool.fair", "true"));
+    }
+    
+    /**
+     * Connection Pool의 최소 연결 수를 반환합니다.
+     * 
+     * @return 최소 연결 수 (기본값: 5)
+     */
+    public int getPoolMinSize() {
+        return Integer.parseInt(properties.getProperty("db.pool.minSize", "5"));
+    }
+    
+    /**
+     * Connection Pool의 최대 연결 수를 반환합니다.
+     * 적응형 모드에서는 축소 하한으로 사용됩니다.
+     * 
+     * @return 최대 연결 수 (기본값: 20)
+     */
+    public int getPoolMaxSize() {
+        return Integer.parseInt(properties.getProperty("db.pool.maxSize", "20"));
+    }
+    
+    /**
+     * 대여 대기 시간에 따라 최대 연결 수를 자동으로 조정할지 여부를 반환합니다.
+     * 
+     * @return 적응형 크기 조정 사용 여부 (기본값: false)
+     */
+    public boolean isPoolAdaptive() {
+        return Boolean.parseBoolean(properties.getProperty("db.pool.adaptive", "false"));
+    }
+    
+    /**
+     * 적응형 모드에서 최대 연결 수를 늘릴 수 있는 상한을 반환합니다.
+     * 
+     * @return 최대 연결 수 상한 (기본값: 최대 연결 수의 2배)
+     */
+    public int getPoolAdaptiveCeiling() {
+        String value = properties.getProperty("db.pool.adaptive.ceiling");
+        return value != null ? Integer.parseInt(value.trim()) : getPoolMaxSize() * 2;
+    }
+    
+    /**
+     * 적응형 모드에서 목표로 하는 대여 대기 시간 p95를 반환합니다.
+     * 
+     * @return 목표 대기 시간 (ms, 기본값: 10)
+     */
+    public double getPoolAdaptiveTargetWaitMillis() {
+        return Double.parseDouble(properties.getProperty("db.pool.adaptive.targetWaitMillis", "10"));
+    }
+    
+    /**
+     * 적응형 모드에서 크기 조정을 평가하는 주기를 반환합니다.
+     * 
+     * @return 평가 주기 (ms, 기본값: 10000)
+     */
+    public long getPoolAdaptiveInterval() {
+        return Long.parseLong(properties.getProperty("db.pool.adaptive.interval", "10000"));
+    }
+    
+    /**
+     * 풀 초기화 시 첫 연결이 준비되기를 기다리는 최대 시간을 반환합니다.
+     * 나머지 초기 연결은 이 시간과 관계없이 백그라운드에서 생성됩니다.
+     * 
+     * @return 워밍업 대기 시간 (ms, 기본값: 15000)
+     */
+    public long getPoolWarmupTimeout() {
+        return Long.parseLong(properties.getProperty("db.pool.warmupTimeout", "15000"));
+    }
+    
+    /**
+     * Connection Pool에서 연결을 얻기 위해 기다리는 최대 시간을 반환합니다.
+     * 
+     * @return 연결 획득 대기 시간 (ms, 기본값: 30000)
+     */
+    public long getPoolAcquireTimeout() {
+        return Long.parseLong(properties.getProperty("db.pool.acquireTimeout", "30000"));
+    }
+    
+    /**
+     * 유휴 연결이 정리되기까지의 시간을 반환합니다. 최소 연결 수 이하로는 정리하지 않습니다.
+     * 
+     * @return 유휴 시간 제한 (ms, 기본값: 600000, 0이면 정리하지 않음)
+     */
+    public long getPoolIdleTimeout() {
+        return Long.parseLong(properties.getProperty("db.pool.idleTimeout", "600000"));
+    }
+    
+    /**
+     * 연결의 최대 수명을 반환합니다. MySQL wait_timeout보다 짧게 설정해야 합니다.
+     * 
+     * @return 최대 수명 (ms, 기본값: 1800000, 0이면 무제한)
+     */
+    public long getPoolMaxLifetime() {
+        return Long.parseLong(properties.getProperty("db.pool.maxLifetime", "1800000"));
+    }
+    
+    /**
+     * 유휴 연결을 백그라운드에서 검증하는 주기를 반환합니다.
+     * 
+     * @return keepalive 주기 (ms, 기본값: 120000)
+     */
+    public long getPoolKeepaliveTime() {
+        return Long.parseLong(properties.getProperty("db.pool.keepaliveTime", "120000"));
+    }
+    
+    /**
+     * 하우스키핑 스레드의 실행 주기를 반환합니다.
+     * 
+     * @return 하우스키핑 주기 (ms, 기본값: 30000)
+     */
+    public long getPoolHousekeepingPeriod() {
+        return Long.parseLong(properties.getProperty("db.pool.housekeepingPeriod", "30000"));
+    }
+    
+    /**
+     * 최근 검증된 연결을 대여 시 다시 검증하지 않는 시간 범위를 반환합니다.
+     * 
+     * @return 검증 생략 시간 (ms, 기본값: 500)
+     */
+    public long getPoolValidationBypassWindow() {
+        return Long.parseLong(properties.getProperty("db.pool.validationBypassWindow", "500"));
+    }
+    
+    /**
+     * 연결 누수로 판단하는 대여 시간 기준을 반환합니다.
+     * 
+     * @return 누수 감지 기준 시간 (ms, 기본값: 0 = 비활성화)
+     */
+    public long getPoolLeakDetectionThreshold() {
+        return Long.parseLong(properties.getProperty("db.pool.leakDetectionThreshold", "0"));
+    }
+    
+    /**
+     * 연결 하나당 캐시할 PreparedStatement 수를 반환합니다.
+     * 
+     * @return 문장 캐시 크기 (0이면 캐시 비활성화)
+     */
+    public int getPoolStatementCacheSize() {
+        return Integer.parseInt(properties.getProperty("db.pool.statementCacheSize", "50"));
+    }
+    
+    /**
+     * 비동기 트랜잭션의 최대 동시 실행 수를 반환합니다.
+     * 
+     * @return 동시 실행 수 (기본값: 풀 최대 연결 수)
+     */
+    public int getTxAsyncParallelism() {
+        String value = properties.getProperty("db.tx.async.parallelism");
+        return value != null ? Integer.parseInt(value) : getPoolMaxSize();
+    }
+    
+    /**
+     * 실행을 기다릴 수 있는 비동기 트랜잭션 수를 반환합니다.
+     * 
+     * @return 대기열 크기 (기본값: 64)
+     */
+    public int getTxAsyncQueueCapacity() {
+        return Integer.parseInt(properties.getProperty("db.tx.async.queueCapacity", "64"));
+    }
+    
+    /**
+     * 비동기 트랜잭션 대기열이 가득 찼을 때 제출한 스레드가 기다리는 최대 시간을 반환합니다.
+     * 
+     * @return 제출 대기 시간 (ms, 기본값: 연결 획득 대기 시간)
+     */
+    public long getTxAsyncSubmitTimeout() {
+        String value = properties.getProperty("db.tx.async.submitTimeout");
+        return value != null ? Long.parseLong(value) : getPoolAcquireTimeout();
+    }
+    
+    // 연결 회로 차단기 설정 getter 메서드들
+    
+    /**
+     * 회로 차단기를 여는 실패율 기준을 반환합니다.
+     * 
+     * @return 실패율 기준 (%, 기본값: 50)
+     */
+    public double getBreakerFailureRateThreshold() {
+        return Double.parseDouble(properties.getProperty("db.breaker.failureRateThreshold", "50"));
+    }
+    
+    /**
+     * 실패율을 판단하기 위한 최소 연결 시도 수를 반환합니다.
+     * 
+     * @return 최소 시도 수 (기본값: 5)
+     */
+    public int getBreakerMinimumCalls() {
+        return Integer.parseInt(properties.getProperty("db.breaker.minimumCalls", "5"));
+    }
+    
+    /**
+     * 실패율을 계산할 최근 연결 시도 수를 반환합니다.
+     * 
+     * @return 구간 크기 (기본값: 20)
+     */
+    public int getBreakerWindowSize() {
+        return Integer.parseInt(properties.getProperty("db.breaker.windowSize", "20"));
+    }
+    
+    /**
+     * 회로 차단기가 처음 열렸을 때 연결을 차단하는 시간을 반환합니다.
+     * 연속으로 열릴 때마다 두 배씩 늘어납니다.
+     * 
+     * @return 첫 차단 시간 (ms, 기본값: 1000)
+     */
+    public long getBreakerOpenDuration() {
+        return Long.parseLong(properties.getProperty("db.breaker.openDuration", "1000"));
+    }
+    
+    /**
+     * 회로 차단기의 최대 차단 시간을 반환합니다.
+     * 
+     * @return 최대 차단 시간 (ms, 기본값: 30000)
+     */
+    public long getBreakerMaxOpenDuration() {
+        return Long.parseLong(properties.getProperty("db.breaker.maxOpenDuration", "30000"));
+    }
+    
+    // 트랜잭션 재시도 설정 getter 메서드들
+    
+    /**
+     * 교착 상태/잠금 대기 초과 시 트랜잭션을 실행할 최대 횟수를 반환합니다.
+     * 
+     * @return 최대 실행 횟수 (첫 실행 포함, 기본값: 3)
+     */
+    public int getTxRetryMaxAttempts() {
+        return Integer.parseInt(properties.getProperty("db.tx.retry.maxAttempts", "3"));
+    }
+    
+    /**
+     * 트랜잭션 첫 재시도 전 대기 시간을 반환합니다. 재시도할 때마다 두 배씩 늘어납니다.
+     * 
+     * @return 기준 대기 시간 (ms, 기본값: 20)
+     */
+    public long getTxRetryBaseDelay() {
+        return Long.parseLong(properties.getProperty("db.tx.retry.baseDelay", "20"));
+    }
+    
+    /**
+     * 트랜잭션 재시도 전 최대 대기 시간을 반환합니다.
+     * 
+     * @return 최대 대기 시간 (ms, 기본값: 500)
+     */
+    public long getTxRetryMaxDelay() {
+        return Long.parseLong(properties.getProperty("db.tx.retry.maxDelay", "500"));
+    }
+    
+    /**
+     * 느린 트랜잭션으로 기록할 기준 시간을 반환합니다.
+     * 연결 획득부터 커밋/롤백까지의 전체 시간이 이 값 이상이면 호출 위치와 함께 로그로 남깁니다.
+     * 
+     * @return 기준 시간 (ms, 기본값: 500)
+     */
+    public long getTxSlowThreshold() {
+        return Long.parseLong(properties.getProperty("db.tx.slowThreshold", "500"));
+    }
+    
+    // SQL 추적 설정 getter 메서드들
+    
+    /**
+     * SQL 실행 통계 수집 여부를 반환합니다. 실행 중에는 JMX로 켜고 끌 수 있습니다.
+     * 
+     * @return SQL 추적 사용 여부 (기본값: false)
+     */
+    public boolean isTraceEnabled() {
+        return Boolean.parseBoolean(properties.getProperty("db.trace.enabled", "false"));
+    }
+    
+    /**
+     * 콘솔에 보여 줄 SQL 통계 수를 반환합니다.
+     * 
+     * @return 전체 실행 시간 상위 SQL 수 (기본값: 20)
+     */
+    public int getTraceTopN() {
+        return Integer.parseInt(properties.getProperty("db.trace.topN", "20"));
+    }
+    
+    /**
+     * 따로 통계를 모을 최대 SQL 종류 수를 반환합니다. 넘는 SQL은 하나로 합쳐 집계합니다.
+     * 
+     * @return 최대 SQL 종류 수 (기본값: 500)
+     */
+    public int getTraceMaxStatements() {
+        return Integer.parseInt(properties.getProperty("db.trace.maxStatements", "500"));
+    }
+    
+    // ID 생성 설정 getter 메서드들
+    
+    /**
+     * ID 타입별로 한 번에 예약할 번호 수를 반환합니다.
+     * db.id.blockSize.타입명(예: db.id.blockSize.visitor)이 없으면 db.id.blockSize를 사용합니다.
+     * 
+     * @param typeName 소문자 ID 타입 이름 (enclosure, animal, zookeeper, finance, visitor)
+     * @return 블록 크기 (기본값: 1, 매번 데이터베이스에서 채번)
+     */
+    public int getIdBlockSize(String typeName) {
+        String value = properties.getProperty("db.id.blockSize." + typeName);
+        return value != null ? Integer.parseInt(value)
+                : Integer.parseInt(properties.getProperty("db.id.blockSize", "1"));
+    }
+    
+    /**
+     * 번호 블록을 다 쓰기 전에 백그라운드에서 다음 블록을 예약할지 여부를 반환합니다.
+     * 블록 크기가 1인 타입에는 적용되지 않습니다.
+     * 
+     * @return 미리 가져오기 사용 여부 (기본값: true)
+     */
+    public boolean isIdPrefetchEnabled() {
+        return Boolean.parseBoolean(properties.getProperty("db.id.prefetch", "true"));
+    }
+    
+    /**
+     * 다음 번호 블록을 미리 예약하기 시작할 남은 번호 비율을 반환합니다.
+     * 
+     * @return 블록 크기 대비 남은 번호 비율 (%, 기본값: 50)
+     */
+    public int getIdPrefetchLowWater() {
+        return Integer.parseInt(properties.getProperty("db.id.prefetchLowWater", "50"));
+    }
+    
+    /**
+     * ID 생성 방식을 반환합니다.
+     * "database"는 id_generator 테이블에서 채번하고, "timeOrdered"는 데이터베이스 없이
+     * 노드 ID와 시각으로 번호를 만듭니다 (여러 인스턴스 운영 시 db.id.nodeId 필요).
+     * 
+     * @return ID 생성 방식 (기본값: database)
+     */
+    public String getIdStrategy() {
+        return properties.getProperty("db.id.strategy", "database").trim();
+    }
+    
+    /**
+     * 시간순 ID 생성에 사용할 이 인스턴스의 노드 ID를 반환합니다.
+     * 
+     * @return 노드 ID (0~1023, 설정이 없으면 -1)
+     */
+    public int getIdNodeId() {
+        String value = properties.getProperty("db.id.nodeId");
+        return value != null ? Integer.parseInt(value.trim()) : -1;
+    }
+    
+    // 읽기 전용 복제본 설정 getter 메서드들
+    
+    /**
+     * 읽기 전용 복제본 주소 목록을 반환합니다.
+     * db.replica.hosts에 "호스트:포트"를 쉼표로 구분하여 지정하며, 포트를 생략하면 3306을 사용합니다.
+     * 
+     * @return 복제본 "호스트:포트" 목록 (설정이 없으면 빈 목록)
+     */
+    public List<String> getReplicaHosts() {
+        List<String> hosts = new ArrayList<>();
+        String value = properties.getProperty("db.replica.hosts", "");
+        for (String host : value.split(",")) {
+            String trimmed = host.trim();
+            if (!trimmed.isEmpty()) {
+                hosts.add(trimmed.contains(":") ? trimmed : trimmed + ":3306");
+            }
+        }
+        return hosts;
+    }
+    
+    /**
+     * 복제본 접속용 JDBC URL을 생성합니다. 데이터베이스 이름과 옵션은 기본 서버와 같습니다.
+     * 
+     * @param hostAndPort 복제본 "호스트:포트"
+     * @return 복제본 JDBC URL
+     */
+    public String getReplicaJdbcUrl(String hostAndPort) {
+        StringBuilder url = new StringBuilder();
+        url.append("jdbc:mysql://")
+           .append(hostAndPort)
+           .append("/")
+           .append(getDatabaseName())
+           .append("?serverTimezone=")
+           .append(getServerTimezone());
+        
+        if (isAutoReconnect()) {
+            url.append("&autoReconnect=true");
+        }
+        
+        return url.toString();
+    }
+    
+    /**
+     * 복제본 접속 사용자명을 반환합니다. 지정하지 않으면 기본 서버 사용자명을 사용합니다.
+     * 
+     * @return 복제본 사용자명
+     */
+    public String getReplicaUsername() {
+        return properties.getProperty("db.replica.username", getUsername());
+    }
+    
+    /**
+     * 복제본 접속 비밀번호를 반환합니다. 지정하지 않으면 기본 서버 비밀번호를 사용합니다.
+     * 
+     * @return 복제본 비밀번호
+     */
+    public String getReplicaPassword() {
+        return properties.getProperty("db.replica.password", getPassword());
+    }
+    
+    /**
+     * 장애로 제외된 복제본을 다시 시도하기까지의 시간을 반환합니다.
+     * 
+     * @return 복제본 재시도 간격 (ms, 기본값: 30000)
+     */
+    public long getReplicaRetryInterval() {
+        return Long.parseLong(properties.getProperty("db.replica.retryInterval", "30000"));
+    }
+    
     /**
      * 디버그 모드 여부를 반환합니다.
      * properties 파일의 app.debug 설정을 먼저 확인하고,
@@ -156,6 +580,26 @@ public class DatabaseConfigLoader {
         return Boolean.parseBoolean(System.getProperty("app.debug", "false"));
     }
     
+    /**
+     * 패키지/클래스별 로그 수준을 반환합니다.
+     * app.log.level.&lt;이름&gt;=&lt;수준&gt; 항목을 읽으며, 알 수 없는 수준은 건너뜁니다.
+     * 
+     * @return 이름별 로그 수준 (예: "app.repository" → DEBUG)
+     */
+    public Map<String, LogLevel> getLogLevels() {
+        Map<String, LogLevel> levels = new TreeMap<>();
+        for (String key : properties.stringPropertyNames()) {
+            if (key.startsWith("app.log.level.")) {
+                try {
+                    levels.put(key.substring("app.log.level.".length()), LogLevel.from(properties.getProperty(key)));
+                } catch (IllegalArgumentException e) {
+                    logger.error(e.getMessage() + " (" + key + ")");
+                }
+            }
+        }
+        return levels;
+    }
+    
     /**
      * 완전한 JDBC URL을 생성합니다.
      */
@@ -200,7 +644,34 @@ public class DatabaseConfigLoader {
         logger.debug("최대 재시도: %d", getMaxRetries());
         logger.debug("SQL 표시: %s", isShowSql());
         logger.debug("자동 재연결: %s", isAutoReconnect());
+        logger.debug("풀 크기: 최소 %d, 최대 %d", getPoolMinSize(), getPoolMaxSize());
+        if (isPoolAdaptive()) {
+            logger.debug("풀 적응형 크기 조정: 상한 %d, 목표 대기 p95 %.1fms, 주기 %dms", getPoolAdaptiveCeiling(),
+                    getPoolAdaptiveTargetWaitMillis(), getPoolAdaptiveInterval());
+        }
+        logger.debug("풀 공정 모드: %s", isPoolFair());
+        logger.debug("풀 연결 획득 대기 시간: %dms, 워밍업 대기 시간: %dms", getPoolAcquireTimeout(),
+                getPoolWarmupTimeout());
+        logger.debug("풀 유휴 시간 제한: %dms, 최대 수명: %dms", getPoolIdleTimeout(), getPoolMaxLifetime());
+        logger.debug("풀 keepalive 주기: %dms, 하우스키핑 주기: %dms", getPoolKeepaliveTime(),
+                getPoolHousekeepingPeriod());
+        logger.debug("풀 누수 감지 기준: %dms", getPoolLeakDetectionThreshold());
+        logger.debug("풀 문장 캐시 크기: %d", getPoolStatementCacheSize());
+        logger.debug("트랜잭션 재시도: 최대 %d회, 대기 %dms ~ %dms",
+                getTxRetryMaxAttempts(), getTxRetryBaseDelay(), getTxRetryMaxDelay());
+        logger.debug("느린 트랜잭션 기준: %dms", getTxSlowThreshold());
+        logger.debug("SQL 추적: %s (상위 %d개, 최대 %d종)", isTraceEnabled(), getTraceTopN(), getTraceMaxStatements());
+        logger.debug("비동기 트랜잭션: 동시 실행 %d, 대기열 %d, 제출 대기 %dms",
+                getTxAsyncParallelism(), getTxAsyncQueueCapacity(), getTxAsyncSubmitTimeout());
+        logger.debug("ID 생성 방식: %s (블록 크기: %s, 노드 ID: %s)", getIdStrategy(),
+                properties.getProperty("db.id.blockSize", "1"), properties.getProperty("db.id.nodeId", "자동"));
+        logger.debug("ID 블록 미리 가져오기: %s (남은 번호 %d%% 이하)", isIdPrefetchEnabled(), getIdPrefetchLowWater());
+        logger.debug("회로 차단기: 실패율 %.0f%% (최근 %d회 중 최소 %d회), 차단 %dms ~ %dms",
+                getBreakerFailureRateThreshold(), getBreakerWindowSize(), getBreakerMinimumCalls(),
+                getBreakerOpenDuration(), getBreakerMaxOpenDuration());
+        logger.debug("읽기 복제본: %s (재시도 간격: %dms)", getReplicaHosts(), getReplicaRetryInterval());
         logger.debug("디버그 모드: %s", isDebugMode());
+        logger.debug("로그 수준: %s", getLogLevels());
         logger.info("==============================");
     }
 }
@@ -3,8 +3,14 @@ package app.config;
 import java.sql.Connection;
 import java.sql.DriverManager;
 import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.util.concurrent.ThreadLocalRandom;
 
 import app.common.SimpleLogger;
+import app.common.database.CircuitBreaker;
+import app.common.exception.DatabaseConnectionException;
+import app.common.logging.LogLevels;
+import app.common.metrics.JmxExporter;
 
 /**
  * 데이터베이스 연결을 관리하는 클래스 SimpleLogger를 사용하여 간단한 로깅을 처리합니다.
@@ -14,6 +20,13 @@ public class DatabaseConnection {
 	private static final String MYSQL_DRIVER = "com.mysql.cj.jdbc.Driver";
 	private static DatabaseConfigLoader configLoader;
 
+	// 재시도 지연: 첫 재시도 기준 시간과 최대값 (ms)
+	private static final long RETRY_BASE_DELAY = 250L;
+	private static final long RETRY_MAX_DELAY = 4000L;
+
+	// 연결 생성 앞에 두는 회로 차단기
+	private static final CircuitBreaker circuitBreaker;
+
 	// 간단한 로거 인스턴스
 	private static final SimpleLogger logger = SimpleLogger.getLogger(DatabaseConnection.class);
 
@@ -22,6 +35,15 @@ public class DatabaseConnection {
 		String environment = System.getProperty("app.env", "dev");
 		configLoader = new DatabaseConfigLoader(environment);
 
+		circuitBreaker = new CircuitBreaker("database", configLoader.getBreakerFailureRateThreshold(),
+				configLoader.getBreakerMinimumCalls(), configLoader.getBreakerWindowSize(),
+				configLoader.getBreakerOpenDuration(), configLoader.getBreakerMaxOpenDuration());
+		JmxExporter.register("CircuitBreaker", "database", circuitBreaker);
+
+		// 설정 파일의 로그 수준 적용 (시스템 프로퍼티로 지정한 수준이 우선)
+		LogLevels.applyDefaults(configLoader.getLogLevels());
+		JmxExporter.register("Logging", LogLevels.getMXBean());
+
 		// 디버그 모드에서만 초기화 메시지 출력
 		logger.debug("데이터베이스 연결 관리자 초기화 - 환경: %s", environment);
 	}
@@ -71,6 +93,72 @@ public class DatabaseConnection {
 		}
 	}
 
+	/**
+	 * 회로 차단기를 거쳐 연결을 한 번 생성합니다. Connection Pool이 새 연결을 만들 때 사용합니다.
+	 * 차단기가 열려 있으면 서버에 접속하지 않고 즉시 실패합니다.
+	 * 
+	 * @return MySQL 데이터베이스 연결
+	 * @throws SQLTransientConnectionException 차단기가 열려 있는 경우 (원인: DatabaseConnectionException)
+	 * @throws SQLException 연결 실패 시 발생
+	 */
+	public static Connection getGuardedConnection() throws SQLException {
+		if (!circuitBreaker.tryAcquire()) {
+			DatabaseConnectionException rejected = rejectedByBreaker();
+			throw new SQLTransientConnectionException(rejected.getMessage(), rejected);
+		}
+		return connectThroughBreaker();
+	}
+
+	/**
+	 * 차단기가 허용한 연결 시도를 수행하고 결과를 기록합니다.
+	 */
+	private static Connection connectThroughBreaker() throws SQLException {
+		try {
+			Connection connection = getConnection();
+			circuitBreaker.onSuccess();
+			return connection;
+		} catch (SQLException | RuntimeException e) {
+			circuitBreaker.onFailure();
+			throw e;
+		}
+	}
+
+	private static DatabaseConnectionException rejectedByBreaker() {
+		return new DatabaseConnectionException("데이터베이스 연결 차단 중입니다. (" + circuitBreaker.getRemainingOpenMillis()
+				+ "ms 후 재시도 가능)");
+	}
+
+	/**
+	 * 데이터베이스 연결 회로 차단기를 반환합니다.
+	 * 
+	 * @return 회로 차단기
+	 */
+	public static CircuitBreaker getCircuitBreaker() {
+		return circuitBreaker;
+	}
+
+	/**
+	 * 읽기 전용 복제본에 대한 연결을 생성합니다. 접속 옵션은 기본 서버와 같습니다.
+	 * 
+	 * @param hostAndPort 복제본 "호스트:포트"
+	 * @return 복제본 연결
+	 * @throws SQLException 연결 실패 시 발생
+	 */
+	public static Connection getReplicaConnection(String hostAndPort) throws SQLException {
+		try {
+			logger.debug("복제본 연결 시도: %s/%s", hostAndPort, configLoader.getDatabaseName());
+			Class.forName(MYSQL_DRIVER);
+
+			DriverManager.setLoginTimeout(configLoader.getConnectionTimeout() / 1000);
+			return DriverManager.getConnection(configLoader.getReplicaJdbcUrl(hostAndPort),
+					configLoader.getReplicaUsername(), configLoader.getReplicaPassword());
+		} catch (ClassNotFoundException e) {
+			String errorMsg = "MySQL JDBC 드라이버를 찾을 수 없습니다. " + "mysql-connector-java JAR 파일이 클래스패스에 있는지 확인해주세요.";
+			logger.error(errorMsg, e);
+			throw new SQLException(errorMsg, e);
+		}
+	}
+
 	/**
 	 * 디버그 모드용 연결 메서드입니다. 연결 상태 메시지를 출력하며, 디버깅이나 연결 테스트 시 사용합니다.
 	 * 
@@ -155,6 +243,15 @@ public class DatabaseConnection {
 		SimpleLogger.printDebugStatus();
 	}
 
+	/**
+	 * 현재 환경의 설정 로더를 반환합니다. Connection Pool 설정 조회에 사용됩니다.
+	 * 
+	 * @return 데이터베이스 설정 로더
+	 */
+	public static DatabaseConfigLoader getConfigLoader() {
+		return configLoader;
+	}
+
 	/**
 	 * 현재 사용 중인 환경을 반환합니다.
 	 * 
@@ -167,19 +264,32 @@ public class DatabaseConnection {
 	/**
 	 * 재시도 로직을 포함한 견고한 연결 생성
 	 * 
+	 * <p>모든 시도는 회로 차단기를 거치며, 차단기가 열려 있으면 기다리지 않고 즉시 실패합니다.
+	 * 재시도 간격은 지수적으로 늘어나고(250ms, 500ms, 1s, ... 최대 4s) 절반~전체 범위의
+	 * 지터가 적용되어, 장애 중에 여러 호출자가 동시에 재접속하지 않습니다.</p>
+	 * 
 	 * @return MySQL 데이터베이스 연결
+	 * @throws DatabaseConnectionException 회로 차단기가 열려 있어 연결을 시도하지 않은 경우
 	 * @throws SQLException 최대 재시도 후에도 연결 실패 시 발생
 	 */
-	public static Connection getConnectionWithRetry() throws SQLException {
+	public static Connection getConnectionWithRetry() throws SQLException, DatabaseConnectionException {
 		int maxRetries = configLoader.getMaxRetries();
 		SQLException lastException = null;
 
 		logger.debug("재시도 로직을 사용한 연결 시작 (최대 %d회)", maxRetries);
 
 		for (int attempt = 1; attempt <= maxRetries; attempt++) {
+			if (!circuitBreaker.tryAcquire()) {
+				DatabaseConnectionException rejected = rejectedByBreaker();
+				if (lastException != null) {
+					rejected.addSuppressed(lastException);
+				}
+				throw rejected;
+			}
+
 			try {
 				logger.debug("연결 시도 %d/%d", attempt, maxRetries);
-				Connection connection = getConnection();
+				Connection connection = connectThroughBreaker();
 
 				if (attempt > 1) {
 					logger.info("재시도를 통한 연결 성공! (시도 횟수: %d)", attempt);
@@ -191,11 +301,11 @@ public class DatabaseConnection {
 				lastException = e;
 
 				if (attempt < maxRetries) {
-					int delaySeconds = attempt;
-					logger.debug("연결 시도 %d/%d 실패. %d초 후 재시도...", attempt, maxRetries, delaySeconds);
+					long delay = retryDelay(attempt);
+					logger.debug("연결 시도 %d/%d 실패. %dms 후 재시도...", attempt, maxRetries, delay);
 
 					try {
-						Thread.sleep(1000L * delaySeconds); // 점진적 지연
+						Thread.sleep(delay);
 					} catch (InterruptedException ie) {
 						Thread.currentThread().interrupt();
 						logger.error("연결 재시도 중 인터럽트 발생", ie);
@@ -209,4 +319,15 @@ public class DatabaseConnection {
 
 		throw new SQLException("최대 재시도 횟수(" + maxRetries + ")를 초과했습니다.", lastException);
 	}
+
+	/**
+	 * 지터를 적용한 지수 백오프 지연 시간을 계산합니다.
+	 * 
+	 * @param attempt 실패한 시도 번호 (1부터)
+	 * @return 다음 시도까지의 지연 시간 (ms)
+	 */
+	private static long retryDelay(int attempt) {
+		long backoff = Math.min(RETRY_MAX_DELAY, RETRY_BASE_DELAY << Math.min(attempt - 1, 16));
+		return backoff / 2 + ThreadLocalRandom.current().nextLong(backoff / 2 + 1);
+	}
 }
@@ -3,10 +3,17 @@ package app.console;
 import java.sql.SQLException;
 
 import app.animal.AnimalManager;
+import app.common.DatabaseIdGenerator;
 import app.common.InputUtil;
+import app.common.database.ConnectionPool;
+import app.common.database.PoolStats;
+import app.common.database.ReplicaRouter;
+import app.common.database.SqlTracer;
+import app.common.transaction.TransactionMetrics;
 import app.common.ui.MenuUtil;
 import app.common.ui.TextArtUtil;
 import app.common.ui.UIUtil;
+import app.config.DatabaseConnection;
 import app.enclosure.EnclosureManager;
 import app.finance.FinanceManager;
 import app.visitor.VisitorManager;
@@ -76,7 +83,7 @@ public class ConsoleEngine {
 	private static void showAdminMenu() {
 
 		while (true) {
-			String[] option = { "동물 관리", "사육장 관리", "직원 관리", "재정 관리" };
+			String[] option = { "동물 관리", "사육장 관리", "직원 관리", "재정 관리", "시스템 상태" };
 			String[] specialOptions = { "뒤로가기" };
 			MenuUtil.generateMenuWithSpecialOptions(TextArtUtil::printAdminMenuTitle, option, specialOptions);
 			int choice = InputUtil.getIntInput();
@@ -94,6 +101,9 @@ public class ConsoleEngine {
 			case 4 -> {
 				handleFinancialManagement();
 			}
+			case 5 -> {
+				handleSystemStatus();
+			}
 			case 0 -> {
 				handleBackToAccessMenu();
 				return;
@@ -138,6 +148,34 @@ public class ConsoleEngine {
 		FinanceManager.getInstance().handleFinanceManagement();
 	}
 
+	/**
+	 * 시스템 상태(Connection Pool 지표)를 출력합니다.
+	 */
+	private static void handleSystemStatus() {
+		UIUtil.printSeparator('━');
+		try {
+			printStats(ConnectionPool.getInstance().getStats());
+			for (PoolStats replicaStats : ReplicaRouter.getInstance().getReplicaStats()) {
+				printStats(replicaStats);
+			}
+			System.out.println(MenuUtil.DEFAULT_PREFIX + DatabaseConnection.getCircuitBreaker().format());
+			System.out.println(MenuUtil.DEFAULT_PREFIX + TransactionMetrics.getInstance().format());
+			System.out.println(MenuUtil.DEFAULT_PREFIX + DatabaseIdGenerator.formatStats());
+			for (String line : SqlTracer.getInstance().format().split("\n")) {
+				System.out.println(MenuUtil.DEFAULT_PREFIX + line);
+			}
+		} catch (RuntimeException e) {
+			System.out.println(MenuUtil.DEFAULT_PREFIX + "시스템 상태를 조회할 수 없습니다: " + e.getMessage());
+		}
+		UIUtil.printSeparator('━');
+	}
+
+	private static void printStats(PoolStats stats) {
+		for (String line : stats.format().split("\n")) {
+			System.out.println(MenuUtil.DEFAULT_PREFIX + line);
+		}
+	}
+
 	/**
 	 * 관람객 모드를 처리합니다. TODO: 관람객용 기능 구현
 	 */
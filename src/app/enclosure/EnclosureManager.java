@@ -3,11 +3,15 @@ package app.enclosure;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 
 import app.animal.Animal;
 import app.animal.AnimalManager;
 import app.common.DatabaseIdGenerator;
 import app.common.InputUtil;
+import app.common.exception.TransactionException;
+import app.common.transaction.JdbcTransactionManager;
+import app.common.transaction.TransactionManager;
 import app.common.ui.MenuUtil;
 import app.common.ui.TableUtil;
 import app.common.ui.TextArtUtil;
@@ -58,6 +62,11 @@ public class EnclosureManager {
 	 */
 	private final EnclosureRepository repository = JdbcEnclosureRepository.getInstance();
 
+	/**
+	 * 여러 Repository 작업을 하나로 묶는 트랜잭션 매니저입니다.
+	 */
+	private final TransactionManager transactionManager = new JdbcTransactionManager();
+
 	/**
 	 * 사용자로부터 LocationType을 선택받는 헬퍼 메서드입니다.
 	 *
@@ -196,7 +205,7 @@ public class EnclosureManager {
 		UIUtil.printSeparator('━');
 
 		try {
-			String id = DatabaseIdGenerator.generateId();
+			String id = DatabaseIdGenerator.generateId(DatabaseIdGenerator.IdType.ENCLOSURE);
 
 			String name = MenuUtil.Question.askTextInput("사육장의 이름을 입력하세요.");
 			float areaSize = MenuUtil.Question.askNumberInput("사육장의 크기를 입력하세요", "m2");
@@ -324,28 +333,37 @@ public class EnclosureManager {
 
 		Enclosure enclosure = foundEnclosure.get();
 
+		// 거주 동물과 배정된 사육사는 서로 독립적인 조회이므로 기본 정보를 출력하는 동안 동시에 조회
+		CompletableFuture<Map<String, Animal>> inhabitants = transactionManager
+				.executeInReadOnlyTransactionAsync(() -> repository.getEnclosureInhabitants(enclosure.getId()));
+		CompletableFuture<Map<String, ZooKeeper>> caretakers = transactionManager
+				.executeInReadOnlyTransactionAsync(() -> repository.getEnclosureCaretakers(enclosure.getId()));
+
 		// 1. 사육장 기본 정보 표시
 		printEnclosureInfo("사육장 기본 정보", enclosure);
 
 		System.out.println();
 
-		// 2. 거주 동물 상세 목록 표시
-		displayEnclosureInhabitants(enclosure);
+		try {
+			// 2. 거주 동물 상세 목록 표시
+			displayEnclosureInhabitants(enclosure, TransactionManager.join(inhabitants));
 
-		System.out.println();
+			System.out.println();
 
-		// 3. 배정된 사육사 상세 목록 표시
-		displayEnclosureCaretakers(enclosure);
+			// 3. 배정된 사육사 상세 목록 표시
+			displayEnclosureCaretakers(enclosure, TransactionManager.join(caretakers));
+		} catch (TransactionException e) {
+			System.out.println(MenuUtil.DEFAULT_PREFIX + "사육장 상세 정보를 조회하지 못했습니다: " + e.getMessage());
+		}
 	}
 
 	/**
 	 * 사육장에 거주하는 동물들의 상세 목록을 테이블 형태로 표시합니다.
-	 * Repository를 통해 실제 동물 데이터를 조회합니다.
 	 * 
-	 * @param enclosure 조회할 사육장 객체
+	 * @param enclosure   조회할 사육장 객체
+	 * @param inhabitants Repository에서 조회한 거주 동물 목록
 	 */
-	private void displayEnclosureInhabitants(Enclosure enclosure) {
-		Map<String, Animal> inhabitants = repository.getEnclosureInhabitants(enclosure.getId());
+	private void displayEnclosureInhabitants(Enclosure enclosure, Map<String, Animal> inhabitants) {
 
 		if (inhabitants.isEmpty()) {
 			System.out.println(MenuUtil.DEFAULT_PREFIX + "이 사육장에는 현재 거주하는 동물이 없습니다.");
@@ -373,12 +391,11 @@ public class EnclosureManager {
 
 	/**
 	 * 사육장에 배정된 사육사들의 상세 목록을 테이블 형태로 표시합니다.
-	 * Repository를 통해 실제 사육사 데이터를 조회합니다.
 	 * 
-	 * @param enclosure 조회할 사육장 객체
+	 * @param enclosure  조회할 사육장 객체
+	 * @param caretakers Repository에서 조회한 사육사 목록
 	 */
-	private void displayEnclosureCaretakers(Enclosure enclosure) {
-		Map<String, ZooKeeper> caretakers = repository.getEnclosureCaretakers(enclosure.getId());
+	private void displayEnclosureCaretakers(Enclosure enclosure, Map<String, ZooKeeper> caretakers) {
 
 		if (caretakers.isEmpty()) {
 			System.out.println(MenuUtil.DEFAULT_PREFIX + "이 사육장에는 현재 배정된 사육사가 없습니다.");
@@ -811,11 +828,12 @@ public class EnclosureManager {
 	 * 실제 동물 입사 데이터를 업데이트합니다.
 	 * Working Data Pattern에서 시뮬레이션이 성공한 후에만 호출되어야 합니다.
 	 * 
-	 * <p>처리 과정:</p>
-	 * <ol>
-	 *   <li>AnimalManager에서 동물 이동 처리</li>
-	 *   <li>Repository를 통해 동물을 사육장에 추가</li>
-	 * </ol>
+	 * <p>AnimalManager가 아직 배치되지 않은 동물만 조건부로 갱신하여 사육장에 배치합니다.
+	 * 사육장 소속은 동물의 enclosure_id 하나로 관리되므로 별도의 추가 작업은 필요하지 않습니다.</p>
+	 * 
+	 * <p>배치는 트랜잭션으로 실행되며, 동시에 입사 처리하다 교착 상태가 생기면
+	 * 트랜잭션 매니저가 처음부터 다시 실행합니다. 이미 다른 사육장에 배치된 동물이면
+	 * 예외를 던져 트랜잭션을 롤백합니다.</p>
 	 * 
 	 * @param enclosureId 대상 사육장 ID
 	 * @param animalId    대상 동물 ID
@@ -823,12 +841,13 @@ public class EnclosureManager {
 	 */
 	private boolean executeAnimalAdmission(String enclosureId, String animalId) {
 		try {
-			Animal animal = AnimalManager.getInstance().removeAvailableAnimal(animalId, enclosureId);
-			if (animal == null) {
-				return false;
-			}
-
-			return repository.addAnimalToEnclosure(enclosureId, animalId, animal);
+			return transactionManager.executeInTransaction(() -> {
+				Animal animal = AnimalManager.getInstance().removeAvailableAnimal(animalId, enclosureId);
+				if (animal == null) {
+					throw new TransactionException("이미 배치되었거나 존재하지 않는 동물입니다: " + animalId);
+				}
+				return true;
+			});
 
 		} catch (Exception e) {
 			System.out.println(MenuUtil.DEFAULT_PREFIX + "처리 중 예외가 발생했습니다: " + e.getMessage());
@@ -4,10 +4,14 @@ import java.sql.SQLException;
 import java.text.NumberFormat;
 import java.util.List;
 import java.util.Locale;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.atomic.AtomicBoolean;
 
 import app.common.DatabaseIdGenerator;
 import app.common.InputUtil;
+import app.common.exception.TransactionException;
+import app.common.transaction.JdbcTransactionManager;
+import app.common.transaction.TransactionManager;
 import app.common.ui.MenuUtil;
 import app.common.ui.TableUtil;
 import app.common.ui.TextArtUtil;
@@ -33,6 +37,9 @@ public final class FinanceManager {
 	// Repository를 통한 데이터 관리
 	private final JdbcIncomeExpendRepository jdbcIERepository = JdbcIncomeExpendRepository.getInstance();
 
+	// 독립적인 집계를 동시에 조회하기 위한 트랜잭션 매니저
+	private final TransactionManager transactionManager = new JdbcTransactionManager();
+
 	// 자본 (초기값:1억)
 	private Long capital = 1000000000l; // 자본
 
@@ -169,7 +176,7 @@ public final class FinanceManager {
 		System.out.println(MenuUtil.DEFAULT_PREFIX + "설명을 작성하세요 ▶");
 		String desc = InputUtil.getStringInput();
 
-		String id = DatabaseIdGenerator.generateId();
+		String id = DatabaseIdGenerator.generateId(DatabaseIdGenerator.IdType.FINANCE);
 		IncomeExpend ie = new IncomeExpend(id, money, desc, ieType, eventType);
 		return ie;
 	}
@@ -266,7 +273,8 @@ public final class FinanceManager {
 	 * @return capital String
 	 */
 	private String getCapital() {
-		return formattingMoney(capital + getTotalIncomes() - getTotalExpends());
+		long[] totals = fetchTotals();
+		return formattingMoney(capital + totals[0] - totals[1]);
 	}
 
 	private void getCapitalTable() {
@@ -279,14 +287,30 @@ public final class FinanceManager {
 	 * @return 총수입 - 총지출 String
 	 */
 	private String getNetProfit() {
-		Long result = getTotalIncomes() - getTotalExpends();
-		return formattingMoney(result);
+		long[] totals = fetchTotals();
+		return formattingMoney(totals[0] - totals[1]);
 	}
 
 	private void getNetProfitTable() {
 		singleMoneyTable("NetProfit", new String[] { "Net Profit" }, new String[] { getNetProfit() });
 	}
 
+	/**
+	 * 총수입과 총지출을 동시에 조회합니다.
+	 * 두 집계는 서로 독립적이므로 각각 읽기 전용 트랜잭션으로 병렬 실행합니다.
+	 * 
+	 * @return {총수입, 총지출}
+	 */
+	private long[] fetchTotals() {
+		CompletableFuture<Long> incomes = transactionManager.executeInReadOnlyTransactionAsync(this::getTotalIncomes);
+		CompletableFuture<Long> expends = transactionManager.executeInReadOnlyTransactionAsync(this::getTotalExpends);
+		try {
+			return new long[] { TransactionManager.join(incomes), TransactionManager.join(expends) };
+		} catch (TransactionException e) {
+			throw new RuntimeException("데이터를 처리하는데 오류가 발생했습니다." + e.getMessage(), e);
+		}
+	}
+
 	/**
 	 * 총수입 계산
 	 * 
@@ -340,7 +364,10 @@ public final class FinanceManager {
 	private void generateReport() {
 		String title = "Asset Report";
 		String[] dataHeaders = { "Total Asset", "Total Income", "Total Expend", "NetProfit" };
-		String[] dataValues = { getCapital(), getTotalIncomesString(), getTotalExpendsString(), getNetProfit() };
+		// 총수입/총지출을 한 번만 (동시에) 조회하여 네 값을 모두 계산
+		long[] totals = fetchTotals();
+		String[] dataValues = { formattingMoney(capital + totals[0] - totals[1]), formattingMoney(totals[0]),
+				formattingMoney(totals[1]), formattingMoney(totals[0] - totals[1]) };
 		TableUtil.printSingleRowTable(title, dataHeaders, dataValues);
 	}
 
@@ -9,10 +9,12 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 
+import javax.sql.DataSource;
+
 import app.animal.Animal;
 import app.common.SimpleLogger;
 import app.common.ui.MenuUtil;
-import app.config.DatabaseConnection;
+import app.common.database.PooledDataSource;
 import app.repository.interfaces.AnimalRepository;
 import app.repository.jdbc.JdbcEnclosureRepository;
 
@@ -21,6 +23,11 @@ public class JdbcAnimalRepository implements AnimalRepository {
 	// 로거 인스턴스
 	private static final SimpleLogger logger = SimpleLogger.getLogger(JdbcEnclosureRepository.class);
 
+	// 연결 풀 기반 DataSource
+	private final DataSource dataSource = PooledDataSource.getInstance();
+	// 목록·검색·집계 조회용 DataSource (읽기 복제본 우선)
+	private final DataSource readDataSource = PooledDataSource.getReadOnlyInstance();
+
 	// ==================== Singleton 패턴 구현 ====================
 
 	private static class SingletonHolder {
@@ -65,7 +72,7 @@ public class JdbcAnimalRepository implements AnimalRepository {
 	@Override
 	public List<Animal> findAll() {
 		List<Animal> animals = new ArrayList<>();
-		try (Connection connection = DatabaseConnection.getConnection()) {
+		try (Connection connection = readDataSource.getConnection()) {
 			connection.setAutoCommit(false);
 			String sql = "SELECT * FROM animals";
 			try (PreparedStatement pstmt = connection.prepareStatement(sql)) {
@@ -119,7 +126,7 @@ public class JdbcAnimalRepository implements AnimalRepository {
 	public long count() {
 		String sql = "SELECT COUNT(*) FROM animals";
 
-		try (Connection connection = DatabaseConnection.getConnection();
+		try (Connection connection = readDataSource.getConnection();
 				PreparedStatement stmt = connection.prepareStatement(sql);
 				ResultSet rs = stmt.executeQuery()) {
 
@@ -142,7 +149,7 @@ public class JdbcAnimalRepository implements AnimalRepository {
 				VALUES (?, ?, ?, ?, ?, ?, ?)
 				""";
 
-		try (Connection connection = DatabaseConnection.getConnection()) {
+		try (Connection connection = dataSource.getConnection()) {
 			connection.setAutoCommit(false);
 
 			try (PreparedStatement pstmt = connection.prepareStatement(sql)) {
@@ -178,7 +185,7 @@ public class JdbcAnimalRepository implements AnimalRepository {
 		List<Animal> animals = new ArrayList<>();
 		String sql = "SELECT * FROM animals";
 		
-		try (Connection connection = DatabaseConnection.getConnection();
+		try (Connection connection = readDataSource.getConnection();
 			 PreparedStatement pstmt = connection.prepareStatement(sql);
 			 ResultSet rs = pstmt.executeQuery()) {
 			
@@ -210,7 +217,7 @@ public class JdbcAnimalRepository implements AnimalRepository {
 	public Animal getAnimalById(String id) {
 		String sql = "SELECT * FROM animals WHERE id = ?";
 
-		try (Connection connection = DatabaseConnection.getConnection();
+		try (Connection connection = dataSource.getConnection();
 				PreparedStatement stmt = connection.prepareStatement(sql)) {
 
 			stmt.setString(1, id);
@@ -243,7 +250,7 @@ public class JdbcAnimalRepository implements AnimalRepository {
 		List<Animal> animals = new ArrayList<>();
 		String sql = "SELECT * FROM animals WHERE LOWER(name) = LOWER(?)";
 
-		try (Connection connection = DatabaseConnection.getConnection();
+		try (Connection connection = readDataSource.getConnection();
 				PreparedStatement stmt = connection.prepareStatement(sql)) {
 
 			stmt.setString(1, name);
@@ -282,7 +289,7 @@ public class JdbcAnimalRepository implements AnimalRepository {
 		List<Animal> animals = new ArrayList<>();
 		String sql = "SELECT * FROM animals WHERE species = ?";
 
-		try (Connection connection = DatabaseConnection.getConnection();
+		try (Connection connection = readDataSource.getConnection();
 				PreparedStatement stmt = connection.prepareStatement(sql)) {
 
 			stmt.setString(1, species);
@@ -319,7 +326,7 @@ public class JdbcAnimalRepository implements AnimalRepository {
 			int age = Integer.parseInt(animalId);
 			String sql = "UPDATE animals SET age = ? WHERE id = ?";
 
-			try (Connection connection = DatabaseConnection.getConnection()) {
+			try (Connection connection = dataSource.getConnection()) {
 				connection.setAutoCommit(false);
 
 				try (PreparedStatement pstmt = connection.prepareStatement(sql)) {
@@ -347,7 +354,7 @@ public class JdbcAnimalRepository implements AnimalRepository {
 		} else {
 			String sql = "UPDATE animals SET health_status = ? WHERE id = ?";
 
-			try (Connection connection = DatabaseConnection.getConnection()) {
+			try (Connection connection = dataSource.getConnection()) {
 				connection.setAutoCommit(false);
 
 				try (PreparedStatement pstmt = connection.prepareStatement(sql)) {
@@ -379,7 +386,7 @@ public class JdbcAnimalRepository implements AnimalRepository {
 			return false;
 		}
 
-		try (Connection connection = DatabaseConnection.getConnection()) {
+		try (Connection connection = dataSource.getConnection()) {
 			connection.setAutoCommit(false);
 
 			try {
@@ -427,10 +434,32 @@ public class JdbcAnimalRepository implements AnimalRepository {
 		return Optional.empty();
 	}
 
+	/**
+	 * 배치 가능한 동물을 조건부 UPDATE 한 번으로 사육장에 배치합니다.
+	 * 아직 배치되지 않은 행만 갱신하므로 같은 동물을 동시에 배치하면 한쪽만 성공합니다.
+	 *
+	 * @param animalId    배치할 동물 ID
+	 * @param enclosureId 배치할 사육장 ID
+	 * @return 배치된 동물 객체 (없거나 이미 배치된 경우 null)
+	 */
 	@Override
 	public Animal removeAvailableAnimal(String animalId, String enclosureId) {
-		// TODO Auto-generated method stub
-		return null;
+		String sql = "UPDATE animals SET enclosure_id = ? WHERE id = ? AND (enclosure_id IS NULL OR enclosure_id = '')";
+
+		try (Connection connection = dataSource.getConnection();
+				PreparedStatement pstmt = connection.prepareStatement(sql)) {
+
+			pstmt.setString(1, enclosureId);
+			pstmt.setString(2, animalId);
+
+			if (pstmt.executeUpdate() != 1) {
+				return null;
+			}
+		} catch (SQLException e) {
+			throw new RuntimeException("동물 배치 중 오류 발생 (ID: " + animalId + "): " + e.getMessage(), e);
+		}
+
+		return getAnimalById(animalId);
 	}
 
 	@Override
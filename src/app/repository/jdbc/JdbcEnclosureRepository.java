@@ -1,7 +1,7 @@
 package app.repository.jdbc;
 
 import app.common.SimpleLogger;
-import app.config.DatabaseConnection;
+import app.common.database.PooledDataSource;
 import app.enclosure.Enclosure;
 import app.enclosure.EnvironmentType;
 import app.enclosure.LocationType;
@@ -16,6 +16,8 @@ import java.sql.*;
 import java.time.LocalDateTime;
 import java.util.*;
 
+import javax.sql.DataSource;
+
 /**
  * JDBC 기반 사육장 Repository 구현체입니다.
  * MemoryEnclosureRepository와 동일한 기능을 데이터베이스 기반으로 제공합니다.
@@ -38,7 +40,7 @@ import java.util.*;
  * </ul>
  * 
  * @see EnclosureRepository 인터페이스 정의
- * @see DatabaseConnection 데이터베이스 연결 관리
+ * @see PooledDataSource 연결 풀 기반 데이터베이스 연결 관리
  * @see SimpleLogger 로깅 시스템
  * @since 1.0
  */
@@ -47,6 +49,11 @@ public class JdbcEnclosureRepository implements EnclosureRepository {
     // 로거 인스턴스
     private static final SimpleLogger logger = SimpleLogger.getLogger(JdbcEnclosureRepository.class);
 
+    // 연결 풀 기반 DataSource
+    private final DataSource dataSource = PooledDataSource.getInstance();
+    // 목록·검색·집계 조회용 DataSource (읽기 복제본 우선)
+    private final DataSource readDataSource = PooledDataSource.getReadOnlyInstance();
+
     // ==================== Singleton 패턴 구현 ====================
     
     private static class SingletonHolder {
@@ -108,7 +115,7 @@ public class JdbcEnclosureRepository implements EnclosureRepository {
 
         logger.debug("사육장 저장 시작: ID=%s, 이름=%s", enclosure.getId(), enclosure.getName());
 
-        try (Connection connection = DatabaseConnection.getConnection()) {
+        try (Connection connection = dataSource.getConnection()) {
             connection.setAutoCommit(false);
             logger.debug("트랜잭션 시작: 사육장 저장");
 
@@ -155,7 +162,7 @@ public class JdbcEnclosureRepository implements EnclosureRepository {
             WHERE id = ?
             """;
 
-        try (Connection connection = DatabaseConnection.getConnection();
+        try (Connection connection = dataSource.getConnection();
              PreparedStatement stmt = connection.prepareStatement(sql)) {
 
             stmt.setString(1, id);
@@ -195,7 +202,7 @@ public class JdbcEnclosureRepository implements EnclosureRepository {
             ORDER BY created_at DESC
             """;
 
-        try (Connection connection = DatabaseConnection.getConnection();
+        try (Connection connection = readDataSource.getConnection();
              PreparedStatement stmt = connection.prepareStatement(sql);
              ResultSet rs = stmt.executeQuery()) {
 
@@ -234,7 +241,7 @@ public class JdbcEnclosureRepository implements EnclosureRepository {
             throw new IllegalArgumentException("업데이트할 인클로저가 존재하지 않습니다: " + enclosure.getId());
         }
 
-        try (Connection connection = DatabaseConnection.getConnection()) {
+        try (Connection connection = dataSource.getConnection()) {
             connection.setAutoCommit(false);
 
             try {
@@ -273,7 +280,7 @@ public class JdbcEnclosureRepository implements EnclosureRepository {
             return false;
         }
 
-        try (Connection connection = DatabaseConnection.getConnection()) {
+        try (Connection connection = dataSource.getConnection()) {
             connection.setAutoCommit(false);
 
             try {
@@ -317,7 +324,7 @@ public class JdbcEnclosureRepository implements EnclosureRepository {
 
         String sql = "SELECT 1 FROM enclosures WHERE id = ?";
         
-        try (Connection connection = DatabaseConnection.getConnection();
+        try (Connection connection = dataSource.getConnection();
              PreparedStatement stmt = connection.prepareStatement(sql)) {
             
             stmt.setString(1, id);
@@ -336,7 +343,7 @@ public class JdbcEnclosureRepository implements EnclosureRepository {
      */
     @Override
     public void deleteAll() {
-        try (Connection connection = DatabaseConnection.getConnection()) {
+        try (Connection connection = dataSource.getConnection()) {
             connection.setAutoCommit(false);
 
             try {
@@ -373,7 +380,7 @@ public class JdbcEnclosureRepository implements EnclosureRepository {
     public long count() {
         String sql = "SELECT COUNT(*) FROM enclosures";
 
-        try (Connection connection = DatabaseConnection.getConnection();
+        try (Connection connection = readDataSource.getConnection();
              PreparedStatement stmt = connection.prepareStatement(sql);
              ResultSet rs = stmt.executeQuery()) {
 
@@ -409,7 +416,7 @@ public class JdbcEnclosureRepository implements EnclosureRepository {
             ORDER BY name
             """;
 
-        try (Connection connection = DatabaseConnection.getConnection();
+        try (Connection connection = readDataSource.getConnection();
              PreparedStatement stmt = connection.prepareStatement(sql)) {
 
             stmt.setString(1, environmentType.name());
@@ -451,7 +458,7 @@ public class JdbcEnclosureRepository implements EnclosureRepository {
             ORDER BY name
             """;
 
-        try (Connection connection = DatabaseConnection.getConnection();
+        try (Connection connection = readDataSource.getConnection();
              PreparedStatement stmt = connection.prepareStatement(sql)) {
 
             stmt.setString(1, locationType.name());
@@ -506,7 +513,7 @@ public class JdbcEnclosureRepository implements EnclosureRepository {
             ORDER BY name
             """;
 
-        try (Connection connection = DatabaseConnection.getConnection();
+        try (Connection connection = readDataSource.getConnection();
              PreparedStatement stmt = connection.prepareStatement(sql)) {
 
             stmt.setString(1, environmentType.name());
@@ -734,7 +741,7 @@ public class JdbcEnclosureRepository implements EnclosureRepository {
             WHERE a.enclosure_id = ?
             """;
         
-        try (Connection conn = DatabaseConnection.getConnection();
+        try (Connection conn = readDataSource.getConnection();
              PreparedStatement pstmt = conn.prepareStatement(sql)) {
             
             pstmt.setString(1, enclosureId);
@@ -770,7 +777,7 @@ public class JdbcEnclosureRepository implements EnclosureRepository {
             WHERE ec.enclosure_id = ?
             """;
         
-        try (Connection conn = DatabaseConnection.getConnection();
+        try (Connection conn = readDataSource.getConnection();
              PreparedStatement pstmt = conn.prepareStatement(sql)) {
             
             pstmt.setString(1, enclosureId);
@@ -819,7 +826,7 @@ public class JdbcEnclosureRepository implements EnclosureRepository {
     public boolean addAnimalToEnclosure(String enclosureId, String animalId, Animal animal) {
         String sql = "UPDATE animals SET enclosure_id = ? WHERE id = ?";
         
-        try (Connection conn = DatabaseConnection.getConnection();
+        try (Connection conn = dataSource.getConnection();
              PreparedStatement pstmt = conn.prepareStatement(sql)) {
             
             pstmt.setString(1, enclosureId);
@@ -831,8 +838,7 @@ public class JdbcEnclosureRepository implements EnclosureRepository {
             return rowsAffected > 0;
             
         } catch (SQLException e) {
-            logger.error("사육장에 동물 추가 중 오류가 발생했습니다", e);
-            return false;
+            throw new RuntimeException("사육장에 동물 추가 중 오류 발생: " + e.getMessage(), e);
         }
     }
     
@@ -841,7 +847,7 @@ public class JdbcEnclosureRepository implements EnclosureRepository {
         String checkSql = "SELECT 1 FROM enclosure_caretakers WHERE enclosure_id = ? AND keeper_id = ?";
         String insertSql = "INSERT INTO enclosure_caretakers (enclosure_id, keeper_id, assigned_at) VALUES (?, ?, ?)";
         
-        try (Connection conn = DatabaseConnection.getConnection();
+        try (Connection conn = dataSource.getConnection();
              PreparedStatement checkStmt = conn.prepareStatement(checkSql);
              PreparedStatement insertStmt = conn.prepareStatement(insertSql)) {
             
@@ -10,13 +10,20 @@ import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.List;
 
-import app.config.DatabaseConnection;
+import javax.sql.DataSource;
+
+import app.common.database.PooledDataSource;
 import app.incomeExpend.EventType;
 import app.incomeExpend.IncomeExpend;
 import app.incomeExpend.IncomeExpendType;
 
 public class JdbcIncomeExpendRepository {
 
+	// 연결 풀 기반 DataSource
+	private final DataSource dataSource = PooledDataSource.getInstance();
+	// 목록·검색·집계 조회용 DataSource (읽기 복제본 우선)
+	private final DataSource readDataSource = PooledDataSource.getReadOnlyInstance();
+
 	private JdbcIncomeExpendRepository() {
 
 	}
@@ -41,7 +48,7 @@ public class JdbcIncomeExpendRepository {
 				(id, amount, description, date, type, event_type)
 				VALUES (?,?,?,?,?,?)
 				""";
-		try (Connection conn = DatabaseConnection.getConnection();
+		try (Connection conn = dataSource.getConnection();
 				PreparedStatement pstmt = conn.prepareStatement(sql)) {
 			pstmt.setString(1, newIE.getId());
 			pstmt.setLong(2, newIE.getMoney());
@@ -70,7 +77,7 @@ public class JdbcIncomeExpendRepository {
 				(id, amount, description, date, type, event_type,reservation_id)
 				VALUES (?,?,?,?,?,?,?)
 				""";
-		try (Connection conn = DatabaseConnection.getConnection();
+		try (Connection conn = dataSource.getConnection();
 				PreparedStatement pstmt = conn.prepareStatement(sql)) {
 			pstmt.setString(1, newIE.getId());
 			pstmt.setLong(2, newIE.getMoney());
@@ -109,7 +116,7 @@ public class JdbcIncomeExpendRepository {
 				""";
 		Connection conn = null;
 		try {
-			conn = DatabaseConnection.getConnection();
+			conn = dataSource.getConnection();
 			conn.setAutoCommit(false);
 			try (PreparedStatement ie_pstmt = conn.prepareStatement(salarySql);
 					PreparedStatement zooKeeper_pstmt = conn.prepareStatement(zooKeeperSql)) {
@@ -131,8 +138,15 @@ public class JdbcIncomeExpendRepository {
 			conn.commit();
 			return newIE;
 		} catch (SQLException e) {
-			conn.rollback();
+			if (conn != null) {
+				conn.rollback();
+			}
 			throw e;
+		} finally {
+			// 풀에서 대여한 연결은 반드시 반환
+			if (conn != null) {
+				conn.close();
+			}
 		}
 	}
 
@@ -149,7 +163,7 @@ public class JdbcIncomeExpendRepository {
 				FROM income_expends
 				WHERE type = 'INCOME'
 				""";
-		try (Connection conn = DatabaseConnection.getConnection();
+		try (Connection conn = readDataSource.getConnection();
 				Statement stmt = conn.createStatement();
 				ResultSet resultset = stmt.executeQuery(sql)) {
 			while (resultset.next()) {
@@ -177,7 +191,7 @@ public class JdbcIncomeExpendRepository {
 				FROM income_expends
 				WHERE type = 'EXPENSE'
 				""";
-		try (Connection conn = DatabaseConnection.getConnection();
+		try (Connection conn = readDataSource.getConnection();
 				Statement stmt = conn.createStatement();
 				ResultSet resultset = stmt.executeQuery(sql)) {
 			while (resultset.next()) {
@@ -204,7 +218,7 @@ public class JdbcIncomeExpendRepository {
 				FROM income_expends
 				WHERE type = 'INCOME'
 				""";
-		try (Connection conn = DatabaseConnection.getConnection();
+		try (Connection conn = readDataSource.getConnection();
 				Statement stmt = conn.createStatement();
 				ResultSet rs = stmt.executeQuery(sql)) {
 
@@ -230,7 +244,7 @@ public class JdbcIncomeExpendRepository {
 				FROM income_expends
 				WHERE type = 'EXPENSE'
 				""";
-		try (Connection conn = DatabaseConnection.getConnection();
+		try (Connection conn = readDataSource.getConnection();
 				Statement stmt = conn.createStatement();
 				ResultSet rs = stmt.executeQuery(sql)) {
 
@@ -6,9 +6,11 @@ import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
 
+import javax.sql.DataSource;
+
 import app.visitor.Reservation;
 import app.repository.interfaces.VisitorRepository;
-import app.config.DatabaseConnection;
+import app.common.database.PooledDataSource;
 import app.common.SimpleLogger;
 
 /**
@@ -39,6 +41,11 @@ public class JdbcVisitorRepository implements VisitorRepository {
     // 로거 인스턴스
     private static final SimpleLogger logger = SimpleLogger.getLogger(JdbcVisitorRepository.class);
     
+    // 연결 풀 기반 DataSource
+    private final DataSource dataSource = PooledDataSource.getInstance();
+    // 목록·검색·집계 조회용 DataSource (읽기 복제본 우선)
+    private final DataSource readDataSource = PooledDataSource.getReadOnlyInstance();
+    
     /**
      * private 생성자 - Singleton 패턴 적용
      */
@@ -89,7 +96,7 @@ public class JdbcVisitorRepository implements VisitorRepository {
             VALUES (?, ?, ?, ?, ?, ?, ?)
             """;
         
-        try (Connection conn = DatabaseConnection.getConnection();
+        try (Connection conn = dataSource.getConnection();
              PreparedStatement pstmt = conn.prepareStatement(sql)) {
             
             pstmt.setString(1, reservation.getId());
@@ -132,7 +139,7 @@ public class JdbcVisitorRepository implements VisitorRepository {
             WHERE id = ?
             """;
         
-        try (Connection conn = DatabaseConnection.getConnection();
+        try (Connection conn = dataSource.getConnection();
              PreparedStatement pstmt = conn.prepareStatement(sql)) {
             
             pstmt.setString(1, id);
@@ -168,7 +175,7 @@ public class JdbcVisitorRepository implements VisitorRepository {
             ORDER BY created_at DESC
             """;
         
-        try (Connection conn = DatabaseConnection.getConnection();
+        try (Connection conn = readDataSource.getConnection();
              PreparedStatement pstmt = conn.prepareStatement(sql);
              ResultSet rs = pstmt.executeQuery()) {
             
@@ -210,7 +217,7 @@ public class JdbcVisitorRepository implements VisitorRepository {
             WHERE id = ?
             """;
         
-        try (Connection conn = DatabaseConnection.getConnection();
+        try (Connection conn = dataSource.getConnection();
              PreparedStatement pstmt = conn.prepareStatement(sql)) {
             
             pstmt.setString(1, reservation.getName());
@@ -249,7 +256,7 @@ public class JdbcVisitorRepository implements VisitorRepository {
         
         String sql = "DELETE FROM reservations WHERE id = ?";
         
-        try (Connection conn = DatabaseConnection.getConnection();
+        try (Connection conn = dataSource.getConnection();
              PreparedStatement pstmt = conn.prepareStatement(sql)) {
             
             pstmt.setString(1, id);
@@ -283,7 +290,7 @@ public class JdbcVisitorRepository implements VisitorRepository {
         
         String sql = "SELECT 1 FROM reservations WHERE id = ? LIMIT 1";
         
-        try (Connection conn = DatabaseConnection.getConnection();
+        try (Connection conn = dataSource.getConnection();
              PreparedStatement pstmt = conn.prepareStatement(sql)) {
             
             pstmt.setString(1, id);
@@ -306,7 +313,7 @@ public class JdbcVisitorRepository implements VisitorRepository {
     public void deleteAll() {
         String sql = "DELETE FROM reservations";
         
-        try (Connection conn = DatabaseConnection.getConnection();
+        try (Connection conn = dataSource.getConnection();
              PreparedStatement pstmt = conn.prepareStatement(sql)) {
             
             int deletedCount = pstmt.executeUpdate();
@@ -327,7 +334,7 @@ public class JdbcVisitorRepository implements VisitorRepository {
     public long count() {
         String sql = "SELECT COUNT(*) FROM reservations";
         
-        try (Connection conn = DatabaseConnection.getConnection();
+        try (Connection conn = readDataSource.getConnection();
              PreparedStatement pstmt = conn.prepareStatement(sql);
              ResultSet rs = pstmt.executeQuery()) {
             
@@ -415,7 +422,7 @@ public class JdbcVisitorRepository implements VisitorRepository {
             WHERE id = ?
             """;
         
-        try (Connection conn = DatabaseConnection.getConnection();
+        try (Connection conn = dataSource.getConnection();
              PreparedStatement pstmt = conn.prepareStatement(sql)) {
             
             pstmt.setDate(1, Date.valueOf(newDate));
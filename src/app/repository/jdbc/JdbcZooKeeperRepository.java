@@ -9,7 +9,9 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 
-import app.config.DatabaseConnection;
+import javax.sql.DataSource;
+
+import app.common.database.PooledDataSource;
 import app.zooKeeper.ZooKeeper;
 import app.zooKeeper.zooKeeperEnum.Department;
 import app.zooKeeper.zooKeeperEnum.Gender;
@@ -20,6 +22,11 @@ public class JdbcZooKeeperRepository {
 
 	private Statement statement;
 
+	// 연결 풀 기반 DataSource
+	private final DataSource dataSource = PooledDataSource.getInstance();
+	// 목록·검색·집계 조회용 DataSource (읽기 복제본 우선)
+	private final DataSource readDataSource = PooledDataSource.getReadOnlyInstance();
+
 	private JdbcZooKeeperRepository() {
 	}
 
@@ -52,7 +59,7 @@ public class JdbcZooKeeperRepository {
 				(id, name, age, gender, department, rank_level, is_working, experience_year, can_handle_danger_animal, licenses)
 				VALUES (?,?,?,?,?,?,?,?,?,?)
 				""";
-		try (Connection connection = DatabaseConnection.getConnection();
+		try (Connection connection = dataSource.getConnection();
 				PreparedStatement pstmt = connection.prepareStatement(sql);) {
 			pstmt.setString(1, zk.getId()); // id
 			pstmt.setString(2, zk.getName()); // name
@@ -83,7 +90,7 @@ public class JdbcZooKeeperRepository {
 				SELECT *
 				FROM zoo_keepers
 				""";
-		try (Connection connection = DatabaseConnection.getConnection();
+		try (Connection connection = readDataSource.getConnection();
 				Statement statement = connection.createStatement();
 				ResultSet resultset = statement.executeQuery(sql);) {
 			while (resultset.next()) {
@@ -117,7 +124,7 @@ public class JdbcZooKeeperRepository {
 				FROM zoo_keepers
 				WHERE id = ?
 				""";
-		try (Connection connection = DatabaseConnection.getConnection();
+		try (Connection connection = dataSource.getConnection();
 				PreparedStatement pstmt = connection.prepareStatement(sql);) {
 			pstmt.setString(1, id);
 			try (ResultSet resultset = pstmt.executeQuery();) {
@@ -153,7 +160,7 @@ public class JdbcZooKeeperRepository {
 				FROM zoo_keepers
 				WHERE name = ?
 				""";
-		try (Connection connection = DatabaseConnection.getConnection();
+		try (Connection connection = readDataSource.getConnection();
 				PreparedStatement pstmt = connection.prepareStatement(sql)) {
 			pstmt.setString(1, name);
 			try (ResultSet resultset = pstmt.executeQuery()) {
@@ -187,7 +194,7 @@ public class JdbcZooKeeperRepository {
 				FROM zoo_keepers
 				WHERE department = ?
 				""";
-		try (Connection connection = DatabaseConnection.getConnection();
+		try (Connection connection = readDataSource.getConnection();
 				PreparedStatement pstmt = connection.prepareStatement(sql)) {
 			Department d_enum = ZooKeeperConverter.departmentConverter(index);
 			pstmt.setString(1, d_enum.name());
@@ -221,7 +228,7 @@ public class JdbcZooKeeperRepository {
 				FROM zoo_keepers
 				WHERE is_working = 1
 				""";
-		try (Connection connection = DatabaseConnection.getConnection();
+		try (Connection connection = readDataSource.getConnection();
 				Statement statement = connection.createStatement();
 				ResultSet resultset = statement.executeQuery(sql);) {
 			while (resultset.next()) {
@@ -253,7 +260,7 @@ public class JdbcZooKeeperRepository {
 				FROM zoo_keepers
 				WHERE is_working = 1
 				""";
-		try (Connection connection = DatabaseConnection.getConnection();
+		try (Connection connection = dataSource.getConnection();
 				Statement statement = connection.createStatement();
 				ResultSet resultset = statement.executeQuery(sql);) {
 			if (resultset.next()) {
@@ -282,7 +289,7 @@ public class JdbcZooKeeperRepository {
 				SET is_working = ?
 				WHERE id = ?
 				""";
-		try (Connection connection = DatabaseConnection.getConnection();
+		try (Connection connection = dataSource.getConnection();
 				PreparedStatement pstmt = connection.prepareStatement(sql);) {
 			pstmt.setInt(1, index == 1 ? 1 : 0);
 			pstmt.setString(2, targetId);
@@ -308,7 +315,7 @@ public class JdbcZooKeeperRepository {
 				SET can_handle_danger_animal = ?
 				WHERE id = ?
 				""";
-		try (Connection connection = DatabaseConnection.getConnection();
+		try (Connection connection = dataSource.getConnection();
 				PreparedStatement pstmt = connection.prepareStatement(sql)) {
 			pstmt.setInt(1, index == 1 ? 1 : 0);
 			pstmt.setString(2, targetId);
@@ -332,7 +339,7 @@ public class JdbcZooKeeperRepository {
 				DELETE FROM zoo_keepers
 				WHERE id = ?
 				""";
-		try (Connection connection = DatabaseConnection.getConnection();
+		try (Connection connection = dataSource.getConnection();
 				PreparedStatement pstmt = connection.prepareStatement(sql)) {
 			pstmt.setString(1, targetId);
 			int rows = pstmt.executeUpdate();
@@ -1,6 +1,6 @@
 package app.visitor;
 
-import app.common.IdGeneratorUtil;
+import app.common.DatabaseIdGenerator;
 import app.common.InputUtil;
 import app.common.ui.MenuUtil;
 import app.common.ui.TableUtil;
@@ -89,7 +89,7 @@ public class VisitorManager {
 	}
 
 	public void reservation() {
-		id = IdGeneratorUtil.generateId();
+		id = DatabaseIdGenerator.generateId(DatabaseIdGenerator.IdType.VISITOR);
 		name = MenuUtil.Question.askTextInput("성함을 입력하세요.");
 		phone = MenuUtil.Question.askPhoneNumber("연락처를 입력하세요. (000-0000-0000) : ");
 		date = MenuUtil.Question.askDate("방문일시를 입력하세요. (YYYY-MM-DD)");
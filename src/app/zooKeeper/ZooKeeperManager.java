@@ -196,7 +196,7 @@ public final class ZooKeeperManager {
 			// id 생성
 			// InMemory
 			// String id = IdGeneratorUtil.generateId();
-			String id = DatabaseIdGenerator.generateId();
+			String id = DatabaseIdGenerator.generateId(DatabaseIdGenerator.IdType.ZOOKEEPER);
 			ZooKeeper zk = new ZooKeeper(id, name, age, ZooKeeperConverter.genderConverter(genderIndex),
 					ZooKeeperConverter.rankConverter(rankIndex),
 					ZooKeeperConverter.departmentConverter(departmentIndex),
@@ -5,4 +5,7 @@
 module manazoo {
     // JDBC API 사용을 위한 java.sql 모듈 추가
     requires java.sql;
+    
+    // Connection Pool 등 모니터링 지표를 JMX로 노출하기 위한 모듈
+    requires java.management;
 }
\ No newline at end of file